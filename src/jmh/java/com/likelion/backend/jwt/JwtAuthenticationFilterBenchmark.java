@@ -0,0 +1,74 @@
+package com.likelion.backend.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Base64;
+
+// 요청 1건당 JWT 필터 비용
+// - cachedToken: 최근 검증한 토큰 재사용 (LRU 적중)
+// - uncachedToken: 매번 서명 검증 (LRU 비활성화)
+// - publicRoute: 인증 불필요 경로 (필터 생략)
+// - legacyParseTwice: 변경 전 방식 - 요청마다 키/파서를 새로 만들고 토큰을 두 번 파싱
+@State(Scope.Thread)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-benchmark-secret-benchmark-secret-benchmark";
+
+    private JwtAuthenticationFilter cachedFilter;
+    private JwtAuthenticationFilter uncachedFilter;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtTokenProvider cached = new JwtTokenProvider(SECRET, 10_000);
+        cachedFilter = new JwtAuthenticationFilter(cached, new SimpleMeterRegistry());
+        uncachedFilter = new JwtAuthenticationFilter(new JwtTokenProvider(SECRET, 0), new SimpleMeterRegistry());
+        token = cached.generateAccessToken("lion");
+    }
+
+    @Benchmark
+    public MockHttpServletRequest cachedToken() throws Exception {
+        return filter(cachedFilter, "POST", "/team");
+    }
+
+    @Benchmark
+    public MockHttpServletRequest uncachedToken() throws Exception {
+        return filter(uncachedFilter, "POST", "/team");
+    }
+
+    @Benchmark
+    public MockHttpServletRequest publicRoute() throws Exception {
+        return filter(cachedFilter, "GET", "/team");
+    }
+
+    @Benchmark
+    public Object legacyParseTwice() {
+        parseWithNewParser(token);
+        return parseWithNewParser(token).get("username");
+    }
+
+    private MockHttpServletRequest filter(JwtAuthenticationFilter filter, String method, String uri) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        SecurityContextHolder.clearContext();
+        return request;
+    }
+
+    private static Claims parseWithNewParser(String token) {
+        String encodedKey = Base64.getEncoder().encodeToString(SECRET.getBytes());
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(encodedKey.getBytes()))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+}
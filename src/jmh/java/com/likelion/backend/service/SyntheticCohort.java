@@ -0,0 +1,77 @@
+package com.likelion.backend.service;
+
+import com.likelion.backend.domain.Member;
+import com.likelion.backend.domain.Question;
+import com.likelion.backend.domain.QuestionResult;
+import com.likelion.backend.enums.QuestionType;
+import com.likelion.backend.enums.Role;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// 벤치마크용 합성 코호트 - 실제 설문과 같은 질문 구성으로 멤버/응답 엔티티를 메모리에 생성
+final class SyntheticCohort {
+
+    private static final String[] GENDERS = {"남자", "여자"};
+    private static final String[] MBTIS = {"ENFP", "ESTJ", "INFP", "ISTJ", "ENTP", "INTJ"};
+
+    final List<Question> questions;
+    final List<Member> members;
+    final List<QuestionResult> results;
+
+    private SyntheticCohort(List<Question> questions, List<Member> members, List<QuestionResult> results) {
+        this.questions = questions;
+        this.members = members;
+        this.results = results;
+    }
+
+    static SyntheticCohort generate(int memberCount, long seed) {
+        Random random = new Random(seed);
+        Question leader = question(1, "처음 만난 사람과 대화를 이끄는 편인가요?", QuestionType.METRIC);
+        Question drink = question(2, "회식 자리를 얼마나 좋아하나요?", QuestionType.METRIC);
+        Question mbti = question(3, "MBTI를 알려주세요", QuestionType.STRING);
+        Question hobby = question(4, "취미&관심사", QuestionType.STRING);
+        Question home = question(5, "집순이 vs 밖순이", QuestionType.CHOICES);
+
+        List<Member> members = new ArrayList<>(memberCount);
+        List<QuestionResult> results = new ArrayList<>(memberCount * 5);
+        long resultId = 1;
+        for (int i = 0; i < memberCount; i++) {
+            Member member = Member.builder()
+                    .name("member" + i)
+                    .password("{noop}")
+                    .role(Role.BABY)
+                    .gender(GENDERS[random.nextInt(GENDERS.length)])
+                    .build();
+            InMemoryRepositories.setId(member, i + 1);
+            members.add(member);
+
+            results.add(result(resultId++, member, leader, String.valueOf(1 + random.nextInt(10))));
+            results.add(result(resultId++, member, drink, String.valueOf(1 + random.nextInt(10))));
+            results.add(result(resultId++, member, mbti, MBTIS[random.nextInt(MBTIS.length)]));
+            results.add(result(resultId++, member, hobby, "운동"));
+            results.add(result(resultId++, member, home, random.nextBoolean() ? "집순이" : "밖순이"));
+        }
+        return new SyntheticCohort(List.of(leader, drink, mbti, hobby, home), members, results);
+    }
+
+    private static Question question(long id, String content, QuestionType type) {
+        Question question = Question.builder()
+                .content(content)
+                .type(type)
+                .choices(List.of())
+                .build();
+        InMemoryRepositories.setId(question, id);
+        return question;
+    }
+
+    private static QuestionResult result(long id, Member member, Question question, String answer) {
+        return QuestionResult.builder()
+                .id(id)
+                .member(member)
+                .question(question)
+                .answer(answer)
+                .build();
+    }
+}
@@ -0,0 +1,91 @@
+package com.likelion.backend.service;
+
+import com.likelion.backend.domain.Member;
+import com.likelion.backend.dto.response.TeamOutputDto;
+import com.likelion.backend.enums.Role;
+import com.likelion.backend.repository.MemberRepository;
+import com.likelion.backend.repository.QuestionRepository;
+import com.likelion.backend.repository.QuestionResultRepository;
+import com.likelion.backend.repository.TeamRepository;
+import com.likelion.backend.service.teambuilding.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// TeamBuildingService.buildBalancedTeams 전체 경로(스냅샷 생성 + greedy + DTO 변환)와 구성 요소별 처리량 측정
+// 리포지토리는 메모리 대역으로 대체하므로 DB 비용은 포함되지 않음
+@State(Scope.Benchmark)
+public class TeamBuildingBenchmark {
+
+    // "멤버 수x팀 수"
+    @Param({"100x4", "100x25", "1000x4", "1000x100", "10000x50", "10000x500", "100000x100", "100000x500"})
+    public String cohort;
+
+    private int memberCount;
+    private int teamCount;
+    private SyntheticCohort data;
+    private QuestionCatalog questionCatalog;
+    private TeamBuildingService service;
+    private MemberFeatureSnapshot snapshot;
+    private TeamAssignment greedyAssignment;
+    private LocalSearchTeamAssignmentStrategy localSearch;
+    private ParallelTasks parallelTasks;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String[] shape = cohort.split("x");
+        memberCount = Integer.parseInt(shape[0]);
+        teamCount = Integer.parseInt(shape[1]);
+        data = SyntheticCohort.generate(memberCount, 42);
+
+        MemberRepository memberRepository = InMemoryRepositories.stub(MemberRepository.class, Map.of(
+                "findByRole", args -> args[0] == Role.BABY ? new ArrayList<>(data.members) : List.<Member>of()));
+        QuestionResultRepository questionResultRepository = InMemoryRepositories.stub(QuestionResultRepository.class, Map.of(
+                "findAllByMemberRoleFetchQuestion", args -> data.results));
+        TeamRepository teamRepository = InMemoryRepositories.stub(TeamRepository.class, Map.of());
+
+        GreedyTeamAssignmentStrategy greedy = new GreedyTeamAssignmentStrategy();
+        localSearch = new LocalSearchTeamAssignmentStrategy(greedy);
+        parallelTasks = new ParallelTasks(0);
+        MultiStartTeamAssignmentStrategy multiStart = new MultiStartTeamAssignmentStrategy(greedy, localSearch, parallelTasks);
+        questionCatalog = new QuestionCatalog(InMemoryRepositories.stub(QuestionRepository.class, Map.of(
+                "findAll", args -> data.questions)));
+        MemberFeatureSnapshotLoader loader =
+                new MemberFeatureSnapshotLoader(memberRepository, questionResultRepository, questionCatalog);
+
+        // 저장 경로(JDBC 리포지토리, 트랜잭션)는 측정하지 않음
+        service = new TeamBuildingService(memberRepository, questionResultRepository, questionCatalog, teamRepository, null,
+                loader, greedy, List.of(greedy, localSearch, multiStart), null, null, null, null, null, null, null);
+
+        snapshot = loader.load(memberCount);
+        greedyAssignment = greedy.build(snapshot, memberCount, teamCount);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        parallelTasks.shutdown();
+    }
+
+    @Benchmark
+    public List<TeamOutputDto> buildBalancedTeams() {
+        return service.buildBalancedTeams(memberCount, teamCount);
+    }
+
+    @Benchmark
+    public MemberFeatureSnapshot snapshot() {
+        return MemberFeatureSnapshot.from(data.members, data.results, questionCatalog);
+    }
+
+    // greedy 결과에서 출발하는 로컬 서치 10만 회 (반복 횟수 고정)
+    @Benchmark
+    public AssignmentResult localSearch100k() {
+        return localSearch.improve(snapshot, greedyAssignment, TeamBuildingOptions.builder()
+                .totalMembers(memberCount)
+                .teamCount(teamCount)
+                .maxIterations(100_000)
+                .seed(1)
+                .build());
+    }
+}
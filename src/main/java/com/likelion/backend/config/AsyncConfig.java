@@ -0,0 +1,20 @@
+package com.likelion.backend.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    // @Async 작업과 스트리밍 응답은 Boot의 applicationTaskExecutor에서 실행됨
+    // (virtual 프로필에서는 가상 스레드, 기본은 플랫폼 스레드 풀)
+    // SecurityContextHolder는 스레드 로컬이므로 제출한 스레드의 인증 정보를 작업 스레드에 넘기고, 끝나면 원래대로 되돌림
+    @Bean
+    public TaskDecorator securityContextTaskDecorator() {
+        return task -> DelegatingSecurityContextRunnable.create(task, null);
+    }
+}
@@ -0,0 +1,72 @@
+package com.likelion.backend.config;
+
+import com.likelion.backend.domain.Member;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// 이름 유니크 제약(uk_member_name)을 추가하기 전에 이미 있는 중복 이름을 정리
+// ddl-auto: update는 중복 행이 있으면 제약을 만들지 못하므로, EntityManagerFactory(스키마 갱신)보다 먼저 실행한다.
+// 이름마다 가장 먼저 가입한 멤버(id가 가장 작은)는 그대로 두고, 나머지는 "이름#id"로 바꾼다 (응답/팀 정보는 그대로 유지).
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberNameMigration implements InitializingBean {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        deduplicateNames();
+    }
+
+    // 바꾼 멤버 수를 반환
+    public int deduplicateNames() {
+        List<Object[]> duplicates;
+        try {
+            duplicates = jdbcTemplate.query("""
+                    SELECT id, name FROM member
+                    WHERE name IN (SELECT name FROM member GROUP BY name HAVING COUNT(*) > 1)
+                    ORDER BY name, id""",
+                    (rs, rowNum) -> new Object[]{rs.getLong(1), rs.getString(2)});
+        } catch (BadSqlGrammarException e) {
+            // 아직 member 테이블이 없는 새 DB
+            return 0;
+        }
+
+        Set<String> kept = new HashSet<>();
+        List<Object[]> renames = new ArrayList<>();
+        for (Object[] row : duplicates) {
+            long id = (Long) row[0];
+            String name = (String) row[1];
+            if (kept.add(name)) continue;
+            renames.add(new Object[]{name + "#" + id, id});
+        }
+        if (renames.isEmpty()) {
+            return 0;
+        }
+
+        jdbcTemplate.batchUpdate("UPDATE member SET name = ? WHERE id = ?", renames);
+        log.warn("{} 제약 추가 전 중복 이름 {}건을 '이름#id'로 변경했습니다. (id: {})", Member.NAME_CONSTRAINT, renames.size(),
+                renames.stream().map(rename -> rename[1]).toList());
+        return renames.size();
+    }
+
+    // EntityManagerFactory가 이 빈을 먼저 만들도록 (Flyway/Liquibase와 같은 방식)
+    @Component
+    static class EntityManagerFactoryDependsOnMemberNameMigration extends EntityManagerFactoryDependsOnPostProcessor {
+
+        EntityManagerFactoryDependsOnMemberNameMigration() {
+            super(MemberNameMigration.class);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.likelion.backend.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+// 인증 없이 허용하는 경로 - SecurityConfig의 permitAll과 JWT 필터 생략 대상이 같은 목록을 쓰도록 한 곳에 모음
+public final class PublicEndpoints {
+
+    private static final PathPatternRequestMatcher.Builder PATHS = PathPatternRequestMatcher.withDefaults();
+
+    public static final RequestMatcher[] MATCHERS = {
+            PATHS.matcher(HttpMethod.GET, "/team"),
+            PATHS.matcher(HttpMethod.GET, "/team/status"),
+            PATHS.matcher("/join"),
+            PATHS.matcher("/login"),
+            PATHS.matcher("/my/{id}"),
+            PATHS.matcher("/question"),
+            PATHS.matcher("/images/**"),
+            PATHS.matcher("/member/**")
+    };
+
+    private static final RequestMatcher ANY = new OrRequestMatcher(MATCHERS);
+
+    private PublicEndpoints() {
+    }
+
+    public static boolean matches(HttpServletRequest request) {
+        return ANY.matches(request);
+    }
+}
@@ -1,6 +1,7 @@
 package com.likelion.backend.config;
 
 import com.likelion.backend.jwt.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -35,10 +36,11 @@ public class SecurityConfig {
                 .httpBasic(AbstractHttpConfigurer::disable) // http basic auth 기반 로그인 인증창 뜨지 않게
                 .formLogin(AbstractHttpConfigurer::disable) // 기본 로그인 페이지 뜨지 않게.
                 .authorizeHttpRequests((auth) -> auth
-                        .requestMatchers(HttpMethod.GET, "/team").permitAll()
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll() // 스트리밍 응답의 async 디스패치, 503 등 오류 응답의 /error 디스패치 (원 요청에서 이미 인가됨)
+                        .requestMatchers(PublicEndpoints.MATCHERS).permitAll() // GET /team, GET /team/status, /join, /login, /my/{id}, /question, /images/**, /member/** 모두 허용
                         .requestMatchers(HttpMethod.POST, "/team").authenticated()
+                        .requestMatchers(HttpMethod.POST, "/team/preview").authenticated()
                         .requestMatchers(HttpMethod.DELETE, "/team").authenticated()
-                        .requestMatchers("/join","/login","/my/{id}", "/question", "/images/**", "/member/**").permitAll() // 모두 허용
                         .requestMatchers("/**").authenticated()); // 관리자 페이지는 인증 필요
         http.addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class);
 
@@ -57,6 +59,7 @@ public class SecurityConfig {
             configuration.setAllowedMethods(Collections.singletonList("*")); // 모든 메서드 허용
             configuration.setAllowedOrigins(Arrays.asList("http://localhost:3000","https://whatlion.netlify.app")); // 프론트에서 오는 요청 허용
             configuration.setAllowedHeaders(Collections.singletonList("*")); // 모든 헤더 허용
+            configuration.setExposedHeaders(Arrays.asList("X-Team-Strategy", "X-Team-Objective-Before", "X-Team-Objective-After", "Location", "ETag", "X-SQL-Count")); // 팀빌딩 결과 헤더 노출
             configuration.setAllowCredentials(true);
             configuration.setMaxAge(3600L); // 1시간(3600초) 동안 오는 요청이 처리됨
 
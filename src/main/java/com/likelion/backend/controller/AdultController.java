@@ -1,24 +1,44 @@
 package com.likelion.backend.controller;
 
-import com.likelion.backend.dto.response.AdultWrapperResponseDto;
 import com.likelion.backend.service.AdultService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-
-import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/adult")
 public class AdultController {
 
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     private final AdultService adultService;
 
+    // after/size를 주면 멤버 id 기준 키셋 페이지, 없으면 전체 결과
     @GetMapping
-    public AdultWrapperResponseDto getGroupedResults(){
-        return adultService.getResultsGroupedByMember();
+    public ResponseEntity<?> getGroupedResults(@RequestParam(required = false) Long after,
+                                               @RequestParam(required = false) Integer size){
+        if (after == null && size == null) {
+            return ResponseEntity.ok(adultService.getResultsGroupedByMember());
+        }
+        try {
+            return ResponseEntity.ok(adultService.getResultsPage(after, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // Accept: application/x-ndjson 이면 멤버 한 명당 한 줄씩 스트리밍
+    @GetMapping(produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> streamGroupedResults(){
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .body(adultService::streamResultsGroupedByMember);
     }
 
 }
@@ -0,0 +1,24 @@
+package com.likelion.backend.controller;
+
+// If-None-Match 헤더가 현재 ETag와 일치하는지 (여러 값, 약한 ETag(W/), * 허용)
+final class ETagMatcher {
+
+    private ETagMatcher() {
+    }
+
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
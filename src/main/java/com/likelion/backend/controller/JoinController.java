@@ -2,19 +2,26 @@ package com.likelion.backend.controller;
 
 import com.likelion.backend.dto.request.JoinRequestDto;
 import com.likelion.backend.dto.request.LoginRequestDto;
+import com.likelion.backend.dto.request.MemberBulkDeleteRequestDto;
 import com.likelion.backend.dto.response.JoinResponseDto;
 import com.likelion.backend.dto.response.LoginResponseDto;
 import com.likelion.backend.dto.response.MyResponseDto;
+import com.likelion.backend.service.MemberImportService;
 import com.likelion.backend.service.MemberService;
+import com.likelion.backend.service.ServiceBusyException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 @RestController
 @RequiredArgsConstructor
 public class JoinController {
     private final MemberService memberService;
+    private final MemberImportService memberImportService;
 
     @PostMapping("/login")
     public ResponseEntity<LoginResponseDto> login(@RequestBody LoginRequestDto dto) {
@@ -26,16 +33,43 @@ public class JoinController {
         try{
             JoinResponseDto response = memberService.join(joinRequestDto);
             return ResponseEntity.ok(response);
+        } catch (ServiceBusyException e){
+            throw e; // 503 + Retry-After 그대로 응답
         } catch (Exception e){
             return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
         }
     }
 
+    // 기수 명단 일괄 등록 - 본문을 스트리밍으로 읽어 청크 단위로 저장하고 행별 실패 사유 반환 (인증 필요)
+    @PostMapping(value = "/members/import", consumes = "application/x-ndjson")
+    public ResponseEntity<?> importNdjson(InputStream body) throws IOException {
+        return ResponseEntity.ok(memberImportService.importNdjson(body));
+    }
+
+    @PostMapping(value = "/members/import", consumes = "text/csv")
+    public ResponseEntity<?> importCsv(InputStream body) throws IOException {
+        try {
+            return ResponseEntity.ok(memberImportService.importCsv(body));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     @GetMapping("/my/{id}")
     public ResponseEntity<MyResponseDto> getMyInfo(@PathVariable Long id){
         return ResponseEntity.ok(memberService.my(id));
     }
 
+    // 관리자 일괄 삭제 - {"ids": [...]} 또는 {"role": "BABY"} (인증 필요)
+    @PostMapping("/members/bulk-delete")
+    public ResponseEntity<?> deleteMembers(@RequestBody MemberBulkDeleteRequestDto dto) {
+        try {
+            return ResponseEntity.ok(memberService.deleteMembers(dto));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     @DeleteMapping("/member/{id}")
     public ResponseEntity<String> deleteMember(@PathVariable Long id){
         memberService.deleteMember(id);
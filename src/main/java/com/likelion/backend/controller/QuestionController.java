@@ -1,15 +1,17 @@
 package com.likelion.backend.controller;
 
-import com.likelion.backend.domain.Question;
 import com.likelion.backend.dto.request.QuestionRequestDto;
 import com.likelion.backend.dto.response.QuestionResponseDto;
 import com.likelion.backend.service.QuestionService;
+import com.likelion.backend.service.SerializedResponseCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/question")
@@ -21,8 +23,21 @@ public class QuestionController {
         return ResponseEntity.ok(questionService.postQuestion(questionRequestDto));
     }
 
+    // 미리 직렬화해 둔 질문 목록을 그대로 응답하고, 클라이언트가 같은 버전을 갖고 있으면 304
     @GetMapping()
-    public ResponseEntity<List<QuestionResponseDto>> getAllQuestions() {
-        return ResponseEntity.ok(questionService.getQuestion());
+    public ResponseEntity<byte[]> getAllQuestions(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        SerializedResponseCache.Entry snapshot = questionService.getQuestionList();
+        if (ETagMatcher.matches(ifNoneMatch, snapshot.getEtag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(snapshot.getEtag())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(snapshot.getEtag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.getBody());
     }
 }
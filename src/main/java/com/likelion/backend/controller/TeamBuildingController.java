@@ -1,16 +1,26 @@
 package com.likelion.backend.controller;
 
 import com.likelion.backend.dto.request.TeamBuildingRequestDto;
-import com.likelion.backend.dto.response.TeamOutputDto;
-import com.likelion.backend.repository.MemberRepository;
+import com.likelion.backend.dto.request.TeamPreviewRequestDto;
+import com.likelion.backend.dto.response.CohortStatusResponseDto;
+import com.likelion.backend.dto.response.TeamBuildJobResponseDto;
+import com.likelion.backend.service.CohortStatus;
+import com.likelion.backend.service.SerializedResponseCache;
+import com.likelion.backend.service.TeamBuildJobService;
 import com.likelion.backend.service.TeamBuildingService;
+import com.likelion.backend.service.TeamMaintenanceService;
+import com.likelion.backend.service.teambuilding.TeamBuildJob;
+import com.likelion.backend.service.teambuilding.TeamBuildResult;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.net.URI;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/team")
@@ -18,30 +28,113 @@ import java.util.Map;
 public class TeamBuildingController {
 
     private final TeamBuildingService teamBuildingService;
-    private final MemberRepository memberRepository;
+    private final TeamBuildJobService teamBuildJobService;
+    private final TeamMaintenanceService teamMaintenanceService;
+    private final CohortStatus cohortStatus;
 
 
     @PostMapping
     public ResponseEntity<?> buildTeams(@RequestBody TeamBuildingRequestDto dto) {
         try {
-            List<TeamOutputDto> teams = teamBuildingService.buildAndSaveTeams(dto.getTotalMembers(), dto.getTeamCount());
-            return ResponseEntity.ok(teams);
+            TeamBuildResult result = teamBuildingService.buildAndSaveTeams(dto.toOptions());
+            // 응답 본문(팀 목록)은 그대로 두고 사용한 전략과 최적화 전/후 목적함수 값은 헤더로 전달
+            return ResponseEntity.ok()
+                    .header("X-Team-Strategy", result.getStrategy())
+                    .header("X-Team-Objective-Before", String.valueOf(result.getObjectiveBefore()))
+                    .header("X-Team-Objective-After", String.valueOf(result.getObjectiveAfter()))
+                    .body(result.getTeams());
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
     }
 
-    @GetMapping
-    public ResponseEntity<?> getTeamBuildingResults() {
-        List<TeamOutputDto> teams = teamBuildingService.getAllTeams();
-        boolean hasUnbuiltMembers = memberRepository.findAll().stream()
-                .anyMatch(m -> !m.isTeamBuilt());
+    // 여러 팀 수 구성을 한 번에 미리 계산해 구성별 균형 지표 반환 - 저장된 팀은 바뀌지 않음
+    @PostMapping("/preview")
+    public ResponseEntity<?> previewTeams(@RequestBody TeamPreviewRequestDto dto) {
+        try {
+            return ResponseEntity.ok(teamBuildingService.previewTeams(dto.toOptions(), dto.getTeamCounts(), dto.isIncludeTeams()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
 
-        Map<String, Object> response = new HashMap<>();
-        response.put("teams", teams);
-        response.put("hasUnbuiltMembers", hasUnbuiltMembers);
+    // 팀빌딩 이후 늦게 합류한 아기사자를 기존 팀 하나에 추가 (다른 팀은 그대로)
+    @PostMapping("/members/{memberId}")
+    public ResponseEntity<?> addTeamMember(@PathVariable Long memberId) {
+        try {
+            return ResponseEntity.ok(teamMaintenanceService.addMember(memberId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // 멤버를 팀에서 빼고 최소 인원보다 작아진 팀만 보충
+    @DeleteMapping("/members/{memberId}")
+    public ResponseEntity<?> removeTeamMember(@PathVariable Long memberId) {
+        try {
+            return ResponseEntity.ok(teamMaintenanceService.removeMember(memberId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // 팀빌딩을 비동기 작업으로 접수하고 바로 작업 ID 반환 (진행 상황은 GET /team/jobs/{jobId})
+    @PostMapping("/jobs")
+    public ResponseEntity<?> submitTeamBuildJob(@RequestBody TeamBuildingRequestDto dto) {
+        try {
+            TeamBuildJob job = teamBuildJobService.submit(dto.toOptions());
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .location(URI.create("/team/jobs/" + job.getId()))
+                    .body(TeamBuildJobResponseDto.fromJob(job));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<?> getTeamBuildJob(@PathVariable String jobId) {
+        return teamBuildJobService.find(jobId)
+                .<ResponseEntity<?>>map(job -> ResponseEntity.ok(TeamBuildJobResponseDto.fromJob(job)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND).body("존재하지 않는 팀빌딩 작업입니다."));
+    }
+
+    // 협조적 취소 - 실행 중인 작업은 다음 확인 지점에서 멈추며, 이미 끝났거나 저장 단계에 들어간 작업이면 409
+    @DeleteMapping("/jobs/{jobId}")
+    public ResponseEntity<?> cancelTeamBuildJob(@PathVariable String jobId) {
+        Optional<TeamBuildJob> job = teamBuildJobService.find(jobId);
+        if (job.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("존재하지 않는 팀빌딩 작업입니다.");
+        }
+        if (!teamBuildJobService.cancel(job.get())) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(TeamBuildJobResponseDto.fromJob(job.get()));
+        }
+        return ResponseEntity.accepted().body(TeamBuildJobResponseDto.fromJob(job.get()));
+    }
+
+    // 미리 직렬화해 둔 명단을 그대로 응답하고, 클라이언트가 같은 버전을 갖고 있으면 304
+    @GetMapping
+    public ResponseEntity<?> getTeamBuildingResults(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        SerializedResponseCache.Entry roster = teamBuildingService.getRoster();
+        if (ETagMatcher.matches(ifNoneMatch, roster.getEtag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(roster.getEtag())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(roster.getEtag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(roster.getBody());
+    }
 
-        return ResponseEntity.ok(response);
+    // 기수 현황 (아기사자 수, 팀빌딩 완료/설문 응답 인원) - 메모리 카운터만 읽으므로 DB 조회 없음
+    @GetMapping("/status")
+    public ResponseEntity<CohortStatusResponseDto> getCohortStatus() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(CohortStatusResponseDto.from(cohortStatus));
     }
 
     @DeleteMapping
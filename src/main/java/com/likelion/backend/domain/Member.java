@@ -12,7 +12,13 @@ import static com.likelion.backend.enums.Role.BABY;
 @Entity
 @Getter
 @NoArgsConstructor
+// 이름 중복은 조회 후 insert 대신 DB 유니크 제약으로 막음 (동시 가입 시에도 한 명만 성공)
+// 기존 DB의 중복 이름은 시작 시 MemberNameMigration이 먼저 정리해야 ddl-auto: update가 제약을 추가할 수 있음
+@Table(uniqueConstraints = @UniqueConstraint(name = Member.NAME_CONSTRAINT, columnNames = "name"))
 public class Member extends BaseTimeEntity{
+
+    public static final String NAME_CONSTRAINT = "uk_member_name";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -5,6 +5,8 @@ import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -12,6 +14,8 @@ import java.util.List;
 @Entity
 @Getter
 @NoArgsConstructor
+// 질문은 거의 바뀌지 않으므로 2차 캐시에 보관 (추가 시 QuestionService에서 비움)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class Question extends BaseTimeEntity{
 
     @Id
@@ -25,6 +29,7 @@ public class Question extends BaseTimeEntity{
     private String keyword; //질문 키워드
 
     @ElementCollection
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @CollectionTable(name = "question_choices", joinColumns = @JoinColumn(name = "question_id"))
     @Column(name = "choice")
     private List<String> choices; // 선택형 질문 보기들.
@@ -34,9 +39,8 @@ public class Question extends BaseTimeEntity{
     public Question(String content, QuestionType type, String keyword, List<String> choices){
         this.content = content;
         this.type = type;
-        this.keyword = keyword;
-        this.choices = new ArrayList<>(choices);
-        this.keyword = "";
+        this.keyword = keyword == null ? "" : keyword;
+        this.choices = choices == null ? new ArrayList<>() : new ArrayList<>(choices);
     }
 
 }
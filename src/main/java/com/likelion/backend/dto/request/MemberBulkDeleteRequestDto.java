@@ -0,0 +1,12 @@
+package com.likelion.backend.dto.request;
+
+import lombok.Getter;
+
+import java.util.List;
+
+// 회원 일괄 삭제 - ids 또는 role 중 하나만 지정
+@Getter
+public class MemberBulkDeleteRequestDto {
+    private List<Long> ids;
+    private String role;    // "BABY" 또는 "ADULT"
+}
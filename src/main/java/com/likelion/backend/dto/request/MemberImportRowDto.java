@@ -0,0 +1,20 @@
+package com.likelion.backend.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+// 일괄 등록 한 줄 (NDJSON 한 줄 또는 CSV 한 행)
+// password(평문) 대신 passwordHash(BCrypt 해시)를 주면 해시 계산 없이 그대로 저장한다.
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberImportRowDto {
+    private String name;
+    private String password;
+    private String passwordHash;
+    private String gender;
+    private Map<String, String> answers; // 질문 번호 -> 답변
+}
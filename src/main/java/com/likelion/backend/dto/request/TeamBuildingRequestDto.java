@@ -1,9 +1,31 @@
 package com.likelion.backend.dto.request;
 
+import com.likelion.backend.service.teambuilding.TeamBuildingOptions;
 import lombok.Getter;
 
 @Getter
 public class TeamBuildingRequestDto {
     private int totalMembers;
     private int teamCount;
+    private String strategy;        // 팀빌딩 전략 ("greedy" 기본, "local-search", "multi-start", "sharded")
+    private Long timeBudgetMillis;  // local-search 최대 수행 시간(ms)
+    private Long maxIterations;     // local-search 최대 반복 횟수 (multi-start는 재시작당, sharded는 재조정)
+    private Integer restarts;       // multi-start 재시작 횟수
+    private Integer parallelism;    // multi-start/sharded 동시 실행 스레드 수
+    private Integer shards;         // sharded 파티션 수
+    private Long seed;              // 난수 시드 (같은 시드면 같은 결과)
+
+    public TeamBuildingOptions toOptions() {
+        return TeamBuildingOptions.builder()
+                .totalMembers(this.totalMembers)
+                .teamCount(this.teamCount)
+                .strategy(this.strategy)
+                .timeBudgetMillis(this.timeBudgetMillis == null ? 0 : this.timeBudgetMillis)
+                .maxIterations(this.maxIterations == null ? 0 : this.maxIterations)
+                .restarts(this.restarts == null ? 0 : this.restarts)
+                .parallelism(this.parallelism == null ? 0 : this.parallelism)
+                .shards(this.shards == null ? 0 : this.shards)
+                .seed(this.seed == null ? 0 : this.seed)
+                .build();
+    }
 }
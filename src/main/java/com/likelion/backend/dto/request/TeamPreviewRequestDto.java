@@ -0,0 +1,12 @@
+package com.likelion.backend.dto.request;
+
+import lombok.Getter;
+
+import java.util.List;
+
+// 팀빌딩 미리보기 - 전략/옵션은 POST /team과 같고 teamCount 대신 teamCounts의 각 값으로 평가
+@Getter
+public class TeamPreviewRequestDto extends TeamBuildingRequestDto {
+    private List<Integer> teamCounts;
+    private boolean includeTeams;   // true면 구성별 팀 명단도 함께 반환
+}
@@ -1,5 +1,6 @@
 package com.likelion.backend.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -11,4 +12,8 @@ public class AdultWrapperResponseDto {
     private int memberCount;
     private List<AdultResponseDto> results;
 
+    // 키셋 페이지 조회 시 다음 페이지 요청에 쓸 after 값 (마지막 페이지거나 전체 조회면 생략)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long nextAfter;
+
 }
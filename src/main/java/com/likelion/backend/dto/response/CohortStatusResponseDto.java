@@ -0,0 +1,23 @@
+package com.likelion.backend.dto.response;
+
+import com.likelion.backend.service.CohortStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class CohortStatusResponseDto {
+    private long babies;      // 아기사자 수
+    private long built;       // 팀빌딩 완료 인원
+    private long answered;    // 설문 응답 인원
+    private boolean hasUnbuiltMembers;
+
+    public static CohortStatusResponseDto from(CohortStatus status) {
+        return CohortStatusResponseDto.builder()
+                .babies(status.babies())
+                .built(status.built())
+                .answered(status.answered())
+                .hasUnbuiltMembers(status.hasUnbuiltMembers())
+                .build();
+    }
+}
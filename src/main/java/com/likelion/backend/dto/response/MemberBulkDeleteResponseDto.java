@@ -0,0 +1,12 @@
+package com.likelion.backend.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class MemberBulkDeleteResponseDto {
+    private int deletedMembers;
+    private int deletedAnswers;
+    private int removedTeamMemberships; // 정리된 팀 소속 (이전부터 남아 있던 없는 회원 id 포함)
+}
@@ -0,0 +1,24 @@
+package com.likelion.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class MemberImportResponseDto {
+    private int imported;            // 저장된 멤버 수
+    private int failed;              // 건너뛴 행 수
+    private List<RowError> errors;   // 실패 행 (앞에서부터 최대 MAX_REPORTED_ERRORS개)
+    private boolean errorsTruncated; // 실패 행이 더 있지만 생략됨
+
+    @Getter
+    @AllArgsConstructor
+    public static class RowError {
+        private int line;       // 본문 기준 줄 번호 (1부터)
+        private String name;
+        private String message;
+    }
+}
@@ -24,11 +24,12 @@ public class QuestionResponseDto {
     public static QuestionResponseDto fromEntity(Question question) {
         List<String> choicesToReturn = null;
 
+        // 지연 로딩 컬렉션을 그대로 넘기지 않고 복사 (세션이 닫힌 뒤 직렬화되므로)
         if (question.getType() == QuestionType.CHOICES) {
-            choicesToReturn = question.getChoices();
+            choicesToReturn = List.copyOf(question.getChoices());
         }
         else if(question.getType() == QuestionType.METRIC){
-            choicesToReturn = question.getChoices();
+            choicesToReturn = List.copyOf(question.getChoices());
         }
 
         return QuestionResponseDto.builder()
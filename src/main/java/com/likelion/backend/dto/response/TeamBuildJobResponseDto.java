@@ -0,0 +1,46 @@
+package com.likelion.backend.dto.response;
+
+import com.likelion.backend.enums.TeamBuildJobStatus;
+import com.likelion.backend.enums.TeamBuildPhase;
+import com.likelion.backend.service.teambuilding.TeamBuildJob;
+import com.likelion.backend.service.teambuilding.TeamBuildResult;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class TeamBuildJobResponseDto {
+    private String jobId;
+    private TeamBuildJobStatus status;
+    private TeamBuildPhase phase;
+    private int percent;            // 전체 진행률 (0 ~ 100)
+    private String strategy;        // 완료 시 사용한 전략
+    private Double objectiveBefore; // 완료 시 최적화 전/후 목적함수 값
+    private Double objectiveAfter;
+    private Integer teamCount;      // 완료 시 만들어진 팀 수
+    private String error;           // 실패 사유
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    // DTO 변환 - 팀 목록은 GET /team 으로 조회
+    public static TeamBuildJobResponseDto fromJob(TeamBuildJob job) {
+        TeamBuildResult result = job.getResult();
+        return TeamBuildJobResponseDto.builder()
+                .jobId(job.getId())
+                .status(job.getStatus())
+                .phase(job.getPhase())
+                .percent(job.getPercent())
+                .strategy(result == null ? null : result.getStrategy())
+                .objectiveBefore(result == null ? null : result.getObjectiveBefore())
+                .objectiveAfter(result == null ? null : result.getObjectiveAfter())
+                .teamCount(result == null ? null : result.getTeams().size())
+                .error(job.getError())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+}
@@ -0,0 +1,25 @@
+package com.likelion.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+// 팀 부분 수정 결과 - 대상 팀과 인원 보충을 위해 옮긴 멤버 목록
+@Getter
+@Builder
+public class TeamChangeResponseDto {
+    private Long memberId;
+    private String teamName;    // 배정된 팀 / 빠진 팀
+    private Long leaderId;      // 변경 후 해당 팀 리더 (팀이 없어지면 null)
+    private List<Move> moves;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Move {
+        private Long memberId;
+        private String fromTeam;
+        private String toTeam;
+    }
+}
@@ -0,0 +1,38 @@
+package com.likelion.backend.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.likelion.backend.service.teambuilding.TeamBalanceMetrics;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TeamPreviewResponseDto {
+    private int teamCount;
+    private String strategy;
+    private double objective;               // 팀 평균 불균형 비용 (낮을수록 좋음)
+    private double extrovertRatioSpread;    // 팀별 E 비율의 최대 - 최소
+    private double maleRatioSpread;         // 팀별 남자 비율의 최대 - 최소
+    private double drinkAverageVariance;    // 팀별 음주 평균의 분산
+    private int minTeamSize;
+    private int maxTeamSize;
+    private List<TeamOutputDto> teams;      // includeTeams일 때만 포함
+
+    public static TeamPreviewResponseDto of(int teamCount, String strategy, TeamBalanceMetrics metrics,
+                                            List<TeamOutputDto> teams) {
+        return TeamPreviewResponseDto.builder()
+                .teamCount(teamCount)
+                .strategy(strategy)
+                .objective(metrics.getObjective())
+                .extrovertRatioSpread(metrics.getExtrovertRatioSpread())
+                .maleRatioSpread(metrics.getMaleRatioSpread())
+                .drinkAverageVariance(metrics.getDrinkAverageVariance())
+                .minTeamSize(metrics.getMinTeamSize())
+                .maxTeamSize(metrics.getMaxTeamSize())
+                .teams(teams)
+                .build();
+    }
+}
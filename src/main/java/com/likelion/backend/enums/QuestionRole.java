@@ -0,0 +1,27 @@
+package com.likelion.backend.enums;
+
+import lombok.Getter;
+
+// 팀빌딩/팀 명단에서 의미를 갖는 설문 질문 역할
+// 질문 keyword가 역할 키워드와 같으면 그 질문을, 그런 질문이 없으면 질문 내용에 legacyPhrase가 포함된 질문을 사용한다.
+@Getter
+public enum QuestionRole {
+    LEADER("leader", "대화"),     // 리더 점수 (척도)
+    DRINK("drink", "회식"),       // 음주 점수 (척도)
+    MBTI("mbti", "MBTI"),
+    HOBBY("hobby", "취미"),
+    FOOD("food", "음식"),
+    WILD_LION("wildLion", "야생"); // 야생의 사자를 만나면
+
+    private final String keyword;
+    private final String legacyPhrase;
+
+    QuestionRole(String keyword, String legacyPhrase) {
+        this.keyword = keyword;
+        this.legacyPhrase = legacyPhrase;
+    }
+
+    public int mask() {
+        return 1 << ordinal();
+    }
+}
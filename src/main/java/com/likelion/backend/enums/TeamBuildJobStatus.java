@@ -0,0 +1,16 @@
+package com.likelion.backend.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum TeamBuildJobStatus {
+    QUEUED,
+    RUNNING,
+    SUCCEEDED,
+    FAILED,
+    CANCELLED;
+
+    public boolean isFinished() {
+        return this == SUCCEEDED || this == FAILED || this == CANCELLED;
+    }
+}
@@ -0,0 +1,29 @@
+package com.likelion.backend.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum TeamBuildPhase {
+    QUEUED(0, 0),            // 실행 대기
+    SNAPSHOT(0, 10),         // 멤버/설문 스냅샷 로딩
+    LEADER_SELECTION(10, 15),// 리더 선발 및 그룹 분류
+    ASSIGNMENT(15, 55),      // 팔로워 배정
+    LEFTOVER_ASSIGNMENT(55, 60), // 남은 멤버 배정
+    OPTIMIZATION(60, 90),    // 로컬 서치 최적화 (local-search, multi-start, sharded 재조정)
+    PERSIST(90, 100),        // 팀 저장
+    DONE(100, 100);
+
+    // 전체 진행률(%) 중 이 단계가 차지하는 구간
+    private final int startPercent;
+    private final int endPercent;
+
+    TeamBuildPhase(int startPercent, int endPercent) {
+        this.startPercent = startPercent;
+        this.endPercent = endPercent;
+    }
+
+    public int percentAt(double fraction) {
+        double clamped = Math.max(0, Math.min(1, fraction));
+        return (int) Math.round(startPercent + (endPercent - startPercent) * clamped);
+    }
+}
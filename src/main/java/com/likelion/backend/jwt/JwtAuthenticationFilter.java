@@ -1,11 +1,13 @@
 package com.likelion.backend.jwt;
 
 import com.likelion.backend.config.MemberAuthentication;
+import com.likelion.backend.config.PublicEndpoints;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -14,35 +16,60 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 @Component
 @Slf4j
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
 
+    // 토큰 검증 소요 시간 (security.jwt.filter{result=valid|invalid|absent}) - 요청마다 조회하지 않도록 미리 등록
+    private final Timer validTimer;
+    private final Timer invalidTimer;
+    private final Timer absentTimer;
+
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, MeterRegistry meterRegistry) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.validTimer = meterRegistry.timer("security.jwt.filter", "result", "valid");
+        this.invalidTimer = meterRegistry.timer("security.jwt.filter", "result", "invalid");
+        this.absentTimer = meterRegistry.timer("security.jwt.filter", "result", "absent");
+    }
+
+    // 인증이 필요 없는 경로는 토큰을 보지 않음
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return PublicEndpoints.matches(request);
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
-        try {
-            final String token = getJwtFromRequest(request);
-            JwtValidationType jwtValidationType = jwtTokenProvider.validateToken(token);
-            if (jwtValidationType == JwtValidationType.VALID_JWT) {
-                String username = jwtTokenProvider.getUsernameFromAccessToken(token);
-                MemberAuthentication authentication = MemberAuthentication.createMemberAuthentication(username);
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-            } else {
-                log.error("현재 상태: " + jwtValidationType.toString());
-            }
-        } catch (Exception e) {
-            log.error(e.getMessage());
-        }
+        // 인증 처리 시간만 기록 (이후 체인 실행 시간 제외)
+        long start = System.nanoTime();
+        Timer timer = authenticate(request);
+        timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         filterChain.doFilter(request, response);
     }
 
+    private Timer authenticate(HttpServletRequest request) {
+        final String token = getJwtFromRequest(request);
+        if (token == null) {
+            return absentTimer;
+        }
+        // 요청당 한 번만 파싱 (유효성 + username)
+        JwtVerification verification = jwtTokenProvider.verify(token);
+        if (!verification.isValid()) {
+            log.debug("현재 상태: {}", verification.getType());
+            return invalidTimer;
+        }
+        MemberAuthentication authentication = MemberAuthentication.createMemberAuthentication(verification.getUsername());
+        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        return validTimer;
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
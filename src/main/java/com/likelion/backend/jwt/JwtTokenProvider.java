@@ -2,26 +2,38 @@ package com.likelion.backend.jwt;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
+import io.jsonwebtoken.security.SignatureException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
 import java.util.Base64;
 import java.util.Date;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtTokenProvider {
     // ACCESS_TOKEN : 3시간
     private static final Long ACCESS_TOKEN_EXPIRATION_TIME = 1000L * 60 * 60 * 3;
     // REFRESH_TOKEN : 1달
     private static final Long REFRESH_TOKEN_EXPIRATION_TIME = 1000L * 60 * 60 * 24 * 30;
 
-    @Value("${jwt.secret}")
-    private String JWT_SECRET;
+    // 서명 키와 파서는 시작 시 한 번만 생성 (JwtParser는 불변이라 스레드 간 공유 가능)
+    private final SecretKey signingKey;
+    private final JwtParser jwtParser;
+    private final VerifiedTokenCache verifiedTokens;
+
+    public JwtTokenProvider(@Value("${jwt.secret}") String jwtSecret,
+                            @Value("${jwt.verified-cache-size:10000}") int verifiedCacheSize) {
+        String encodedKey = Base64.getEncoder().encodeToString(jwtSecret.getBytes()); //SecretKey 통해 서명 생성
+        this.signingKey = Keys.hmacShaKeyFor(encodedKey.getBytes());   //일반적으로 HMAC (Hash-based Message Authentication Code) 알고리즘 사용
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        this.verifiedTokens = new VerifiedTokenCache(verifiedCacheSize);
+    }
 
     // access token 생성
     public String generateAccessToken(String username) {
@@ -36,7 +48,7 @@ public class JwtTokenProvider {
         return Jwts.builder()
                 .setHeaderParam(Header.TYPE, Header.JWT_TYPE) // header
                 .setClaims(claims) // claim
-                .signWith(getSigningKey()) // signature
+                .signWith(signingKey) // signature
                 .compact();
     }
 
@@ -54,41 +66,49 @@ public class JwtTokenProvider {
         return Jwts.builder()
                 .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
                 .setClaims(claims)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
     // token 유효성 확인
     public JwtValidationType validateToken(String token) {
+        return verify(token).getType();
+    }
+
+    // 토큰을 한 번만 파싱해 유효성과 username을 함께 반환
+    // 최근 검증한 토큰이면 만료 전까지 서명 검증 없이 캐시 결과 사용
+    public JwtVerification verify(String token) {
+        if (token == null || token.isBlank()) {
+            return JwtVerification.invalid(JwtValidationType.EMPTY_JWT);
+        }
+        ByteBuffer digest = VerifiedTokenCache.digest(token);
+        String cachedUsername = verifiedTokens.get(digest, System.currentTimeMillis());
+        if (cachedUsername != null) {
+            return JwtVerification.valid(cachedUsername);
+        }
+
         try {
-            getBody(token); // 유효성 검사를 위해 파싱 시도
-            return JwtValidationType.VALID_JWT;
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            Object username = claims.get("username");
+            if (username == null) {
+                return JwtVerification.invalid(JwtValidationType.INVALID_JWT_TOKEN);
+            }
+            if (claims.getExpiration() != null) {
+                verifiedTokens.put(digest, username.toString(), claims.getExpiration().getTime());
+            }
+            return JwtVerification.valid(username.toString());
         } catch (MalformedJwtException ex) { // 잘못된 형식의 JWT 토큰인 경우 -> 헤더.페이로드.서명 형식이 아니거나 토큰 문자열이 손상되었을 때
-            return JwtValidationType.INVALID_JWT_TOKEN;
+            return JwtVerification.invalid(JwtValidationType.INVALID_JWT_TOKEN);
         } catch (ExpiredJwtException ex) { // 토큰의 유효 기간이 만료된 경우 -> 보통 해당 에러가 날 경우 reissue 처리하는 경우도 있답니다
-            return JwtValidationType.EXPIRED_JWT_TOKEN;
+            return JwtVerification.invalid(JwtValidationType.EXPIRED_JWT_TOKEN);
         } catch (UnsupportedJwtException ex) { // 지원하지 않는 JWT 토큰이 전달되는 경우 -> 다른 서명 알고리즘이 사용된 JWT가 전달될 경우
-            return JwtValidationType.UNSUPPORTED_JWT_TOKEN;
+            return JwtVerification.invalid(JwtValidationType.UNSUPPORTED_JWT_TOKEN);
+        } catch (SignatureException ex) { // 서명이 일치하지 않는 경우
+            return JwtVerification.invalid(JwtValidationType.INVALID_JWT_SIGNATURE);
         } catch (IllegalArgumentException ex) { // 빈 문자열 같이 유효하지 않은 문자열로 JWT 파싱이 시도되는 경우
-            return JwtValidationType.EMPTY_JWT;
+            return JwtVerification.invalid(JwtValidationType.EMPTY_JWT);
+        } catch (JwtException ex) {
+            return JwtVerification.invalid(JwtValidationType.INVALID_JWT_TOKEN);
         }
     }
-
-    public String getUsernameFromAccessToken(String token) {
-        Claims claims = getBody(token);
-        return claims.get("username").toString();
-    }
-
-    private Claims getBody(final String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
-
-    private SecretKey getSigningKey() {
-        String encodedKey = Base64.getEncoder().encodeToString(JWT_SECRET.getBytes()); //SecretKey 통해 서명 생성
-        return Keys.hmacShaKeyFor(encodedKey.getBytes());   //일반적으로 HMAC (Hash-based Message Authentication Code) 알고리즘 사용
-    }
 }
@@ -0,0 +1,25 @@
+package com.likelion.backend.jwt;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 토큰 한 번 검증한 결과 (검증 상태 + 유효하면 username)
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class JwtVerification {
+    private final JwtValidationType type;
+    private final String username;
+
+    static JwtVerification valid(String username) {
+        return new JwtVerification(JwtValidationType.VALID_JWT, username);
+    }
+
+    static JwtVerification invalid(JwtValidationType type) {
+        return new JwtVerification(type, null);
+    }
+
+    public boolean isValid() {
+        return type == JwtValidationType.VALID_JWT;
+    }
+}
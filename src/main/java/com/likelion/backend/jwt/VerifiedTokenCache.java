@@ -0,0 +1,70 @@
+package com.likelion.backend.jwt;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 최근 서명 검증에 성공한 토큰의 다이제스트 -> (username, 만료 시각) LRU
+// 같은 토큰으로 반복 요청하면 HMAC 검증과 클레임 파싱을 건너뛴다. 토큰 원문은 보관하지 않는다.
+class VerifiedTokenCache {
+
+    private final int capacity;
+    private final Map<ByteBuffer, Entry> entries;
+
+    private record Entry(String username, long expiresAtMillis) {
+    }
+
+    VerifiedTokenCache(int capacity) {
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ByteBuffer, Entry> eldest) {
+                return size() > VerifiedTokenCache.this.capacity;
+            }
+        };
+    }
+
+    // 캐시에 있고 아직 만료되지 않았으면 username, 아니면 null
+    String get(ByteBuffer digest, long nowMillis) {
+        if (capacity <= 0) {
+            return null;
+        }
+        synchronized (entries) {
+            Entry entry = entries.get(digest);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAtMillis() <= nowMillis) {
+                entries.remove(digest);
+                return null;
+            }
+            return entry.username();
+        }
+    }
+
+    void put(ByteBuffer digest, String username, long expiresAtMillis) {
+        if (capacity <= 0) {
+            return;
+        }
+        synchronized (entries) {
+            entries.put(digest, new Entry(username, expiresAtMillis));
+        }
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    static ByteBuffer digest(String token) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.likelion.backend.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+// 요청마다 실행한 SQL 수를 X-SQL-Count 응답 헤더와 http.server.sql.statements{method, uri} 분포로 남기는 필터
+// 헤더는 응답 본문을 쓰기 직전에 붙이므로 그 이후(스트리밍 응답의 async 구간 등)에 실행된 SQL은 헤더에 포함되지 않는다.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class SqlCountFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-SQL-Count";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        int[] counter = SqlStatementListener.open();
+        CountHeaderResponse countingResponse = new CountHeaderResponse(response, counter);
+        try {
+            filterChain.doFilter(request, countingResponse);
+        } finally {
+            SqlStatementListener.close();
+            countingResponse.writeCount();
+            DistributionSummary.builder("http.server.sql.statements")
+                    .description("요청당 SQL 실행 횟수")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri(request))
+                    .register(meterRegistry)
+                    .record(counter[0]);
+        }
+    }
+
+    // 매핑된 경로 패턴 기준 (경로 변수 값마다 메트릭이 늘어나지 않게)
+    private static String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? "UNKNOWN" : pattern.toString();
+    }
+
+    // 본문/에러/리다이렉트로 응답이 확정되기 직전에 그때까지의 SQL 수를 헤더로 기록
+    private static final class CountHeaderResponse extends HttpServletResponseWrapper {
+
+        private final int[] counter;
+        private boolean written;
+
+        CountHeaderResponse(HttpServletResponse response, int[] counter) {
+            super(response);
+            this.counter = counter;
+        }
+
+        void writeCount() {
+            if (!written && !isCommitted()) {
+                setHeader(HEADER, String.valueOf(counter[0]));
+            }
+            written = true;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeCount();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeCount();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeCount();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeCount();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeCount();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeCount();
+            super.sendRedirect(location);
+        }
+    }
+}
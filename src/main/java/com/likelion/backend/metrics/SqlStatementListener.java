@@ -0,0 +1,33 @@
+package com.likelion.backend.metrics;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+
+// 요청 스레드에서 DB로 보낸 SQL 실행 횟수를 세는 p6spy 리스너 (배치는 executeBatch 한 번을 1회로 계산)
+// SqlCountFilter가 요청 시작 시 카운터를 열고 끝날 때 닫으며, 열린 카운터가 없는 스레드의 실행은 세지 않는다.
+@Component
+public class SqlStatementListener extends SimpleJdbcEventListener {
+
+    private static final ThreadLocal<int[]> COUNTER = new ThreadLocal<>();
+
+    static int[] open() {
+        int[] counter = new int[1];
+        COUNTER.set(counter);
+        return counter;
+    }
+
+    static void close() {
+        COUNTER.remove();
+    }
+
+    @Override
+    public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+        int[] counter = COUNTER.get();
+        if (counter != null) {
+            counter[0]++;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.likelion.backend.repository;
+
+import com.likelion.backend.domain.Member;
+import com.likelion.backend.enums.Role;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 일괄 등록/삭제용 멤버 JDBC 저장소
+// Member는 IDENTITY 키라 JPA로는 한 건씩 insert하게 되므로 저장 경로만 직접 배치로 처리한다.
+// 삭제도 JPA 파생 삭제(엔티티를 읽어 한 건씩 DELETE) 대신 집합 단위 DELETE로 처리한다.
+// 테이블/컬럼명은 Member/QuestionResult/Team 엔티티의 기본 매핑(member, question_result, team, team_member_ids)을 따른다.
+@Repository
+@RequiredArgsConstructor
+public class MemberJdbcRepository {
+
+    static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    // 이름은 서로 달라야 함 (uk_member_name)
+    public void insertAll(List<Member> members) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate("INSERT INTO member (name, password, role, gender, answer, image, team_built, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", members, BATCH_SIZE,
+                (ps, member) -> {
+                    ps.setString(1, member.getName());
+                    ps.setString(2, member.getPassword());
+                    ps.setString(3, member.getRole().name());
+                    ps.setString(4, member.getGender());
+                    ps.setString(5, member.getAnswer());
+                    ps.setString(6, member.getImage());
+                    ps.setBoolean(7, member.isTeamBuilt());
+                    ps.setTimestamp(8, now);
+                    ps.setTimestamp(9, now);
+                });
+    }
+
+    // 이름 -> id (존재하는 이름만)
+    public Map<String, Long> findIdsByName(Collection<String> names) {
+        Map<String, Long> ids = new HashMap<>();
+        if (names.isEmpty()) {
+            return ids;
+        }
+        namedParameterJdbcTemplate.query("SELECT id, name FROM member WHERE name IN (:names)", Map.of("names", names),
+                rs -> { ids.put(rs.getString("name"), rs.getLong("id")); });
+        return ids;
+    }
+
+    // leaderlessTeams: 리더가 지워졌지만 멤버가 남은 팀 -> 남은 멤버 id (저장 순서)
+    public record DeletedRows(int members, int answers, int teamMemberships, Map<Long, long[]> leaderlessTeams) {
+    }
+
+    // 회원과 그 응답/팀 소속 삭제 - 삭제 인원과 관계없이 조회 2번 + DELETE 4번 (호출하는 쪽 트랜잭션 안에서)
+    public DeletedRows deleteAllById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return new DeletedRows(0, 0, 0, Map.of());
+        }
+        return deleteWhere("id IN (:ids)", Map.of("ids", ids));
+    }
+
+    public DeletedRows deleteAllByRole(Role role) {
+        return deleteWhere("role = :role", Map.of("role", role.name()));
+    }
+
+    private DeletedRows deleteWhere(String memberCondition, Map<String, ?> params) {
+        // 삭제 대상이 속한 팀의 멤버 행 (저장 순서 그대로, 0번째가 리더) - 회원을 지우기 전에 읽어 둠
+        Map<Long, List<Long>> teams = new LinkedHashMap<>();
+        namedParameterJdbcTemplate.query("SELECT team_id, member_ids FROM team_member_ids WHERE team_id IN " +
+                        "(SELECT team_id FROM team_member_ids WHERE member_ids IN (SELECT id FROM member WHERE " + memberCondition + "))",
+                params, rs -> { teams.computeIfAbsent(rs.getLong("team_id"), id -> new ArrayList<>()).add(rs.getLong("member_ids")); });
+
+        int answers = namedParameterJdbcTemplate.update(
+                "DELETE FROM question_result WHERE member_id IN (SELECT id FROM member WHERE " + memberCondition + ")", params);
+        int members = namedParameterJdbcTemplate.update("DELETE FROM member WHERE " + memberCondition, params);
+        if (teams.isEmpty()) {
+            return new DeletedRows(members, answers, 0, Map.of());
+        }
+
+        // 그 팀들에서만 방금 지운 회원과 예전에 지워져 남아 있던 id를 정리하고, 그 결과 빈 팀은 삭제 (다른 팀은 건드리지 않음)
+        Map<String, Object> teamParams = Map.of("teamIds", teams.keySet());
+        Set<Long> removed = new HashSet<>(namedParameterJdbcTemplate.queryForList(
+                "SELECT member_ids FROM team_member_ids WHERE team_id IN (:teamIds) AND member_ids NOT IN (SELECT id FROM member)",
+                teamParams, Long.class));
+        int memberships = namedParameterJdbcTemplate.update(
+                "DELETE FROM team_member_ids WHERE team_id IN (:teamIds) AND member_ids NOT IN (SELECT id FROM member)", teamParams);
+        namedParameterJdbcTemplate.update(
+                "DELETE FROM team WHERE id IN (:teamIds) AND id NOT IN (SELECT team_id FROM team_member_ids)", teamParams);
+
+        Map<Long, long[]> leaderlessTeams = new LinkedHashMap<>();
+        for (Map.Entry<Long, List<Long>> team : teams.entrySet()) {
+            long[] remaining = team.getValue().stream()
+                    .filter(id -> !removed.contains(id))
+                    .mapToLong(Long::longValue)
+                    .toArray();
+            if (remaining.length > 0 && removed.contains(team.getValue().get(0))) {
+                leaderlessTeams.put(team.getKey(), remaining);
+            }
+        }
+        return new DeletedRows(members, answers, memberships, leaderlessTeams);
+    }
+}
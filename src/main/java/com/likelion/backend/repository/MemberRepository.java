@@ -5,7 +5,9 @@ import com.likelion.backend.enums.Role;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,7 +15,7 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     Optional<Member> findByName(String name);
     Optional<Member> findById(Long id);
 
-    // 이름 중복 검사 쿼리
+    // 이름 중복 검사 쿼리 (가입 시 해시 전에 확인)
     boolean existsByName(String name);
     List<Member> findByRole(Role role);
     int countByRole(Role role);
@@ -21,4 +23,38 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     @Modifying
     @Query("UPDATE Member m SET m.teamBuilt = false")
     void resetTeamBuilt();
+
+    // 팀빌딩 대상(role) 전체의 teamBuilt를 한 번의 UPDATE로 true 처리
+    @Modifying
+    @Query("UPDATE Member m SET m.teamBuilt = true WHERE m.role = :role")
+    int markTeamBuilt(@Param("role") Role role);
+
+    // 멤버 한 명의 teamBuilt 변경 (값이 실제로 바뀌면 1 반환)
+    @Modifying
+    @Query("UPDATE Member m SET m.teamBuilt = :teamBuilt WHERE m.id = :id AND m.teamBuilt <> :teamBuilt")
+    int updateTeamBuilt(@Param("id") Long id, @Param("teamBuilt") boolean teamBuilt);
+
+    // 팀에 소속된 멤버 전체 (팀 명단 조회용)
+    @Query("SELECT m FROM Member m WHERE m.id IN (SELECT mid FROM Team t JOIN t.memberIds mid)")
+    List<Member> findAllInTeams();
+
+    // 기수 현황 집계 (인원, 팀빌딩 완료 인원, 설문 응답 인원) - 시작 시 한 번
+    @Query("SELECT COUNT(m) AS babies, " +
+            "COALESCE(SUM(CASE WHEN m.teamBuilt = true THEN 1 ELSE 0 END), 0) AS built, " +
+            "COALESCE(SUM(CASE WHEN EXISTS (SELECT 1 FROM QuestionResult qr WHERE qr.member = m) THEN 1 ELSE 0 END), 0) AS answered " +
+            "FROM Member m WHERE m.role = :role")
+    CohortCounts countCohort(@Param("role") Role role);
+
+    // 삭제 대상 중 아기사자 현황 (일괄 삭제 시 기수 현황 갱신용)
+    @Query("SELECT COUNT(m) AS babies, " +
+            "COALESCE(SUM(CASE WHEN m.teamBuilt = true THEN 1 ELSE 0 END), 0) AS built, " +
+            "COALESCE(SUM(CASE WHEN EXISTS (SELECT 1 FROM QuestionResult qr WHERE qr.member = m) THEN 1 ELSE 0 END), 0) AS answered " +
+            "FROM Member m WHERE m.role = :role AND m.id IN :ids")
+    CohortCounts countCohort(@Param("role") Role role, @Param("ids") Collection<Long> ids);
+
+    interface CohortCounts {
+        long getBabies();
+        long getBuilt();
+        long getAnswered();
+    }
 }
@@ -1,7 +1,27 @@
 package com.likelion.backend.repository;
 
 import com.likelion.backend.domain.Question;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.List;
 
 public interface QuestionRepository extends JpaRepository<Question, Long> {
+
+    // 조회 결과(id 목록)는 쿼리 캐시, 엔티티/보기는 2차 캐시에서 읽음
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Question> findAll();
+
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Question> findAllById(Iterable<Long> ids);
+
+    // 질문과 보기 목록을 한 번의 조인 쿼리로 읽음 (GET /question 응답 스냅샷 생성용)
+    // 중복 질문은 Hibernate가 제거함 - SQL DISTINCT는 보기 순서를 바꿀 수 있어 쓰지 않음
+    @Query("SELECT q FROM Question q LEFT JOIN FETCH q.choices ORDER BY q.id")
+    List<Question> findAllWithChoices();
 }
@@ -0,0 +1,40 @@
+package com.likelion.backend.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// 질문 응답을 JDBC 배치로 한 번에 저장하는 리포지토리 (회원가입, 일괄 등록)
+// QuestionResult는 IDENTITY 키라 JPA saveAll로는 Hibernate 배치가 꺼지고 응답 수만큼 insert가 나가므로 직접 배치로 처리한다.
+// 테이블/컬럼명은 QuestionResult 엔티티의 기본 매핑(question_result)을 따른다.
+@Repository
+@RequiredArgsConstructor
+public class QuestionResultJdbcRepository {
+
+    static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // answers: 질문 id -> 답변 (질문은 모두 존재해야 함)
+    public void insertAll(Long memberId, Map<Long, String> answers) {
+        insertAll(Map.of(memberId, answers));
+    }
+
+    // answersByMember: 멤버 id -> (질문 id -> 답변)
+    public void insertAll(Map<Long, Map<Long, String>> answersByMember) {
+        List<Object[]> rows = new ArrayList<>();
+        answersByMember.forEach((memberId, answers) ->
+                answers.forEach((questionId, answer) -> rows.add(new Object[]{memberId, questionId, answer})));
+        jdbcTemplate.batchUpdate("INSERT INTO question_result (member_id, question_id, answer) VALUES (?, ?, ?)",
+                rows, BATCH_SIZE,
+                (ps, row) -> {
+                    ps.setLong(1, (Long) row[0]);
+                    ps.setLong(2, (Long) row[1]);
+                    ps.setString(3, (String) row[2]);
+                });
+    }
+}
@@ -2,9 +2,18 @@ package com.likelion.backend.repository;
 
 import com.likelion.backend.domain.Member;
 import com.likelion.backend.domain.QuestionResult;
+import com.likelion.backend.enums.Role;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface QuestionResultRepository extends JpaRepository<QuestionResult, Long> {
 
@@ -12,5 +21,53 @@ public interface QuestionResultRepository extends JpaRepository<QuestionResult,
 
     List<QuestionResult> findByMember(Member member);
 
-    void deleteAllByMember_Id(Long memberId);
+    // 역할별 전체 응답을 멤버/질문과 함께 한 번에 조회 (팀빌딩 스냅샷용)
+    @Query("SELECT qr FROM QuestionResult qr JOIN FETCH qr.member m JOIN FETCH qr.question q " +
+            "WHERE m.role = :role ORDER BY qr.id")
+    List<QuestionResult> findAllByMemberRoleFetchQuestion(@Param("role") Role role);
+
+    // 지정한 멤버들의 응답을 질문과 함께 조회 (팀 부분 수정용 스냅샷)
+    @Query("SELECT qr FROM QuestionResult qr JOIN FETCH qr.member m JOIN FETCH qr.question q " +
+            "WHERE m.id IN :memberIds ORDER BY qr.id")
+    List<QuestionResult> findAllByMemberIdInFetchQuestion(@Param("memberIds") Collection<Long> memberIds);
+
+    // 팀에 속한 멤버들의 지정 질문 응답만 (멤버 id, 질문 id, 답변)으로 한 번에 조회 (팀 명단 조회용)
+    @Query("SELECT qr.member.id AS memberId, qr.question.id AS questionId, qr.answer AS answer " +
+            "FROM QuestionResult qr " +
+            "WHERE qr.question.id IN :questionIds " +
+            "AND qr.member.id IN (SELECT mid FROM Team t JOIN t.memberIds mid) " +
+            "ORDER BY qr.id")
+    List<MemberAnswer> findTeamMemberAnswers(@Param("questionIds") Collection<Long> questionIds);
+
+    // 운영진 조회용 (멤버 id, 이름, 질문 키워드, 답변)을 멤버 순으로 - 엔티티를 만들지 않아 연관 로딩이 없음
+    String MEMBER_KEYWORD_ANSWERS = "SELECT m.id AS memberId, m.name AS memberName, q.keyword AS keyword, qr.answer AS answer " +
+            "FROM QuestionResult qr JOIN qr.member m JOIN qr.question q ";
+
+    @Query(MEMBER_KEYWORD_ANSWERS + "ORDER BY m.id, qr.id")
+    List<MemberKeywordAnswer> findAllMemberKeywordAnswers();
+
+    // 1000행씩 읽어오는 스트림 - 트랜잭션 안에서 소비하고 다 읽은 뒤 닫아야 함
+    @Query(MEMBER_KEYWORD_ANSWERS + "ORDER BY m.id, qr.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<MemberKeywordAnswer> streamAllMemberKeywordAnswers();
+
+    @Query(MEMBER_KEYWORD_ANSWERS + "WHERE m.id IN :memberIds ORDER BY m.id, qr.id")
+    List<MemberKeywordAnswer> findMemberKeywordAnswers(@Param("memberIds") Collection<Long> memberIds);
+
+    // 응답이 있는 멤버 id를 after 다음부터 오름차순으로 (키셋 페이지네이션)
+    @Query("SELECT DISTINCT qr.member.id FROM QuestionResult qr WHERE qr.member.id > :after ORDER BY qr.member.id")
+    List<Long> findAnsweredMemberIdsAfter(@Param("after") long after, Pageable pageable);
+
+    interface MemberKeywordAnswer {
+        Long getMemberId();
+        String getMemberName();
+        String getKeyword();
+        String getAnswer();
+    }
+
+    interface MemberAnswer {
+        Long getMemberId();
+        Long getQuestionId();
+        String getAnswer();
+    }
 }
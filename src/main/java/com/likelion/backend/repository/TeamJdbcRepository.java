@@ -0,0 +1,159 @@
+package com.likelion.backend.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+// 팀빌딩 결과를 JDBC 배치로 한 번에 교체 저장하는 리포지토리
+// Team은 IDENTITY 키라 JPA로는 팀/멤버 행을 한 건씩 insert하게 되므로 저장 경로만 직접 배치로 처리한다.
+// 테이블/컬럼명은 Team 엔티티의 기본 매핑(team, team_member_ids)을 따른다.
+@Repository
+@RequiredArgsConstructor
+public class TeamJdbcRepository {
+
+    static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 기존 팀을 모두 지우고 teamNames 순서대로 팀과 멤버 id 목록 저장 (멤버 순서 유지, 0번째가 리더)
+    // 팀 이름은 서로 달라야 함
+    public void replaceAll(List<String> teamNames, List<long[]> memberIds) {
+        jdbcTemplate.update("DELETE FROM team_member_ids");
+        jdbcTemplate.update("DELETE FROM team");
+
+        jdbcTemplate.batchUpdate("INSERT INTO team (team_name) VALUES (?)", teamNames, BATCH_SIZE,
+                (ps, teamName) -> ps.setString(1, teamName));
+
+        // 생성된 팀 id는 이름으로 한 번에 다시 읽어옴 (드라이버별 배치 generated key 지원 차이 회피)
+        Map<String, Long> teamIds = new HashMap<>();
+        jdbcTemplate.query("SELECT id, team_name FROM team",
+                rs -> { teamIds.put(rs.getString("team_name"), rs.getLong("id")); });
+
+        List<long[]> rows = new ArrayList<>();
+        for (int t = 0; t < teamNames.size(); t++) {
+            long teamId = teamIds.get(teamNames.get(t));
+            for (long memberId : memberIds.get(t)) {
+                rows.add(new long[]{teamId, memberId});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO team_member_ids (team_id, member_ids) VALUES (?, ?)", rows, BATCH_SIZE,
+                (ps, row) -> {
+                    ps.setLong(1, row[0]);
+                    ps.setLong(2, row[1]);
+                });
+    }
+
+    // 멤버가 속한 팀 id (없으면 null)
+    public Long findTeamId(long memberId) {
+        List<Long> teamIds = jdbcTemplate.queryForList(
+                "SELECT team_id FROM team_member_ids WHERE member_ids = ?", Long.class, memberId);
+        return teamIds.isEmpty() ? null : teamIds.get(0);
+    }
+
+    // 한 팀의 멤버 id (저장 순서, 0번째가 리더)
+    public long[] findMemberIds(long teamId) {
+        return jdbcTemplate.queryForList("SELECT member_ids FROM team_member_ids WHERE team_id = ?", Long.class, teamId)
+                .stream().mapToLong(Long::longValue).toArray();
+    }
+
+    // 팀별 아기사자 특성 분포 - (팀, E 여부, 남자 여부, 음주 점수)별 인원을 그룹 집계 한 번으로 조회
+    // 결과는 팀 수 × 특성 조합 수 행이며, 팀 멤버나 응답 행을 애플리케이션으로 가져오지 않는다.
+    // 특성 규칙은 MemberFeatureSnapshot과 같음 (MBTI 응답 첫 글자가 E, 성별 "남자", 정수가 아닌 음주 응답은 0)
+    public List<FeatureCount> countFeaturesByTeam(Collection<Long> mbtiQuestionIds, Collection<Long> drinkQuestionIds) {
+        String mbti = questionIdIn(mbtiQuestionIds);
+        String drink = questionIdIn(drinkQuestionIds);
+        String sql = """
+                SELECT team_id, extrovert, male, drink, COUNT(*) AS members
+                FROM (
+                    SELECT tm.team_id AS team_id,
+                           COALESCE(f.extrovert, 0) AS extrovert,
+                           CASE WHEN m.gender = '남자' THEN 1 ELSE 0 END AS male,
+                           COALESCE(f.drink, 0) AS drink
+                    FROM team_member_ids tm
+                    JOIN member m ON m.id = tm.member_ids AND m.role = 'BABY'
+                    LEFT JOIN (
+                        SELECT qr.member_id AS member_id,
+                               MAX(CASE WHEN %1$s AND UPPER(SUBSTRING(qr.answer, 1, 1)) = 'E' THEN 1 ELSE 0 END) AS extrovert,
+                               MAX(CASE WHEN %2$s AND qr.answer REGEXP '^[-+]?[0-9]{1,9}$'
+                                        THEN CAST(qr.answer AS DECIMAL(10, 0)) END) AS drink
+                        FROM question_result qr
+                        WHERE %1$s OR %2$s
+                        GROUP BY qr.member_id
+                    ) f ON f.member_id = m.id
+                ) features
+                GROUP BY team_id, extrovert, male, drink
+                """.formatted(mbti, drink);
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new FeatureCount(rs.getLong("team_id"),
+                rs.getInt("extrovert") == 1, rs.getInt("male") == 1, rs.getInt("drink"), rs.getInt("members")));
+    }
+
+    public record FeatureCount(long teamId, boolean extrovert, boolean male, int drinkScore, int members) {
+    }
+
+    // 질문 id 목록 조건 (id는 숫자이므로 그대로 넣음, 비어 있으면 항상 거짓)
+    private static String questionIdIn(Collection<Long> questionIds) {
+        if (questionIds.isEmpty()) {
+            return "1 = 0";
+        }
+        StringJoiner ids = new StringJoiner(", ", "qr.question_id IN (", ")");
+        for (Long id : questionIds) {
+            ids.add(Long.toString(id));
+        }
+        return ids.toString();
+    }
+
+    // 팀 부분 수정 - 해당 팀의 멤버 행 하나만 추가/삭제 (다른 팀은 건드리지 않음)
+    public void addMember(long teamId, long memberId) {
+        jdbcTemplate.update("INSERT INTO team_member_ids (team_id, member_ids) VALUES (?, ?)", teamId, memberId);
+    }
+
+    public void removeMember(long teamId, long memberId) {
+        jdbcTemplate.update("DELETE FROM team_member_ids WHERE team_id = ? AND member_ids = ?", teamId, memberId);
+    }
+
+    // 리더가 바뀌는 경우처럼 멤버 순서를 다시 써야 할 때 한 팀의 멤버 행만 교체 (0번째가 리더)
+    public void replaceMembers(long teamId, long[] memberIds) {
+        jdbcTemplate.update("DELETE FROM team_member_ids WHERE team_id = ?", teamId);
+        List<Long> ids = new ArrayList<>(memberIds.length);
+        for (long memberId : memberIds) {
+            ids.add(memberId);
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO team_member_ids (team_id, member_ids) VALUES (?, ?)", ids, BATCH_SIZE,
+                (ps, memberId) -> {
+                    ps.setLong(1, teamId);
+                    ps.setLong(2, memberId);
+                });
+    }
+
+    // 여러 팀의 멤버 행을 한 번에 교체 (팀 수와 관계없이 DELETE 배치 1 + insert 배치 1)
+    public void replaceMembers(Map<Long, long[]> memberIdsByTeam) {
+        if (memberIdsByTeam.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("DELETE FROM team_member_ids WHERE team_id = ?", new ArrayList<>(memberIdsByTeam.keySet()),
+                BATCH_SIZE, (ps, teamId) -> ps.setLong(1, teamId));
+        List<long[]> rows = new ArrayList<>();
+        for (Map.Entry<Long, long[]> team : memberIdsByTeam.entrySet()) {
+            for (long memberId : team.getValue()) {
+                rows.add(new long[]{team.getKey(), memberId});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO team_member_ids (team_id, member_ids) VALUES (?, ?)", rows, BATCH_SIZE,
+                (ps, row) -> {
+                    ps.setLong(1, row[0]);
+                    ps.setLong(2, row[1]);
+                });
+    }
+
+    public void deleteTeam(long teamId) {
+        jdbcTemplate.update("DELETE FROM team_member_ids WHERE team_id = ?", teamId);
+        jdbcTemplate.update("DELETE FROM team WHERE id = ?", teamId);
+    }
+}
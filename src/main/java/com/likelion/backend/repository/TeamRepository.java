@@ -2,6 +2,13 @@ package com.likelion.backend.repository;
 
 import com.likelion.backend.domain.Team;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
 
 public interface TeamRepository extends JpaRepository<Team, Long> {
+
+    // 팀과 멤버 id 목록을 한 번에 조회 (저장된 순서 유지, 0번째가 리더)
+    @Query("SELECT t FROM Team t LEFT JOIN FETCH t.memberIds ORDER BY t.id")
+    List<Team> findAllWithMemberIds();
 }
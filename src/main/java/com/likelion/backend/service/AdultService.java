@@ -1,55 +1,122 @@
 package com.likelion.backend.service;
 
-import com.likelion.backend.domain.QuestionResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.likelion.backend.dto.response.AdultResponseDto;
 import com.likelion.backend.dto.response.AdultWrapperResponseDto;
 import com.likelion.backend.repository.QuestionResultRepository;
+import com.likelion.backend.repository.QuestionResultRepository.MemberKeywordAnswer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class AdultService {
 
+    static final int DEFAULT_PAGE_SIZE = 100;
+    static final int MAX_PAGE_SIZE = 1000;
+    private static final int FLUSH_INTERVAL = 100;
+    private static final byte[] NEW_LINE = {'\n'};
+
     private final QuestionResultRepository questionResultRepository;
+    private final ObjectMapper objectMapper;
 
+    // 전체 결과 한 번에 (멤버/질문은 조회 한 번으로 함께 가져옴)
     public AdultWrapperResponseDto getResultsGroupedByMember(){
-        List<QuestionResult> results = questionResultRepository.findAll();
-
-        // 1) memberName 기준으로 그룹핑
-        Map<Long, List<QuestionResult>> grouped = results.stream()
-                .collect(Collectors.groupingBy(result -> result.getMember().getId()));
-
-        // 2) DTO로 변환
-        List<AdultResponseDto> dtoList = grouped.entrySet().stream()
-                .map(entry -> {
-                            Long memberId = entry.getKey();
-                            List<QuestionResult> qrList = entry.getValue();
-
-                            // answers를 Map<questionKeyword, answer> 형태로 변환
-                            Map<String, String> answersMap = qrList.stream()
-                                    .collect(Collectors.toMap(
-                                            qr -> qr.getQuestion().getKeyword(), // key
-                                            QuestionResult::getAnswer                    // value
-                                    ));
-
-                            return AdultResponseDto.builder()
-                                    .memberId(memberId)
-                                    .memberName(qrList.get(0).getMember().getName())
-                                    .answers(answersMap)
-                                    .build();
-                        }
-                )
-                .toList();
+        List<AdultResponseDto> dtoList = new ArrayList<>();
+        groupByMember(questionResultRepository.findAllMemberKeywordAnswers().iterator(), dtoList::add);
 
         return AdultWrapperResponseDto.builder()
                 .memberCount(dtoList.size())
                 .results(dtoList)
                 .build();
+    }
+
+    // 멤버 id 기준 키셋 페이지 - after 다음 멤버부터 size명 (다음 페이지는 nextAfter로 요청)
+    public AdultWrapperResponseDto getResultsPage(Long after, Integer size) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : size;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+
+        List<Long> memberIds = questionResultRepository.findAnsweredMemberIdsAfter(
+                after == null ? 0 : after, PageRequest.of(0, pageSize));
+        List<AdultResponseDto> dtoList = new ArrayList<>(memberIds.size());
+        if (!memberIds.isEmpty()) {
+            groupByMember(questionResultRepository.findMemberKeywordAnswers(memberIds).iterator(), dtoList::add);
+        }
 
+        return AdultWrapperResponseDto.builder()
+                .memberCount(dtoList.size())
+                .results(dtoList)
+                // 꽉 찬 페이지면 다음 페이지가 있을 수 있음
+                .nextAfter(memberIds.size() == pageSize ? memberIds.get(memberIds.size() - 1) : null)
+                .build();
+    }
+
+    // 멤버 한 명당 JSON 한 줄(NDJSON)로 바로바로 기록 - 한 번에 한 멤버의 응답만 메모리에 둠
+    // 첫 줄은 즉시, 이후에는 FLUSH_INTERVAL명마다 내보냄
+    @Transactional(readOnly = true)
+    public void streamResultsGroupedByMember(OutputStream out) throws IOException {
+        int[] written = {0};
+        try (Stream<MemberKeywordAnswer> rows = questionResultRepository.streamAllMemberKeywordAnswers()) {
+            groupByMember(rows.iterator(), dto -> {
+                try {
+                    out.write(objectMapper.writeValueAsBytes(dto));
+                    out.write(NEW_LINE);
+                    if (written[0]++ % FLUSH_INTERVAL == 0) {
+                        out.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        out.flush();
+    }
+
+    // 멤버 순으로 정렬된 행을 연속 구간별로 묶어 멤버 하나씩 넘김
+    // answers는 Map<questionKeyword, answer> (같은 키워드면 나중 응답)
+    private static void groupByMember(Iterator<MemberKeywordAnswer> rows, Consumer<AdultResponseDto> sink) {
+        Long memberId = null;
+        String memberName = null;
+        Map<String, String> answers = null;
+        while (rows.hasNext()) {
+            MemberKeywordAnswer row = rows.next();
+            if (!row.getMemberId().equals(memberId)) {
+                if (memberId != null) {
+                    sink.accept(toDto(memberId, memberName, answers));
+                }
+                memberId = row.getMemberId();
+                memberName = row.getMemberName();
+                answers = new LinkedHashMap<>();
+            }
+            answers.put(row.getKeyword(), row.getAnswer());
+        }
+        if (memberId != null) {
+            sink.accept(toDto(memberId, memberName, answers));
+        }
+    }
+
+    private static AdultResponseDto toDto(Long memberId, String memberName, Map<String, String> answers) {
+        return AdultResponseDto.builder()
+                .memberId(memberId)
+                .memberName(memberName)
+                .answers(answers)
+                .build();
     }
 }
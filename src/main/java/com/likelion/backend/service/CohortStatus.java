@@ -0,0 +1,98 @@
+package com.likelion.backend.service;
+
+import com.likelion.backend.enums.Role;
+import com.likelion.backend.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// 아기사자 기수 현황(인원, 팀빌딩 완료 인원, 설문 응답 인원)을 메모리 카운터로 유지
+// 시작 시 집계 쿼리 한 번으로 채우고, 이후에는 가입/삭제/팀빌딩/초기화 트랜잭션이 커밋될 때 이벤트로만 갱신한다.
+@Component
+@RequiredArgsConstructor
+public class CohortStatus {
+
+    private final MemberRepository memberRepository;
+
+    private final AtomicLong babies = new AtomicLong();
+    private final AtomicLong built = new AtomicLong();
+    private final AtomicLong answered = new AtomicLong();
+
+    // 아기사자 가입 (일괄 등록은 청크 단위로 한 번)
+    public record MembersJoined(int count, int answeredCount) {
+    }
+
+    // 삭제된 아기사자 수 (그중 팀빌딩 완료/설문 응답 인원)
+    public record MembersDeleted(long count, long builtCount, long answeredCount) {
+    }
+
+    // 팀빌딩 저장 시 teamBuilt로 바뀐 아기사자 수
+    public record TeamsBuilt(int builtCount) {
+    }
+
+    public record TeamsCleared() {
+    }
+
+    // 팀 부분 수정(늦은 합류 배정, 팀에서 제외)으로 바뀐 팀빌딩 완료 인원 (+/-)
+    public record TeamMembershipChanged(int builtDelta) {
+    }
+
+    // DB 기준으로 다시 집계 (시작 시, 그리고 서비스를 거치지 않고 회원 데이터를 바꾼 경우)
+    @EventListener(ApplicationReadyEvent.class)
+    public void refresh() {
+        MemberRepository.CohortCounts counts = memberRepository.countCohort(Role.BABY);
+        babies.set(counts.getBabies());
+        built.set(counts.getBuilt());
+        answered.set(counts.getAnswered());
+    }
+
+    // 커밋된 변경만 반영 (트랜잭션 밖에서 발행되면 바로 반영)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(MembersJoined event) {
+        babies.addAndGet(event.count());
+        answered.addAndGet(event.answeredCount());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(MembersDeleted event) {
+        babies.addAndGet(-event.count());
+        built.addAndGet(-event.builtCount());
+        answered.addAndGet(-event.answeredCount());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(TeamsBuilt event) {
+        built.set(event.builtCount());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(TeamsCleared event) {
+        built.set(0);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(TeamMembershipChanged event) {
+        built.addAndGet(event.builtDelta());
+    }
+
+    public long babies() {
+        return babies.get();
+    }
+
+    public long built() {
+        return built.get();
+    }
+
+    public long answered() {
+        return answered.get();
+    }
+
+    // 팀빌딩 대상(아기사자) 중 미완료 멤버 존재 여부
+    public boolean hasUnbuiltMembers() {
+        return babies.get() > built.get();
+    }
+}
@@ -0,0 +1,350 @@
+package com.likelion.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.likelion.backend.domain.Member;
+import com.likelion.backend.domain.Question;
+import com.likelion.backend.dto.request.MemberImportRowDto;
+import com.likelion.backend.dto.response.MemberImportResponseDto;
+import com.likelion.backend.dto.response.MemberImportResponseDto.RowError;
+import com.likelion.backend.enums.Role;
+import com.likelion.backend.repository.MemberJdbcRepository;
+import com.likelion.backend.repository.QuestionRepository;
+import com.likelion.backend.repository.QuestionResultJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.regex.Pattern;
+
+// 기수 명단 일괄 등록 - NDJSON/CSV 본문을 한 줄씩 읽어 CHUNK_SIZE명 단위로 저장
+// 본문 전체를 메모리에 올리지 않으며, 청크마다 트랜잭션 하나(이름 조회 1 + 멤버 배치 1 + id 조회 1 + 응답 배치 1)로 처리한다.
+// 평문 비밀번호는 청크를 저장하기 전에 해시 풀에 한꺼번에 제출해 병렬로 해시한다.
+// 잘못된 행은 건너뛰고 줄 번호와 사유를 보고한다 (이미 저장된 청크는 되돌리지 않음).
+@Service
+@RequiredArgsConstructor
+public class MemberImportService {
+
+    static final int CHUNK_SIZE = 1000;
+    static final int MAX_REPORTED_ERRORS = 100;
+
+    private static final Pattern BCRYPT_HASH = Pattern.compile("^\\$2[aby]?\\$\\d{2}\\$[./A-Za-z0-9]{53}$");
+
+    private final MemberJdbcRepository memberJdbcRepository;
+    private final QuestionResultJdbcRepository questionResultJdbcRepository;
+    private final QuestionRepository questionRepository;
+    private final PasswordHasher passwordHasher;
+    private final TeamRosterCache teamRosterCache;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 한 줄에 JoinRequestDto와 같은 형태의 JSON 객체 하나 (+ 선택적으로 passwordHash)
+    public MemberImportResponseDto importNdjson(InputStream body) throws IOException {
+        ImportRun run = new ImportRun(knownQuestionIds());
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) continue;
+            MemberImportRowDto row;
+            try {
+                row = objectMapper.readValue(line, MemberImportRowDto.class);
+            } catch (JsonProcessingException e) {
+                run.reject(lineNumber, null, "JSON 형식이 올바르지 않습니다.");
+                continue;
+            }
+            run.add(lineNumber, row);
+        }
+        return run.finish();
+    }
+
+    // 첫 줄은 헤더: name, gender, password 또는 passwordHash, 나머지 열 이름은 질문 번호
+    // 따옴표로 감싼 값(쉼표, "" 이스케이프)은 지원하지만 한 값이 여러 줄에 걸치는 경우는 지원하지 않음
+    public MemberImportResponseDto importCsv(InputStream body) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        String headerLine = reader.readLine();
+        if (headerLine == null) {
+            throw new IllegalArgumentException("CSV 헤더가 없습니다.");
+        }
+        List<String> header = parseCsvLine(stripBom(headerLine));
+        if (header == null || !header.contains("name")) {
+            throw new IllegalArgumentException("CSV 헤더에 name 열이 필요합니다.");
+        }
+        for (String column : header) {
+            if (!isField(column) && !isQuestionNumber(column)) {
+                throw new IllegalArgumentException("알 수 없는 CSV 열입니다: " + column);
+            }
+        }
+
+        ImportRun run = new ImportRun(knownQuestionIds());
+        String line;
+        int lineNumber = 1;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) continue;
+            List<String> values = parseCsvLine(line);
+            if (values == null) {
+                run.reject(lineNumber, null, "닫히지 않은 따옴표가 있습니다.");
+                continue;
+            }
+            if (values.size() != header.size()) {
+                run.reject(lineNumber, null, "열 개수가 헤더와 다릅니다.");
+                continue;
+            }
+            Map<String, String> fields = new HashMap<>();
+            Map<String, String> answers = new LinkedHashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                String value = values.get(i);
+                if (isField(header.get(i))) {
+                    fields.put(header.get(i), value.isEmpty() ? null : value);
+                } else if (!value.isEmpty()) {
+                    answers.put(header.get(i), value);
+                }
+            }
+            run.add(lineNumber, new MemberImportRowDto(fields.get("name"), fields.get("password"),
+                    fields.get("passwordHash"), fields.get("gender"), answers));
+        }
+        return run.finish();
+    }
+
+    private Set<Long> knownQuestionIds() {
+        Set<Long> ids = new HashSet<>();
+        for (Question question : questionRepository.findAll()) {
+            ids.add(question.getId());
+        }
+        return ids;
+    }
+
+    private static boolean isField(String column) {
+        return column.equals("name") || column.equals("password") || column.equals("passwordHash") || column.equals("gender");
+    }
+
+    private static boolean isQuestionNumber(String column) {
+        return !column.isEmpty() && column.chars().allMatch(Character::isDigit);
+    }
+
+    private static String stripBom(String line) {
+        return line.startsWith("\uFEFF") ? line.substring(1) : line;
+    }
+
+    // 한 줄을 값 목록으로 (따옴표가 닫히지 않으면 null)
+    static List<String> parseCsvLine(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        value.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    value.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString().trim());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        values.add(value.toString().trim());
+        return values;
+    }
+
+    // 등록 한 번의 진행 상태 - 현재 청크와 결과 집계만 들고 있어 본문 크기와 상관없이 메모리 사용량이 일정
+    private class ImportRun {
+
+        private final Set<Long> questionIds;
+        private final Map<String, PendingMember> chunk = new LinkedHashMap<>();
+        private final List<RowError> errors = new ArrayList<>();
+        private int imported;
+        private int failed;
+
+        ImportRun(Set<Long> questionIds) {
+            this.questionIds = questionIds;
+        }
+
+        void add(int line, MemberImportRowDto row) {
+            String name = row.getName() == null ? null : row.getName().trim();
+            if (name == null || name.isEmpty()) {
+                reject(line, null, "이름이 없습니다.");
+                return;
+            }
+            if (chunk.containsKey(name)) {
+                reject(line, name, "이미 존재하는 사용자입니다.");
+                return;
+            }
+
+            Map<String, String> answers = row.getAnswers() == null ? Map.of() : row.getAnswers();
+            Map<Long, String> answersByQuestion = new LinkedHashMap<>();
+            for (Map.Entry<String, String> entry : answers.entrySet()) {
+                Long questionNumber = isQuestionNumber(entry.getKey()) ? Long.parseLong(entry.getKey()) : null;
+                if (questionNumber == null || !questionIds.contains(questionNumber)) {
+                    reject(line, name, entry.getKey() + "번 질문이 없습니다.");
+                    return;
+                }
+                answersByQuestion.put(questionNumber, entry.getValue());
+            }
+
+            // 평문은 청크를 저장하기 전에 한꺼번에 해시 (hashPasswords)
+            String rawPassword = null;
+            if (row.getPasswordHash() != null) {
+                if (!BCRYPT_HASH.matcher(row.getPasswordHash()).matches()) {
+                    reject(line, name, "passwordHash는 BCrypt 해시여야 합니다.");
+                    return;
+                }
+            } else if (row.getPassword() != null && !row.getPassword().isEmpty()) {
+                rawPassword = row.getPassword();
+            } else {
+                reject(line, name, "비밀번호가 없습니다.");
+                return;
+            }
+
+            var character = MemberService.determineCharacter(answers);
+            Member.MemberBuilder member = Member.builder()
+                    .name(name)
+                    .password(row.getPasswordHash())
+                    .role(Role.BABY)
+                    .gender(row.getGender())
+                    .answer(character.get("type"))
+                    .image(character.get("image"));
+            chunk.put(name, new PendingMember(line, name, member, rawPassword, answersByQuestion));
+            if (chunk.size() >= CHUNK_SIZE) {
+                flush();
+            }
+        }
+
+        void reject(int line, String name, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new RowError(line, name, message));
+            }
+        }
+
+        MemberImportResponseDto finish() {
+            flush();
+            return MemberImportResponseDto.builder()
+                    .imported(imported)
+                    .failed(failed)
+                    .errors(errors)
+                    .errorsTruncated(failed > errors.size())
+                    .build();
+        }
+
+        private void flush() {
+            if (chunk.isEmpty()) return;
+            hashPasswords();
+            List<PendingMember> rows = new ArrayList<>(chunk.values());
+            try {
+                save(rows);
+            } catch (DataIntegrityViolationException e) {
+                // 이름 확인과 insert 사이에 같은 이름이 가입된 경우 - 한 번 더 확인 후 저장
+                try {
+                    save(rows);
+                } catch (DataIntegrityViolationException again) {
+                    // 그래도 실패하면 한 명씩 저장해 실패한 행만 보고
+                    for (PendingMember row : rows) {
+                        try {
+                            save(List.of(row));
+                        } catch (DataIntegrityViolationException rowError) {
+                            reject(row.line(), row.name(), MemberService.isNameConflict(rowError)
+                                    ? "이미 존재하는 사용자입니다." : "저장할 수 없는 값이 있습니다.");
+                        }
+                    }
+                }
+            }
+            chunk.clear();
+        }
+
+        // 평문 비밀번호를 로그인과 같은 해시 풀에 한꺼번에 제출하고 기다림
+        // 대기열이 차서 거절된 행만 실패로 보고하고 등록은 계속한다.
+        private void hashPasswords() {
+            List<PendingMember> plain = new ArrayList<>();
+            for (PendingMember pending : chunk.values()) {
+                if (pending.rawPassword() != null) {
+                    plain.add(pending);
+                }
+            }
+            if (plain.isEmpty()) return;
+            List<String> hashes = passwordHasher.encodeAll(plain.stream().map(PendingMember::rawPassword).toList());
+            for (int i = 0; i < plain.size(); i++) {
+                PendingMember pending = plain.get(i);
+                if (hashes.get(i) == null) {
+                    reject(pending.line(), pending.name(), "요청이 많아 비밀번호를 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
+                    chunk.remove(pending.name());
+                } else {
+                    pending.member().password(hashes.get(i));
+                }
+            }
+        }
+
+        // 한 트랜잭션으로 저장하고 이미 있는 이름으로 빠진 행을 실패로 보고
+        private void save(List<PendingMember> rows) {
+            if (rows.isEmpty()) return;
+            List<PendingMember> duplicates = transactionTemplate.execute(status -> saveChunk(rows));
+            for (PendingMember duplicate : duplicates) {
+                reject(duplicate.line(), duplicate.name(), "이미 존재하는 사용자입니다.");
+            }
+            imported += rows.size() - duplicates.size();
+        }
+
+        // 이미 있는 이름은 빼고 저장한 뒤 빠진 멤버 목록 반환
+        private List<PendingMember> saveChunk(List<PendingMember> rows) {
+            Set<String> existing = memberJdbcRepository.findIdsByName(
+                    rows.stream().map(PendingMember::name).toList()).keySet();
+            List<PendingMember> duplicates = new ArrayList<>();
+            List<Member> members = new ArrayList<>(rows.size());
+            for (PendingMember pending : rows) {
+                if (existing.contains(pending.name())) {
+                    duplicates.add(pending);
+                } else {
+                    members.add(pending.member().build());
+                }
+            }
+            if (members.isEmpty()) {
+                return duplicates;
+            }
+            memberJdbcRepository.insertAll(members);
+
+            // 생성된 멤버 id는 이름으로 한 번에 다시 읽어옴
+            Map<String, Long> ids = memberJdbcRepository.findIdsByName(
+                    members.stream().map(Member::getName).toList());
+            Map<Long, Map<Long, String>> answersByMember = new HashMap<>();
+            for (Member member : members) {
+                answersByMember.put(ids.get(member.getName()), chunk.get(member.getName()).answers());
+            }
+            questionResultJdbcRepository.insertAll(answersByMember);
+
+            // 팀 명단의 미완료 멤버 여부가 바뀌므로 기수 현황 갱신 후 캐시 무효화 (커밋 후)
+            int answeredCount = (int) answersByMember.values().stream().filter(answers -> !answers.isEmpty()).count();
+            eventPublisher.publishEvent(new CohortStatus.MembersJoined(members.size(), answeredCount));
+            teamRosterCache.invalidate();
+            return duplicates;
+        }
+    }
+
+    // 저장 대기 중인 행 - 평문 비밀번호(rawPassword)는 해시한 뒤 member에 채움
+    private record PendingMember(int line, String name, Member.MemberBuilder member, String rawPassword,
+                                 Map<Long, String> answers) {
+    }
+}
@@ -2,25 +2,43 @@ package com.likelion.backend.service;
 
 import com.likelion.backend.domain.Member;
 import com.likelion.backend.domain.Question;
-import com.likelion.backend.domain.QuestionResult;
 import com.likelion.backend.dto.request.JoinRequestDto;
 import com.likelion.backend.dto.request.LoginRequestDto;
+import com.likelion.backend.dto.request.MemberBulkDeleteRequestDto;
 import com.likelion.backend.dto.response.JoinResponseDto;
 import com.likelion.backend.dto.response.LoginResponseDto;
+import com.likelion.backend.dto.response.MemberBulkDeleteResponseDto;
 import com.likelion.backend.dto.response.MyResponseDto;
 import com.likelion.backend.enums.Role;
 import com.likelion.backend.jwt.JwtTokenProvider;
+import com.likelion.backend.repository.MemberJdbcRepository;
 import com.likelion.backend.repository.MemberRepository;
 import com.likelion.backend.repository.QuestionRepository;
+import com.likelion.backend.repository.QuestionResultJdbcRepository;
 import com.likelion.backend.repository.QuestionResultRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -29,19 +47,53 @@ public class MemberService {
     private final MemberRepository memberRepository;
     private final QuestionRepository questionRepository;
     private final QuestionResultRepository questionResultRepository;
+    private final QuestionResultJdbcRepository questionResultJdbcRepository;
+    private final MemberJdbcRepository memberJdbcRepository;
     private final JwtTokenProvider jwtTokenProvider;
+    private final TeamRosterCache teamRosterCache;
+    private final TeamMaintenanceService teamMaintenanceService;
+    private final TransactionTemplate transactionTemplate;
+
+    // 비밀번호 해시는 전용 스레드 풀에서 처리 (대기열 초과 시 503)
+    private final PasswordHasher passwordHasher;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 같은 이름의 가입을 이 인스턴스 안에서 차례로 처리 (이름 해시로 고른 잠금)
+    // 유니크 제약이 없는 DB(중복 정리 전 등)에서도 조회 후 저장 사이에 같은 이름이 끼어들지 않게 한다.
+    private static final int NAME_LOCK_STRIPES = 256;
+    private final ReentrantLock[] nameLocks =
+            Stream.generate(ReentrantLock::new).limit(NAME_LOCK_STRIPES).toArray(ReentrantLock[]::new);
+
+    // 로그인/가입 소요 시간은 성공/실패별로 기록 (member.login, member.join)
+    public LoginResponseDto login(LoginRequestDto dto) {
+        return timed("member.login", () -> authenticate(dto));
+    }
 
-    // 비밀번호 인코더 DI (생성자 주입)
-    private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    public JoinResponseDto join(JoinRequestDto dto) {
+        return timed("member.join", () -> register(dto));
+    }
 
-    public LoginResponseDto login(LoginRequestDto dto) {
+    private <T> T timed(String name, Supplier<T> body) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+        try {
+            T result = body.get();
+            outcome = "success";
+            return result;
+        } finally {
+            sample.stop(meterRegistry.timer(name, "outcome", outcome));
+        }
+    }
+
+    private LoginResponseDto authenticate(LoginRequestDto dto) {
 
         // 1) 사용자 조회
         Member member = memberRepository.findByName(dto.getName())
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
 
         // 2) 비밀번호 검증
-        if (!bCryptPasswordEncoder.matches(dto.getPassword(), member.getPassword())) {
+        if (!passwordHasher.matches(dto.getPassword(), member.getPassword())) {
             throw new ResponseStatusException(HttpStatus.CONFLICT, "비밀번호가 틀렸습니다.");
         }
 
@@ -62,51 +114,97 @@ public class MemberService {
         );
     }
 
-    public JoinResponseDto join(JoinRequestDto dto){
+    private JoinResponseDto register(JoinRequestDto dto){
 
-        if (memberRepository.existsByName(dto.getName())) {
-            throw new IllegalArgumentException("이미 존재하는 사용자입니다.");
-        }
+        Map<String, String> answers = dto.getAnswers() == null ? Map.of() : dto.getAnswers();
 
-        Map<String, String> answers = dto.getAnswers();
+        // 질문 번호 -> 답변 (입력 순서 유지)
+        Map<Long, String> answersByQuestion = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry : answers.entrySet()) {
+            answersByQuestion.put(Long.parseLong(entry.getKey()), entry.getValue());
+        }
 
         // 1) 캐릭터 타입 & 이미지 계산
         var result = determineCharacter(answers);
 
+        ReentrantLock nameLock = nameLocks[Math.floorMod(Objects.hashCode(dto.getName()), NAME_LOCK_STRIPES)];
+        nameLock.lock();
+        try {
+            return register(dto, answersByQuestion, result);
+        } finally {
+            nameLock.unlock();
+        }
+    }
+
+    // 이름 잠금을 잡은 채로 조회 → 해시 → 저장(커밋)
+    private JoinResponseDto register(JoinRequestDto dto, Map<Long, String> answersByQuestion, Map<String, String> result) {
+
+        // 이미 있는 이름이면 해시 전에 바로 거절
+        // (다른 인스턴스와의 동시 가입은 아래 유니크 제약으로 막음)
+        if (memberRepository.existsByName(dto.getName())) {
+            throw new IllegalArgumentException("이미 존재하는 사용자입니다.");
+        }
+
         // 2) Member 처음부터 answer/image 포함하여 생성
+        // 비밀번호 해시는 트랜잭션 밖에서 (해시 대기 중 DB 커넥션을 잡고 있지 않도록)
         Member member = Member.builder()
                 .name(dto.getName())
-                .password(bCryptPasswordEncoder.encode(dto.getPassword()))
+                .password(passwordHasher.encode(dto.getPassword()))
                 .role(Role.BABY)
                 .gender(dto.getGender())
                 .answer(result.get("type"))
                 .image(result.get("image"))
                 .build();
 
-        memberRepository.save(member);
-
-        // 3) 질문 저장 (QuestionResult)
-        for (Map.Entry<String, String> entry : answers.entrySet()) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> saveMember(member, answersByQuestion));
+        } catch (DataIntegrityViolationException e) {
+            // 이름 유니크 제약 위반 (동시 가입)만 중복으로 보고, 다른 제약 위반은 그대로 던짐
+            if (isNameConflict(e)) {
+                throw new IllegalArgumentException("이미 존재하는 사용자입니다.", e);
+            }
+            throw e;
+        }
 
-            Long questionNumber = Long.parseLong(entry.getKey());
-            String answerText = entry.getValue();
+        return JoinResponseDto.fromEntity(member);
+    }
 
-            Question question = questionRepository.findById(questionNumber)
-                    .orElseThrow(() -> new RuntimeException(questionNumber + "번 질문이 없습니다."));
+    // 위반한 제약이 이름 유니크 제약(uk_member_name)인지
+    // DB마다 제약 이름 표기가 달라(H2는 대문자 + 인덱스 접미사) 대소문자 무시하고 포함 여부로 비교
+    static boolean isNameConflict(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                String constraint = violation.getConstraintName();
+                return constraint != null
+                        && constraint.toLowerCase(Locale.ROOT).contains(Member.NAME_CONSTRAINT);
+            }
+        }
+        return false;
+    }
 
-            QuestionResult qr = QuestionResult.builder()
-                    .member(member)
-                    .question(question)
-                    .answer(answerText)
-                    .build();
+    // 멤버 insert 1회 + 질문 조회 1회 + 응답 배치 insert 1회를 한 트랜잭션으로
+    private void saveMember(Member member, Map<Long, String> answersByQuestion) {
+        memberRepository.saveAndFlush(member);
 
-            questionResultRepository.save(qr);
+        // 3) 질문 저장 (QuestionResult)
+        Set<Long> questionIds = new HashSet<>();
+        for (Question question : questionRepository.findAllById(answersByQuestion.keySet())) {
+            questionIds.add(question.getId());
+        }
+        for (Long questionNumber : answersByQuestion.keySet()) {
+            if (!questionIds.contains(questionNumber)) {
+                throw new RuntimeException(questionNumber + "번 질문이 없습니다.");
+            }
         }
+        questionResultJdbcRepository.insertAll(member.getId(), answersByQuestion);
 
-        return JoinResponseDto.fromEntity(member);
+        // 팀 명단의 미완료 멤버 여부가 바뀌므로 기수 현황 갱신 후 캐시 무효화 (커밋 후)
+        eventPublisher.publishEvent(new CohortStatus.MembersJoined(1, answersByQuestion.isEmpty() ? 0 : 1));
+        teamRosterCache.invalidate();
     }
 
-    private Map<String, String> determineCharacter(Map<String, String> answers) {
+    // 일괄 등록(MemberImportService)에서도 같은 규칙으로 계산
+    static Map<String, String> determineCharacter(Map<String, String> answers) {
 
         // 1번
         String s1 = answers.get("1");
@@ -168,7 +266,8 @@ public class MemberService {
             }
         }
 
-        return Map.of("type", null, "image", null);
+        // 해당 없음 (type/image 모두 null) - Map.of는 null 값을 허용하지 않음
+        return Map.of();
     }
 
     public MyResponseDto my(Long id){
@@ -200,10 +299,56 @@ public class MemberService {
 
     @Transactional
     public void deleteMember(Long id) {
-        Member member = memberRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("해당 사용자를 찾을 수 없습니다."));
-        questionResultRepository.deleteAllByMember_Id(id);
-        memberRepository.delete(member);
+        if (!memberRepository.existsById(id)) {
+            throw new IllegalArgumentException("해당 사용자를 찾을 수 없습니다.");
+        }
+        // 팀에 속해 있으면 먼저 팀에서 빼고 부족해진 인원만 보충 (다른 팀은 그대로)
+        teamMaintenanceService.removeIfAssigned(id);
+        deleteAll(List.of(id), null);
+    }
+
+    // 관리자 일괄 삭제 (id 목록 또는 역할 단위) - 응답, 팀 소속, 회원을 집합 단위 DELETE로 한 트랜잭션에서 삭제
+    public MemberBulkDeleteResponseDto deleteMembers(MemberBulkDeleteRequestDto dto) {
+        boolean hasIds = dto.getIds() != null && !dto.getIds().isEmpty();
+        boolean hasRole = dto.getRole() != null && !dto.getRole().isBlank();
+        if (hasIds == hasRole) {
+            throw new IllegalArgumentException("ids와 role 중 하나만 지정해주세요.");
+        }
+        Role role = hasRole ? parseRole(dto.getRole()) : null;
+        List<Long> ids = hasIds ? List.copyOf(new LinkedHashSet<>(dto.getIds())) : null;
+
+        MemberJdbcRepository.DeletedRows deleted = transactionTemplate.execute(status -> deleteAll(ids, role));
+        return MemberBulkDeleteResponseDto.builder()
+                .deletedMembers(deleted.members())
+                .deletedAnswers(deleted.answers())
+                .removedTeamMemberships(deleted.teamMemberships())
+                .build();
+    }
+
+    // ids가 있으면 id 목록, 없으면 role 전체 (트랜잭션 안에서 호출)
+    private MemberJdbcRepository.DeletedRows deleteAll(List<Long> ids, Role role) {
+        // 기수 현황 갱신용으로 삭제 대상 중 아기사자 현황을 먼저 집계
+        MemberRepository.CohortCounts counts = ids != null ? memberRepository.countCohort(Role.BABY, ids)
+                : role == Role.BABY ? memberRepository.countCohort(Role.BABY) : null;
+        MemberJdbcRepository.DeletedRows deleted = ids != null
+                ? memberJdbcRepository.deleteAllById(ids)
+                : memberJdbcRepository.deleteAllByRole(role);
+        // 리더가 지워진 팀은 팀빌딩과 같은 기준으로 남은 멤버 중에서 리더를 다시 뽑음
+        teamMaintenanceService.reelectLeaders(deleted.leaderlessTeams());
+
+        if (counts != null) {
+            eventPublisher.publishEvent(new CohortStatus.MembersDeleted(counts.getBabies(), counts.getBuilt(), counts.getAnswered()));
+        }
+        teamRosterCache.invalidate();
+        return deleted;
+    }
+
+    private static Role parseRole(String role) {
+        try {
+            return Role.valueOf(role.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 역할입니다: " + role);
+        }
     }
 
 }
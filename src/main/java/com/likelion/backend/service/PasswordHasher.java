@@ -0,0 +1,144 @@
+package com.likelion.backend.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// BCrypt 해시/비교를 전용 스레드 풀에서 실행하는 컴포넌트
+// 동시에 해시하는 스레드 수와 대기열 길이를 제한해 로그인/가입이 몰려도 다른 요청이 CPU를 쓸 수 있게 하고,
+// 대기열이 가득 차면 기다리지 않고 바로 503(Retry-After)으로 거절한다.
+@Component
+public class PasswordHasher {
+
+    private final BCryptPasswordEncoder encoder;
+    private final ThreadPoolExecutor executor;
+    private final long retryAfterSeconds;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejected;
+
+    public PasswordHasher(BCryptPasswordEncoder encoder,
+                          MeterRegistry meterRegistry,
+                          @Value("${password-hashing.workers:0}") int workers,
+                          @Value("${password-hashing.queue-capacity:32}") int queueCapacity,
+                          @Value("${password-hashing.retry-after-seconds:2}") long retryAfterSeconds) {
+        this.encoder = encoder;
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        // 기본값은 CPU 절반 (나머지는 일반 요청 처리용)
+        int poolSize = workers > 0 ? workers : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTimer = Timer.builder("password.hash.duration")
+                .description("BCrypt 해시 소요 시간 (대기 시간 제외)")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hash.duration")
+                .description("BCrypt 해시 소요 시간 (대기 시간 제외)")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("password.hash.rejected")
+                .description("대기열 초과로 거절된 해시 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.queue.depth", executor, e -> e.getQueue().size())
+                .description("해시 대기열 길이")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("해시 중인 스레드 수")
+                .register(meterRegistry);
+    }
+
+    public String encode(CharSequence rawPassword) {
+        return run(() -> encodeTimer.recordCallable(() -> encoder.encode(rawPassword)));
+    }
+
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> matchesTimer.recordCallable(() -> encoder.matches(rawPassword, encodedPassword)));
+    }
+
+    // 여러 비밀번호를 해시 풀에 나눠 제출하고 모두 끝날 때까지 기다림 (결과는 입력 순서대로)
+    // 한 호출이 대기열을 다 차지하지 않도록 제출해 두는 작업은 작업 스레드 수만큼으로 제한하며,
+    // 대기열이 가득 차 거절된 항목은 예외 대신 null로 돌려준다.
+    public List<String> encodeAll(List<? extends CharSequence> rawPasswords) {
+        int window = executor.getMaximumPoolSize();
+        List<Future<String>> futures = new ArrayList<>(rawPasswords.size());
+        Deque<Future<String>> inFlight = new ArrayDeque<>(window);
+        try {
+            for (CharSequence rawPassword : rawPasswords) {
+                if (inFlight.size() >= window) {
+                    await(inFlight.poll());
+                }
+                try {
+                    Future<String> future = executor.submit(() -> encodeTimer.recordCallable(() -> encoder.encode(rawPassword)));
+                    futures.add(future);
+                    inFlight.add(future);
+                } catch (RejectedExecutionException e) {
+                    rejected.increment();
+                    futures.add(null);
+                }
+            }
+            List<String> hashes = new ArrayList<>(futures.size());
+            for (Future<String> future : futures) {
+                hashes.add(future == null ? null : await(future));
+            }
+            return hashes;
+        } catch (RuntimeException e) {
+            for (Future<String> future : futures) {
+                if (future != null) future.cancel(true);
+            }
+            throw e;
+        }
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new ServiceBusyException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", retryAfterSeconds);
+        }
+        return await(future);
+    }
+
+    private <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceBusyException("요청 처리가 중단되었습니다. 잠시 후 다시 시도해주세요.", retryAfterSeconds);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,91 @@
+package com.likelion.backend.service;
+
+import com.likelion.backend.domain.Question;
+import com.likelion.backend.enums.QuestionRole;
+import com.likelion.backend.repository.QuestionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 질문 id -> 질문 역할(QuestionRole) 매핑을 메모리에 들고 있는 카탈로그
+// 시작 시, 그리고 질문이 추가될 때 한 번만 질문 내용/키워드를 해석하고, 응답 처리 시에는 id로만 역할을 찾는다.
+@Component
+@RequiredArgsConstructor
+public class QuestionCatalog {
+
+    private final QuestionRepository questionRepository;
+
+    // 질문 id -> 역할 비트마스크 (QuestionRole.mask()의 합), 아직 읽지 않았으면 null
+    private volatile Map<Long, Integer> roleMasks;
+    // 최초 로딩(DB 조회) 동안 잡는 락
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void refresh() {
+        roleMasks = resolve(questionRepository.findAll());
+    }
+
+    public int roleMask(Long questionId) {
+        return questionId == null ? 0 : masks().getOrDefault(questionId, 0);
+    }
+
+    public boolean is(QuestionRole role, Long questionId) {
+        return (roleMask(questionId) & role.mask()) != 0;
+    }
+
+    // 주어진 역할 중 하나라도 가진 질문 id 목록
+    public Set<Long> questionIds(QuestionRole... roles) {
+        int mask = 0;
+        for (QuestionRole role : roles) {
+            mask |= role.mask();
+        }
+        Set<Long> ids = new HashSet<>();
+        for (Map.Entry<Long, Integer> entry : masks().entrySet()) {
+            if ((entry.getValue() & mask) != 0) ids.add(entry.getKey());
+        }
+        return ids;
+    }
+
+    private Map<Long, Integer> masks() {
+        Map<Long, Integer> masks = roleMasks;
+        if (masks == null) {
+            loadLock.lock();
+            try {
+                if (roleMasks == null) {
+                    refresh();
+                }
+                masks = roleMasks;
+            } finally {
+                loadLock.unlock();
+            }
+        }
+        return masks;
+    }
+
+    // 역할 키워드가 지정된 질문이 있으면 키워드로, 없으면 질문 내용 문구로 역할을 정함
+    static Map<Long, Integer> resolve(List<Question> questions) {
+        Set<QuestionRole> keywordRoles = EnumSet.noneOf(QuestionRole.class);
+        for (Question question : questions) {
+            for (QuestionRole role : QuestionRole.values()) {
+                if (role.getKeyword().equalsIgnoreCase(question.getKeyword())) keywordRoles.add(role);
+            }
+        }
+
+        Map<Long, Integer> masks = new HashMap<>();
+        for (Question question : questions) {
+            int mask = 0;
+            for (QuestionRole role : QuestionRole.values()) {
+                boolean matches = keywordRoles.contains(role)
+                        ? role.getKeyword().equalsIgnoreCase(question.getKeyword())
+                        : question.getContent() != null && question.getContent().contains(role.getLegacyPhrase());
+                if (matches) mask |= role.mask();
+            }
+            if (mask != 0) masks.put(question.getId(), mask);
+        }
+        return Map.copyOf(masks);
+    }
+}
@@ -0,0 +1,8 @@
+package com.likelion.backend.service;
+
+import org.springframework.stereotype.Component;
+
+// GET /question 응답 캐시 - 질문이 추가되면 무효화되고 바로 다시 만들어 두므로, 평상시 조회는 메모리 복사만 한다.
+@Component
+public class QuestionListCache extends SerializedResponseCache {
+}
@@ -1,11 +1,16 @@
 package com.likelion.backend.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.likelion.backend.domain.Question;
 import com.likelion.backend.dto.request.QuestionRequestDto;
 import com.likelion.backend.dto.response.QuestionResponseDto;
 import com.likelion.backend.repository.QuestionRepository;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -14,16 +19,47 @@ import java.util.List;
 public class QuestionService {
 
     private final QuestionRepository questionRepository;
+    private final QuestionCatalog questionCatalog;
+    private final EntityManagerFactory entityManagerFactory;
+    private final QuestionListCache questionListCache;
+    private final ObjectMapper objectMapper;
 
     public QuestionResponseDto postQuestion(QuestionRequestDto questionRequestDto){
         // 질문 생성
         Question question = questionRequestDto.toEntity();
         questionRepository.save(question);
+        evictQuestionCache();
+        // 새 질문의 역할(리더/음주/MBTI 등) 반영
+        questionCatalog.refresh();
+        // GET /question 스냅샷을 새 목록으로 바로 다시 만들어 둠
+        questionListCache.invalidate();
+        getQuestionList();
         return QuestionResponseDto.fromEntity(question);
     }
 
+    // 질문/보기/조회 결과 2차 캐시를 비움 (insert 시 Hibernate도 쿼리 캐시를 무효화하지만 직접 수정된 경우까지 대비)
+    private void evictQuestionCache() {
+        Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+        cache.evictEntityData(Question.class);
+        cache.evictCollectionData(Question.class.getName() + ".choices");
+        cache.evictQueryRegions();
+    }
+
+    // 미리 직렬화해 둔 질문 목록 (질문이 추가될 때만 다시 만듦)
+    public SerializedResponseCache.Entry getQuestionList() {
+        return questionListCache.get(() -> {
+            try {
+                return objectMapper.writeValueAsBytes(getQuestion());
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("질문 목록 직렬화 실패", e);
+            }
+        });
+    }
+
+    // 질문과 보기 목록을 조인 쿼리 한 번으로 읽음
+    @Transactional(readOnly = true)
     public List<QuestionResponseDto> getQuestion(){
-        return questionRepository.findAll().stream()
+        return questionRepository.findAllWithChoices().stream()
                 .map(QuestionResponseDto::fromEntity)
                 .toList();
     }
@@ -0,0 +1,80 @@
+package com.likelion.backend.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+// 응답 본문(JSON 바이트)을 데이터 버전별로 한 번만 만들어 재사용하는 캐시 (팀 명단, 질문 목록)
+// 데이터 변경이 커밋되면 버전이 올라가고, 다음 조회 때 한 번만 다시 만든다.
+public class SerializedResponseCache {
+
+    private final AtomicLong version = new AtomicLong();
+    private volatile Entry cached;
+    // loader가 DB를 읽는 동안 잡는 락
+    // synchronized 블록 안에서 DB 대기를 하면 가상 스레드가 캐리어 스레드에 고정(pinning)되므로,
+    // 이 프로젝트에서 I/O를 감싸는 락은 synchronized 대신 ReentrantLock을 쓴다.
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    @Getter
+    @AllArgsConstructor
+    public static class Entry {
+        private final long version;
+        private final byte[] body;
+        private final String etag;
+    }
+
+    // 현재 버전의 본문 반환 - 캐시가 없거나 오래됐으면 loader로 한 번만 다시 만듦 (동시 요청은 대기 후 재사용)
+    public Entry get(Supplier<byte[]> loader) {
+        Entry entry = cached;
+        if (entry != null && entry.getVersion() == version.get()) {
+            return entry;
+        }
+        rebuildLock.lock();
+        try {
+            // 조회 전에 읽은 버전으로 저장하므로, 만드는 도중 무효화되면 다음 조회 때 다시 만든다
+            long current = version.get();
+            entry = cached;
+            if (entry != null && entry.getVersion() == current) {
+                return entry;
+            }
+            byte[] body = loader.get();
+            entry = new Entry(current, body, etag(body));
+            cached = entry;
+            return entry;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    // 트랜잭션 안이면 커밋 후에, 밖이면 바로 버전 증가 (커밋 전 데이터로 캐시가 채워지는 것 방지)
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    version.incrementAndGet();
+                }
+            });
+        } else {
+            version.incrementAndGet();
+        }
+    }
+
+    // 내용 기반 ETag - 서버 재시작으로 버전이 초기화돼도 내용이 다르면 ETag도 다름
+    static String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
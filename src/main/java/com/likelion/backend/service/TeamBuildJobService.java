@@ -0,0 +1,75 @@
+package com.likelion.backend.service;
+
+import com.likelion.backend.service.teambuilding.TeamBuildJob;
+import com.likelion.backend.service.teambuilding.TeamBuildJobRunner;
+import com.likelion.backend.service.teambuilding.TeamBuildingOptions;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+// 팀빌딩을 HTTP 요청 스레드와 분리해 전용 executor에서 실행하고 진행 상황을 조회/취소할 수 있게 하는 서비스
+// 동시에 실행되는 빌드 수(workers)와 대기열 길이(queue-capacity)를 제한해 다른 요청이 밀리지 않게 한다.
+@Service
+public class TeamBuildJobService {
+
+    private static final long RETRY_AFTER_SECONDS = 10;
+
+    private final TeamBuildingService teamBuildingService;
+    private final ThreadPoolExecutor executor;
+    private final long retentionMinutes;
+    private final Map<String, TeamBuildJob> jobs = new ConcurrentHashMap<>();
+
+    public TeamBuildJobService(TeamBuildingService teamBuildingService,
+                               @Value("${team-build.jobs.workers:1}") int workers,
+                               @Value("${team-build.jobs.queue-capacity:8}") int queueCapacity,
+                               @Value("${team-build.jobs.retention-minutes:30}") long retentionMinutes) {
+        this.teamBuildingService = teamBuildingService;
+        this.retentionMinutes = retentionMinutes;
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), TeamBuildJobRunner.threadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // 요청 값은 바로 검증하고(잘못되면 IllegalArgumentException), 빌드는 대기열에 넣은 뒤 작업 ID 반환
+    public TeamBuildJob submit(TeamBuildingOptions options) {
+        teamBuildingService.validate(options);
+        evictFinishedJobs();
+
+        TeamBuildJob job = new TeamBuildJob(UUID.randomUUID().toString(), options);
+        jobs.put(job.getId(), job);
+        try {
+            TeamBuildJobRunner.submit(executor, job, teamBuildingService::buildAndSaveTeams);
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            throw new ServiceBusyException("대기 중인 팀빌딩 작업이 너무 많습니다. 잠시 후 다시 시도해주세요.", RETRY_AFTER_SECONDS);
+        }
+        return job;
+    }
+
+    public Optional<TeamBuildJob> find(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    // 이미 끝났거나 저장 단계에 들어간 작업이면 false
+    public boolean cancel(TeamBuildJob job) {
+        return TeamBuildJobRunner.cancel(executor, job);
+    }
+
+    // 끝난 지 retention-minutes가 지난 작업은 조회 대상에서 제거
+    private void evictFinishedJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(retentionMinutes);
+        jobs.values().removeIf(job -> job.getFinishedAt() != null && job.getFinishedAt().isBefore(threshold));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobs.values().forEach(TeamBuildJob::cancel);
+        executor.shutdownNow();
+    }
+}
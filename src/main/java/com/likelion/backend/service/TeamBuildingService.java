@@ -1,294 +1,201 @@
 package com.likelion.backend.service;
 
 import com.likelion.backend.domain.Member;
-import com.likelion.backend.domain.QuestionResult;
 import com.likelion.backend.domain.Team;
 import com.likelion.backend.dto.response.TeamMemberDto;
 import com.likelion.backend.dto.response.TeamOutputDto;
+import com.likelion.backend.dto.response.TeamPreviewResponseDto;
+import com.likelion.backend.enums.QuestionRole;
 import com.likelion.backend.enums.Role;
+import com.likelion.backend.enums.TeamBuildPhase;
 import com.likelion.backend.repository.MemberRepository;
 import com.likelion.backend.repository.QuestionResultRepository;
+import com.likelion.backend.repository.TeamJdbcRepository;
 import com.likelion.backend.repository.TeamRepository;
+import com.likelion.backend.service.teambuilding.*;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.*;
-import java.util.function.Function;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class TeamBuildingService {
 
+    // 팀 명단에 표시하는 질문 역할
+    private static final QuestionRole[] ROSTER_ROLES = {
+            QuestionRole.MBTI, QuestionRole.DRINK, QuestionRole.HOBBY, QuestionRole.FOOD, QuestionRole.WILD_LION};
+
+    // 미리보기 한 번에 평가할 수 있는 팀 수 구성 개수
+    static final int MAX_PREVIEW_CONFIGURATIONS = 20;
+    // 미리보기 한 번에 쓸 수 있는 계산 시간 (모든 구성 합계)
+    static final long PREVIEW_TIME_BUDGET_MILLIS = 10_000;
+
     private final MemberRepository memberRepository;
     private final QuestionResultRepository questionResultRepository;
+    private final QuestionCatalog questionCatalog;
     private final TeamRepository teamRepository;
+    private final TeamJdbcRepository teamJdbcRepository;
+    private final MemberFeatureSnapshotLoader snapshotLoader;
+    private final GreedyTeamAssignmentStrategy greedyStrategy;
+    private final List<TeamAssignmentStrategy> strategies;
+    private final TransactionTemplate transactionTemplate;
+    private final TeamRosterCache rosterCache;
+    private final ObjectMapper objectMapper;
+    private final TeamBuildMetrics teamBuildMetrics;
+    private final CohortStatus cohortStatus;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ParallelTasks parallelTasks;
 
     // 총 멤버 수, 만들 팀 수 입력받음
     public List<TeamOutputDto> buildBalancedTeams(int totalMembers, int teamCount) {
 
-        // 아기사자 대상으로 한정
-        List<Member> allMembers = memberRepository.findByRole(Role.BABY).stream()
-                .sorted(Comparator.comparing(Member::getId))  // ID 오름차순 정렬해서 오래된 멤버부터
-                .toList();
-        List<Member> members = allMembers.subList(0, Math.min(totalMembers, allMembers.size()));
-
-        // 1. 리더 점수로 리더 선발 <- 질문 1 답이 높을수록 리더형!
-        Map<Member, Integer> leaderScoreMap = new HashMap<>();
-        for (Member m : members) {
-            leaderScoreMap.put(m, getLeaderScore(m));
-        }
-
-        // 리더 점수 높은 순으로 정렬하여 팀 수만큼 리더 선발
-        List<Member> leaders = leaderScoreMap.entrySet().stream()
-                .sorted(Map.Entry.<Member, Integer>comparingByValue(Comparator.reverseOrder())
-                        .thenComparing(e -> e.getKey().getId()))
-                .limit(teamCount)
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toList());
-
-
-        // 2. 리더 음주 점수 추출 & 리더 정렬 (음주 내림차순) <- 질문 2 답이 높을수록 애주가
-        leaders.sort((a, b) -> Integer.compare(getDrinkScore(b), getDrinkScore(a)));
-
-        // 3. 리더 제외 팔로워 분리
-        List<Member> followers = new ArrayList<>(members);
-        followers.removeAll(leaders);
-
-        // 4. 팔로워를 MBTI E/I 분류 및 음주 점수 내림차순 정렬
-        Map<Boolean, List<Member>> grouped = followers.stream()
-                .collect(Collectors.groupingBy(m -> "E".equalsIgnoreCase(getMbtiFirstLetter(m))));
-        List<Member> eGroup = grouped.getOrDefault(true, new ArrayList<>());
-        List<Member> iGroup = grouped.getOrDefault(false, new ArrayList<>());
-
-        Comparator<Member> drinkDescThenId = Comparator.comparingInt(this::getDrinkScore).reversed()
-                .thenComparing(Member::getId);
-
-        eGroup.sort(drinkDescThenId);
-        iGroup.sort(drinkDescThenId);
-
-        // 성별로 다시 분리 및 음주 점수 내림차순 정렬 (남자/여자 각각)
-        List<Member> eMaleGroup = eGroup.stream()
-                .filter(m -> "남자".equalsIgnoreCase(m.getGender()))
-                .collect(Collectors.toList());
-        List<Member> eFemaleGroup = eGroup.stream()
-                .filter(m -> "여자".equalsIgnoreCase(m.getGender()))
-                .collect(Collectors.toList());
-        List<Member> iMaleGroup = iGroup.stream()
-                .filter(m -> "남자".equalsIgnoreCase(m.getGender()))
-                .collect(Collectors.toList());
-        List<Member> iFemaleGroup = iGroup.stream()
-                .filter(m -> "여자".equalsIgnoreCase(m.getGender()))
-                .collect(Collectors.toList());
-
-        eMaleGroup.sort(drinkDescThenId);
-        eFemaleGroup.sort(drinkDescThenId);
-        iMaleGroup.sort(drinkDescThenId);
-        iFemaleGroup.sort(drinkDescThenId);
-
-        // 5. 팀별 균등 인원 할당 수 계산 (리더 1명 제외)
-        int baseCount = totalMembers / teamCount;
-        int remainder = totalMembers % teamCount;
-
-        List<List<TeamMemberDto>> teamsMembers = new ArrayList<>();
-        for (int i = 0; i < teamCount; i++) {
-            teamsMembers.add(new ArrayList<>());
-        }
-
-        // 6. 리더를 팀별 첫 번째 멤버로 배정
-        for (int i = 0; i < teamCount; i++) {
-            Member leader = leaders.get(i);
-            teamsMembers.get(i).add(toDto(leader, true));
-        }
-
-        // 7. 팔로워들을 남은 자리에 최대한 균등 분배 - 라온드로빈 방식 (MBTI, 성별, 음주 점수 고려했음)
-        List<Member> remain = new ArrayList<>();
-        remain.addAll(eMaleGroup);
-        remain.addAll(eFemaleGroup);
-        remain.addAll(iMaleGroup);
-        remain.addAll(iFemaleGroup);
-
-        int[] slot = new int[teamCount];
-        for (int i = 0; i < teamCount; i++) {
-            // 리더 자리 제외하고 배정 가능한 슬롯 계산
-            slot[i] = baseCount + (i < remainder ? 1 : 0) - 1;
-        }
-
-        // 라운드로빈 방식으로 각 팀에 가장 적합한 멤버를 찾으며 채움
-        while (!remain.isEmpty()) {
-            Member bestMember = null;
-            int bestTeamIdx = -1;
-            double bestScore = Double.MAX_VALUE;
-
-            for (Member m : remain) {
-                int drinkScore = getDrinkScore(m);
-
-                for (int t = 0; t < teamCount; t++) {
-                    if (slot[t] <= 0) continue;
-
-                    List<TeamMemberDto> tmp = new ArrayList<>(teamsMembers.get(t));
-                    tmp.add(toDto(m, false));
-
-                    // MBTI, 성별 균형 계산
-                    int eCount = (int) tmp.stream().filter(mem -> "E".equalsIgnoreCase(mem.getMbti())).count();
-                    long maleCount = tmp.stream().filter(mem -> "남자".equalsIgnoreCase(
-                            memberRepository.findByName(mem.getName()).map(Member::getGender).orElse(""))).count();
-
-                    double avgDrink = tmp.stream().mapToInt(TeamMemberDto::getDrinkScore).average().orElse(0);
-                    double drinkGap = Math.abs(avgDrink - drinkScore);
-
-                    // 균형 점수 계산 (0.1 가중치로 음주 점수 편차 반영)
-                    double score = Math.abs((double) eCount / tmp.size() - 0.5)
-                            + Math.abs((double) maleCount / tmp.size() - 0.5)
-                            + drinkGap * 0.1;
-
-                    if (score < bestScore) {
-                        bestScore = score;
-                        bestMember = m;
-                        bestTeamIdx = t;
-                    }
-                }
-            }
-
-            if (bestMember != null && bestTeamIdx != -1) {
-                teamsMembers.get(bestTeamIdx).add(toDto(bestMember, false));
-                slot[bestTeamIdx]--;
-                remain.remove(bestMember);
-            } else {
-                // 적합한 멤버-팀 쌍이 더 없으면 중단
-                break;
-            }
-        }
-
-        // 8. 남은 멤버 처리 - 음주 점수 내림차순으로 정렬
-        // 팀별 현재 음주점수 평균 계산 후 균형 맞춰 순차 배정
-        double[] teamDrinkAverages = new double[teamCount];
-        for (int i = 0; i < teamCount; i++) {
-            List<TeamMemberDto> teamList = teamsMembers.get(i);
-            double sum = teamList.stream().mapToInt(TeamMemberDto::getDrinkScore).sum();
-            teamDrinkAverages[i] = teamList.isEmpty() ? 0 : sum / teamList.size();
-        }
-
-        List<Member> remainingMembers = new ArrayList<>(remain);
-        remainingMembers.sort(drinkDescThenId);
-
-        // 팀별 성별 인원 수 계산 함수
-        Function<List<TeamMemberDto>, Map<String, Long>> genderCountInTeam = teamList -> teamList.stream()
-                .collect(Collectors.groupingBy(tm -> memberRepository.findByName(tm.getName())
-                        .map(Member::getGender)
-                        .orElse("unknown"), Collectors.counting()));
-
-        // 남은 멤버를 음주 점수가 가장 근접한 팀에 순차 배정
-        for (Member m : remainingMembers) {
-            int drinkScore = getDrinkScore(m);
-            String gender = m.getGender();
-            //음주점수 거리가 최소인 팀 선택
-            int minIndex = 0;
-            double minDiff = Double.MAX_VALUE;
-
-            for (int i = 0; i < teamCount; i++) {
-                List<TeamMemberDto> team = teamsMembers.get(i);
-                double diff = Math.abs(teamDrinkAverages[i] - drinkScore);
-
-                Map<String, Long> genderCount = genderCountInTeam.apply(team);
-                long genderNum = genderCount.getOrDefault(gender, 0L);
-
-                // 성별 균형을 고려한 페널티 부여
-                long maxGenderCount = genderCount.values().stream().max(Long::compare).orElse(0L);
-                if (genderNum == maxGenderCount && maxGenderCount > 0) {
-                    diff *= 1.5;
-                }
+        // 아기사자 대상으로 한정 - 설문 응답까지 한 번에 읽어 스냅샷으로 만든 뒤 알고리즘은 스냅샷만 참조
+        MemberFeatureSnapshot snapshot = snapshotLoader.load(totalMembers);
+        return buildBalancedTeams(snapshot, totalMembers, teamCount);
+    }
 
-                if (diff < minDiff) {
-                    minDiff = diff;
-                    minIndex = i;
-                }
-            }
-            teamsMembers.get(minIndex).add(toDto(m, false));
+    public List<TeamOutputDto> buildBalancedTeams(MemberFeatureSnapshot snapshot, int totalMembers, int teamCount) {
+        return toOutputs(snapshot, greedyStrategy.build(snapshot, totalMembers, teamCount));
+    }
 
-            // 팀 음주평균 업데이트 (간단 평균 재계산한거임)
-            List<TeamMemberDto> updatedTeam = teamsMembers.get(minIndex);
-            double sum = updatedTeam.stream().mapToDouble(TeamMemberDto::getDrinkScore).sum();
-            teamDrinkAverages[minIndex] = sum / updatedTeam.size();
-        }
-        // 9. 최종 팀 Output DTO 생성 - 팀 이름과 각 팀 멤버 리스트로 결과 DTO 생성 및 반환
+    private List<TeamOutputDto> toOutputs(MemberFeatureSnapshot snapshot, TeamAssignment assignment) {
+        // 최종 팀 Output DTO 생성 - 팀 이름과 각 팀 멤버 리스트로 결과 DTO 생성 및 반환
         List<TeamOutputDto> result = new ArrayList<>();
-        for (int i = 0; i < teamCount; i++) {
-            result.add(new TeamOutputDto("Team " + (i + 1), teamsMembers.get(i)));
+        for (int i = 0; i < assignment.teamCount(); i++) {
+            List<TeamMemberDto> members = new ArrayList<>();
+            for (int j = 0; j < assignment.size(i); j++) {
+                members.add(toDto(snapshot, assignment.member(i, j), j == 0));
+            }
+            result.add(new TeamOutputDto("Team " + (i + 1), members));
         }
         return result;
     }
 
-    // Member -> TeamMemberDto 변환 헬퍼 메서드
-    private TeamMemberDto toDto(Member m, boolean leader) {
+    // 스냅샷 멤버 -> TeamMemberDto 변환 헬퍼 메서드
+    private TeamMemberDto toDto(MemberFeatureSnapshot snapshot, int m, boolean leader) {
         return TeamMemberDto.builder()
-                .name(m.getName())
-                .mbti(getMbtiFirstLetter(m))
-                .drinkScore(getDrinkScore(m))
+                .name(snapshot.name(m))
+                .mbti(snapshot.mbtiInitial(m))
+                .drinkScore(snapshot.drinkScore(m))
                 .leader(leader)
                 .build();
     }
 
-    // 멤버별 리더 점수 계산 (질문 내용 "대화" 포함)
-    private int getLeaderScore(Member member) {
-        return questionResultRepository.findByMember(member).stream()
-                .filter(qr -> qr.getQuestion() != null && qr.getQuestion().getContent().contains("대화"))
-                .map(qr -> {
-                    try {
-                        return Integer.parseInt(qr.getAnswer());
-                    } catch (Exception e) {
-                        return 0;  // 파싱 실패 시 0점으로 처리
-                    }
-                })
-                .findFirst()
-                .orElse(0);  // 질문 답변 없으면 0점 처리
+    //팀을 빌딩하고 결과를 DB에 저장하는 메서드
+    public List<TeamOutputDto> buildAndSaveTeams(int totalMembers, int teamCount) {
+        return buildAndSaveTeams(TeamBuildingOptions.of(totalMembers, teamCount)).getTeams();
     }
 
-
-    // 멤버별 MBTI 첫 글자 반환
-    private String getMbtiFirstLetter(Member member) {
-        return questionResultRepository.findByMember(member).stream()
-                .filter(qr -> qr.getQuestion()!=null && qr.getQuestion().getContent().contains("MBTI"))
-                .map(qr -> {
-                    String ans = qr.getAnswer();
-                    return (ans!=null && !ans.isEmpty()) ? ans.substring(0,1).toUpperCase() : "";
-                }).findFirst().orElse("");
+    // 전략을 골라 팀을 빌딩하고 저장 (전략 미지정 시 greedy)
+    // 알고리즘 계산은 트랜잭션 밖에서 수행하고, 저장 단계만 짧은 트랜잭션으로 묶는다.
+    public TeamBuildResult buildAndSaveTeams(TeamBuildingOptions options) {
+        TeamAssignmentStrategy strategy = validate(options);
+        // 단계별 소요 시간 기록 (team.build.phase)
+        TeamBuildMonitor monitor = teamBuildMetrics.timed(options.getMonitor());
+        options = options.toBuilder().monitor(monitor).build();
+
+        monitor.phase(TeamBuildPhase.SNAPSHOT);
+        MemberFeatureSnapshot snapshot = snapshotLoader.load(options.getTotalMembers());
+        monitor.checkCancelled();
+
+        AssignmentResult assignmentResult = strategy.assign(snapshot, options);
+        List<TeamOutputDto> teams = toOutputs(snapshot, assignmentResult.getAssignment());
+
+        // 저장을 시작한 뒤에는 취소하지 않음 (부분 저장 방지)
+        monitor.checkCancelled();
+        monitor.phase(TeamBuildPhase.PERSIST);
+        transactionTemplate.executeWithoutResult(status -> saveTeams(snapshot, assignmentResult.getAssignment(), teams));
+        monitor.phase(TeamBuildPhase.DONE);
+
+        return new TeamBuildResult(teams, strategy.name(),
+                assignmentResult.getObjectiveBefore(), assignmentResult.getObjectiveAfter());
     }
 
-    // 멤버별 음주 점수(회식 관련 질문) 반환
-    private int getDrinkScore(Member member) {
-        return questionResultRepository.findByMember(member).stream()
-                .filter(qr -> qr.getQuestion()!=null && qr.getQuestion().getContent().contains("회식"))
-                .map(qr -> {
-                    try { return Integer.parseInt(qr.getAnswer()); }
-                    catch(Exception e){return 0;}
-                }).findFirst().orElse(0);
+    // 여러 팀 수로 팀빌딩을 미리 계산해 구성별 균형 지표 반환 (저장하지 않음)
+    // 스냅샷은 한 번만 읽어 모든 구성이 공유하고, 구성별 계산은 팀빌딩 공용 풀에서 병렬 실행
+    // 구성 안의 multi-start/sharded 하위 작업은 그 구성을 맡은 풀 스레드에서 순서대로 실행되므로 풀 크기 이상 스레드를 쓰지 않음
+    public List<TeamPreviewResponseDto> previewTeams(TeamBuildingOptions options, List<Integer> teamCounts,
+                                                     boolean includeTeams) {
+        return previewTeams(options, teamCounts, includeTeams, PREVIEW_TIME_BUDGET_MILLIS);
     }
 
-    // 멤버별 전체 MBTI 값 반환
-    private String getMbtiFull(Member member) {
-        return questionResultRepository.findByMember(member).stream()
-                .filter(qr -> qr.getQuestion() != null
-                        && qr.getQuestion().getContent().contains("MBTI"))
-                .map(QuestionResult::getAnswer)
-                .findFirst()
-                .orElse("");
+    // 전체 계산은 budgetMillis 안에 끝나야 하며, 넘으면 남은 계산을 취소하고 요청 오류로 돌려줌
+    List<TeamPreviewResponseDto> previewTeams(TeamBuildingOptions options, List<Integer> teamCounts,
+                                              boolean includeTeams, long budgetMillis) {
+        if (teamCounts == null || teamCounts.isEmpty()) {
+            throw new IllegalArgumentException("미리 볼 팀 개수를 하나 이상 입력해주세요.");
+        }
+        if (teamCounts.size() > MAX_PREVIEW_CONFIGURATIONS) {
+            throw new IllegalArgumentException("팀 개수는 한 번에 최대 " + MAX_PREVIEW_CONFIGURATIONS + "개까지 미리 볼 수 있습니다.");
+        }
+        List<Integer> counts = new ArrayList<>(new LinkedHashSet<>(teamCounts));
+        for (Integer count : counts) {
+            if (count == null || count < 1) {
+                throw new IllegalArgumentException("팀 개수는 1 이상이어야 합니다.");
+            }
+        }
+        // 회원 수 검증은 한 번만 (가장 큰 팀 수 기준으로 팀 수 상한도 함께 확인)
+        TeamAssignmentStrategy strategy = validate(options.toBuilder().teamCount(Collections.max(counts)).build());
+
+        MemberFeatureSnapshot snapshot = snapshotLoader.load(options.getTotalMembers());
+
+        // 모든 구성이 같은 마감 시각을 공유하고, 로컬 서치 시간 예산은 구성당 몫을 넘지 않게 줄임
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+        TeamBuildMonitor monitor = new TeamBuildMonitor() {
+            @Override
+            public boolean isCancelled() {
+                return System.nanoTime() - deadline > 0;
+            }
+        };
+        long share = Math.max(1, budgetMillis / counts.size());
+
+        List<Callable<TeamPreviewResponseDto>> tasks = new ArrayList<>(counts.size());
+        for (int count : counts) {
+            TeamBuildingOptions configuration = options.toBuilder()
+                    .teamCount(count)
+                    .timeBudgetMillis(previewTimeBudget(options, share))
+                    .monitor(monitor)
+                    .build();
+            tasks.add(() -> {
+                TeamAssignment assignment = strategy.assign(snapshot, configuration).getAssignment();
+                return TeamPreviewResponseDto.of(count, strategy.name(), TeamBalanceMetrics.of(snapshot, assignment),
+                        includeTeams ? toOutputs(snapshot, assignment) : null);
+            });
+        }
+        try {
+            return parallelTasks.invokeAll(options.getParallelism(), tasks);
+        } catch (CancellationException e) {
+            throw new IllegalArgumentException("미리보기 계산 시간이 제한을 넘었습니다. 팀 개수 구성이나 반복 횟수를 줄여주세요.");
+        }
     }
 
-    // 특정 질문코드로 답변 반환
-    private String getAnswerByQuestionContent(Member member, String questionCode) {
-        return questionResultRepository.findByMember(member).stream()
-                .filter(qr -> qr.getQuestion() != null
-                        && (qr.getQuestion().getContent() != null && qr.getQuestion().getContent().contains(questionCode)))
-                .map(QuestionResult::getAnswer)
-                .findFirst()
-                .orElse("");
+    // 구성별 로컬 서치 시간 예산 - 요청 값(없으면 기본값)과 구성당 몫 중 작은 값
+    // 반복 횟수만 지정한 경우는 결정적으로 수행하도록 그대로 두고 마감 시각으로만 제한
+    private static long previewTimeBudget(TeamBuildingOptions options, long share) {
+        if (options.getTimeBudgetMillis() > 0) {
+            return Math.min(options.getTimeBudgetMillis(), share);
+        }
+        if (options.getMaxIterations() > 0) {
+            return 0;
+        }
+        return Math.min(LocalSearchTeamAssignmentStrategy.DEFAULT_TIME_BUDGET_MILLIS, share);
     }
 
-    //팀을 빌딩하고 결과를 DB에 저장하는 메서드
-    @Transactional
-    public List<TeamOutputDto> buildAndSaveTeams(int totalMembers, int teamCount) {
+    // 요청 값 검증 후 사용할 전략 반환 (비동기 작업은 접수 시점에 바로 검증)
+    public TeamAssignmentStrategy validate(TeamBuildingOptions options) {
+        int totalMembers = options.getTotalMembers();
+        int teamCount = options.getTeamCount();
+        TeamAssignmentStrategy strategy = resolveStrategy(options.getStrategy());
 
         int currentMemberCount = (int) memberRepository.countByRole(Role.BABY);
         if (totalMembers > currentMemberCount) {
@@ -300,73 +207,120 @@ public class TeamBuildingService {
         if (teamCount > totalMembers) {
             throw new IllegalArgumentException("팀 개수가 전체 멤버 수보다 많을 수 없습니다.");
         }
+        return strategy;
+    }
 
-        List<TeamOutputDto> teams = buildBalancedTeams(totalMembers, teamCount);
-
-        // 기존 팀 데이터 삭제
-        teamRepository.deleteAll();
-
-        // 멤버 전체 teamBuilt 필드를 true로 업데이트
-        List<Member> allMembers = memberRepository.findAll();
-        for (Member member : allMembers) {
-            member.setTeamBuilt(true);
+    // 스냅샷의 멤버 id를 그대로 사용해 저장 (이름 재조회 없음)
+    // 팀 교체는 JDBC 배치, teamBuilt는 아기사자 대상 UPDATE 한 번으로 처리
+    private void saveTeams(MemberFeatureSnapshot snapshot, TeamAssignment assignment, List<TeamOutputDto> teams) {
+        List<String> teamNames = new ArrayList<>(teams.size());
+        List<long[]> memberIds = new ArrayList<>(teams.size());
+        for (int t = 0; t < assignment.teamCount(); t++) {
+            long[] ids = new long[assignment.size(t)];
+            for (int j = 0; j < ids.length; j++) {
+                ids[j] = snapshot.id(assignment.member(t, j));
+            }
+            teamNames.add(teams.get(t).getTeamName());
+            memberIds.add(ids);
         }
-        memberRepository.saveAll(allMembers);
-
-        // 팀별 멤버 ID 찾아서 Team 엔티티 저장
-        for (TeamOutputDto dto : teams) {
-            // 멤버 이름 -> 멤버 ID 리스트 생성
-            List<Long> memberIds = dto.getMembers().stream()
-                    .map(memberDto -> memberRepository.findByName(memberDto.getName())
-                            .orElseThrow(() -> new RuntimeException("Member not found: " + memberDto.getName()))
-                            .getId())
-                    .collect(Collectors.toList());
+        teamJdbcRepository.replaceAll(teamNames, memberIds);
 
-            Team team = Team.builder()
-                    .teamName(dto.getTeamName())
-                    .memberIds(memberIds)
-                    .build();
+        int builtCount = memberRepository.markTeamBuilt(Role.BABY);
+        // 기수 현황을 먼저 갱신해야 다시 만든 명단의 미완료 여부가 최신 값 (둘 다 커밋 후 등록 순서대로 실행)
+        eventPublisher.publishEvent(new CohortStatus.TeamsBuilt(builtCount));
+        rosterCache.invalidate();
+    }
 
-            teamRepository.save(team);
-        }
-        return teams;
+    private TeamAssignmentStrategy resolveStrategy(String name) {
+        String strategyName = (name == null || name.isBlank()) ? GreedyTeamAssignmentStrategy.NAME : name;
+        return strategies.stream()
+                .filter(strategy -> strategy.name().equalsIgnoreCase(strategyName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 팀빌딩 전략입니다: " + strategyName));
     }
 
-    public List<TeamOutputDto> getAllTeams() {
-        List<Team> teams = teamRepository.findAll();
+    // GET /team 응답 본문(팀 명단 + 미완료 멤버 여부)을 직렬화해 버전별로 캐시
+    public SerializedResponseCache.Entry getRoster() {
+        return rosterCache.get(() -> {
+            Map<String, Object> response = new HashMap<>();
+            response.put("teams", getAllTeams());
+            // 팀빌딩 대상(아기사자) 중 미완료 멤버 존재 여부 (메모리 카운터, 쿼리 없음)
+            response.put("hasUnbuiltMembers", cohortStatus.hasUnbuiltMembers());
+            try {
+                return objectMapper.writeValueAsBytes(response);
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("팀 명단 직렬화 실패", e);
+            }
+        });
+    }
 
-        // 팀빌딩 미완료 멤버 존재 여부 판단
-        boolean hasUnbuiltMembers = memberRepository.findAll().stream()
-                .anyMatch(m -> !m.isTeamBuilt());
+    // 팀 명단 조회 - 팀 수/멤버 수와 관계없이 팀, 멤버, 응답 각 1회 조회
+    public List<TeamOutputDto> getAllTeams() {
+        List<Team> teams = teamRepository.findAllWithMemberIds();
+        if (teams.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, Member> members = memberRepository.findAllInTeams().stream()
+                .collect(Collectors.toMap(Member::getId, member -> member));
+
+        // 명단에 쓰는 질문(MBTI, 음주, 취미, 음식, 야생)의 응답만 읽어 질문 id로 역할을 찾아 멤버별로 펼침
+        Set<Long> questionIds = questionCatalog.questionIds(ROSTER_ROLES);
+
+        // 멤버 id -> (질문 역할 -> 첫 번째 응답)
+        Map<Long, Map<QuestionRole, String>> answers = new HashMap<>();
+        if (!questionIds.isEmpty()) {
+            for (QuestionResultRepository.MemberAnswer answer : questionResultRepository.findTeamMemberAnswers(questionIds)) {
+                Map<QuestionRole, String> memberAnswers =
+                        answers.computeIfAbsent(answer.getMemberId(), id -> new EnumMap<>(QuestionRole.class));
+                int mask = questionCatalog.roleMask(answer.getQuestionId());
+                for (QuestionRole role : ROSTER_ROLES) {
+                    if ((mask & role.mask()) != 0) memberAnswers.putIfAbsent(role, answer.getAnswer());
+                }
+            }
+        }
 
         List<TeamOutputDto> result = new ArrayList<>();
 
         for (Team team : teams) {
-            List<TeamMemberDto> members = team.getMemberIds().stream()
-                    .map(id -> memberRepository.findById(id).orElse(null))
+            List<TeamMemberDto> teamMembers = team.getMemberIds().stream()
+                    .map(members::get)
                     .filter(Objects::nonNull)
-                    .map(member -> TeamMemberDto.builder()
-                            .name(member.getName())
-                            .mbti("mbti: " + getMbtiFull(member))
-                            .drinkScore(getDrinkScore(member))
-                            .hobby("취미/관심사: " + getAnswerByQuestionContent(member, "취미"))
-                            .favoriteFood("좋아하는 음식: " + getAnswerByQuestionContent(member, "음식"))
-                            .wildLionAnswer("야생의 사자를 만나면: " + getAnswerByQuestionContent(member, "야생"))
-                            .leader(member.getId().equals(team.getLeaderId()))
-                            .image(member.getImage())
-                            .build())
+                    .map(member -> {
+                        Map<QuestionRole, String> memberAnswers = answers.getOrDefault(member.getId(), Map.of());
+                        return TeamMemberDto.builder()
+                                .name(member.getName())
+                                .mbti("mbti: " + memberAnswers.getOrDefault(QuestionRole.MBTI, ""))
+                                .drinkScore(parseScore(memberAnswers.get(QuestionRole.DRINK)))
+                                .hobby("취미/관심사: " + memberAnswers.getOrDefault(QuestionRole.HOBBY, ""))
+                                .favoriteFood("좋아하는 음식: " + memberAnswers.getOrDefault(QuestionRole.FOOD, ""))
+                                .wildLionAnswer("야생의 사자를 만나면: " + memberAnswers.getOrDefault(QuestionRole.WILD_LION, ""))
+                                .leader(member.getId().equals(team.getLeaderId()))
+                                .image(member.getImage())
+                                .build();
+                    })
                     .collect(Collectors.toList());
 
-            result.add(new TeamOutputDto(team.getTeamName(), members));
+            result.add(new TeamOutputDto(team.getTeamName(), teamMembers));
         }
         return result;
     }
 
+    // 음주 점수 응답 파싱 (없거나 숫자가 아니면 0)
+    private static int parseScore(String answer) {
+        if (answer == null) {
+            return 0;
+        }
+        try { return Integer.parseInt(answer); }
+        catch (Exception e) { return 0; }
+    }
+
     //모든 팀 정보 및 멤버 팀빌딩 필드 초기화
     @Transactional
     public void clearAllTeams() {
         teamRepository.deleteAll();
 
         memberRepository.resetTeamBuilt();
+        eventPublisher.publishEvent(new CohortStatus.TeamsCleared());
+        rosterCache.invalidate();
     }
 }
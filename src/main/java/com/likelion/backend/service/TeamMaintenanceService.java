@@ -0,0 +1,285 @@
+package com.likelion.backend.service;
+
+import com.likelion.backend.domain.Member;
+import com.likelion.backend.domain.Team;
+import com.likelion.backend.dto.response.TeamChangeResponseDto;
+import com.likelion.backend.enums.QuestionRole;
+import com.likelion.backend.enums.Role;
+import com.likelion.backend.repository.MemberRepository;
+import com.likelion.backend.repository.TeamJdbcRepository;
+import com.likelion.backend.repository.TeamRepository;
+import com.likelion.backend.service.teambuilding.MemberFeatureSnapshot;
+import com.likelion.backend.service.teambuilding.MemberFeatureSnapshotLoader;
+import com.likelion.backend.service.teambuilding.TeamAssignment;
+import com.likelion.backend.service.teambuilding.TeamFeatureCounts;
+import com.likelion.backend.service.teambuilding.TeamFeatureCounts.Feature;
+import com.likelion.backend.service.teambuilding.TeamMaintenancePlanner;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 팀빌딩 이후 늦게 합류한 멤버 배정과 팀에서 빠진 멤버 처리
+// 전체를 다시 섞지 않고 대상 팀(과 인원 보충 시 옮겨 주는 팀)의 멤버 행만 수정한다.
+// 기수 전체 스냅샷 대신 팀별 특성 분포(그룹 집계 1회)와 대상 팀 멤버의 특성만 읽으므로, 조회량은 기수 인원이 아니라 팀 수에 비례한다.
+@Service
+@RequiredArgsConstructor
+public class TeamMaintenanceService {
+
+    private final MemberRepository memberRepository;
+    private final TeamRepository teamRepository;
+    private final TeamJdbcRepository teamJdbcRepository;
+    private final MemberFeatureSnapshotLoader snapshotLoader;
+    private final QuestionCatalog questionCatalog;
+    private final TeamRosterCache rosterCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 현재 팀 목록(id 오름차순)과 팀별 특성 분포 (같은 순서)
+    private record Layout(List<Team> teams, TeamFeatureCounts counts) {
+    }
+
+    // 한 팀의 멤버 (저장 순서, 0번째가 리더)와 각 멤버의 특성 (아기사자가 아니면 null)
+    private record Roster(List<Long> ids, List<Feature> features, MemberFeatureSnapshot snapshot) {
+    }
+
+    // 아기사자 한 명을 인원이 가장 적은 팀 중 균형이 가장 좋아지는 팀에 추가 (팀 멤버 행 1건 insert)
+    @Transactional
+    public TeamChangeResponseDto addMember(Long memberId) {
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 사용자를 찾을 수 없습니다."));
+        if (member.getRole() != Role.BABY) {
+            throw new IllegalArgumentException("아기사자만 팀에 배정할 수 있습니다.");
+        }
+        if (teamJdbcRepository.findTeamId(memberId) != null) {
+            throw new IllegalArgumentException("이미 팀에 배정된 사용자입니다.");
+        }
+        Layout layout = loadLayout();
+        if (layout.teams().isEmpty()) {
+            throw new IllegalArgumentException("팀빌딩 결과가 없습니다. 먼저 팀빌딩을 진행해주세요.");
+        }
+
+        Feature feature = Feature.of(snapshotLoader.loadMembers(List.of(memberId)), 0);
+        Team target = layout.teams().get(TeamMaintenancePlanner.placement(layout.counts(), feature));
+        long[] members = teamJdbcRepository.findMemberIds(target.getId());
+
+        teamJdbcRepository.addMember(target.getId(), memberId);
+        changed(memberId, true);
+
+        return TeamChangeResponseDto.builder()
+                .memberId(memberId)
+                .teamName(target.getTeamName())
+                .leaderId(members.length == 0 ? memberId : members[0])
+                .moves(List.of())
+                .build();
+    }
+
+    // 멤버를 팀에서 빼고, 그 팀이 최소 인원보다 작아지면 인원이 많은 팀에서 최소 횟수로 옮겨 와 보충
+    // 리더가 빠지면 남은 멤버 중 리더 점수가 가장 높은 멤버가 리더가 된다 (이 경우만 해당 팀 멤버 행 전체를 다시 씀)
+    @Transactional
+    public TeamChangeResponseDto removeMember(Long memberId) {
+        Long teamId = teamJdbcRepository.findTeamId(memberId);
+        if (teamId == null) {
+            throw new IllegalArgumentException("팀에 배정되지 않은 사용자입니다.");
+        }
+        return withdraw(memberId, teamId);
+    }
+
+    // 회원 삭제 전 호출 - 팀에 속해 있을 때만 빼고 보충
+    @Transactional
+    public void removeIfAssigned(Long memberId) {
+        Long teamId = teamJdbcRepository.findTeamId(memberId);
+        if (teamId != null) {
+            withdraw(memberId, teamId);
+        }
+    }
+
+    // 일괄 삭제로 리더가 빠진 팀들의 리더를 다시 뽑음 - 탈퇴와 같은 기준 (리더 점수 높은 순, 같으면 id 작은 순)
+    // 인원 보충은 하지 않고 새 리더만 맨 앞으로 옮겨 해당 팀들의 멤버 행만 다시 씀 (해당 팀 멤버 스냅샷 2회 + 쓰기 배치 2회)
+    @Transactional
+    public void reelectLeaders(Map<Long, long[]> remainingByTeam) {
+        if (remainingByTeam.isEmpty()) {
+            return;
+        }
+        List<Long> memberIds = new ArrayList<>();
+        for (long[] ids : remainingByTeam.values()) {
+            for (long id : ids) {
+                memberIds.add(id);
+            }
+        }
+        MemberFeatureSnapshot snapshot = snapshotLoader.loadMembers(memberIds);
+        Map<Long, Integer> indexOf = indexById(snapshot);
+
+        Map<Long, long[]> reordered = new LinkedHashMap<>();
+        for (Map.Entry<Long, long[]> team : remainingByTeam.entrySet()) {
+            List<Long> ids = Arrays.stream(team.getValue()).boxed().toList();
+            Long leaderId = electLeader(snapshot, indexOf, ids);
+            if (leaderId == null) {
+                continue;
+            }
+            reordered.put(team.getKey(), withLeaderFirst(ids, leaderId).stream().mapToLong(Long::longValue).toArray());
+        }
+        teamJdbcRepository.replaceMembers(reordered);
+    }
+
+    private TeamChangeResponseDto withdraw(Long memberId, long teamId) {
+        Layout layout = loadLayout();
+        TeamFeatureCounts counts = layout.counts();
+        int team = indexOfTeam(layout.teams(), teamId);
+        Team target = layout.teams().get(team);
+
+        Roster roster = loadRoster(teamId);
+        int position = roster.ids().indexOf(memberId);
+        Feature withdrawn = roster.features().get(position);
+        if (withdrawn != null) {
+            counts.remove(team, withdrawn);
+        }
+        List<Long> remaining = new ArrayList<>(roster.ids());
+        remaining.remove(position);
+
+        boolean leaderChanged = position == 0;
+        if (leaderChanged && !remaining.isEmpty()) {
+            Long leaderId = electLeader(roster.snapshot(), indexById(roster.snapshot()), remaining);
+            if (leaderId != null) {
+                remaining = withLeaderFirst(remaining, leaderId);
+            }
+        }
+
+        // 남은 인원 기준 팀당 최소 인원 (팀 인원 차이 최대 1명 유지)
+        int minSize = counts.total() / counts.teamCount();
+        List<TeamChangeResponseDto.Move> moved = new ArrayList<>();
+        List<long[]> moves = new ArrayList<>();
+        while (counts.size(team) < minSize) {
+            int donor = TeamMaintenancePlanner.donor(counts, team, minSize);
+            if (donor < 0) {
+                break;  // 옮겨 올 수 있는 팀이 없으면 중단
+            }
+            Team from = layout.teams().get(donor);
+            Roster donorRoster = loadRoster(from.getId());
+            int p = TeamMaintenancePlanner.follower(counts, donorRoster.features(), donor, team);
+            if (p < 0) {
+                break;
+            }
+            Feature feature = donorRoster.features().get(p);
+            counts.remove(donor, feature);
+            counts.add(team, feature);
+            long movedId = donorRoster.ids().get(p);
+            remaining.add(movedId);
+            moves.add(new long[]{from.getId(), movedId});
+            moved.add(new TeamChangeResponseDto.Move(movedId, from.getTeamName(), target.getTeamName()));
+        }
+
+        if (remaining.isEmpty()) {
+            teamJdbcRepository.deleteTeam(teamId);
+        } else if (leaderChanged) {
+            teamJdbcRepository.replaceMembers(teamId, remaining.stream().mapToLong(Long::longValue).toArray());
+        } else {
+            teamJdbcRepository.removeMember(teamId, memberId);
+        }
+        for (long[] move : moves) {
+            teamJdbcRepository.removeMember(move[0], move[1]);
+            if (!leaderChanged) {
+                teamJdbcRepository.addMember(teamId, move[1]);
+            }
+        }
+        changed(memberId, false);
+
+        return TeamChangeResponseDto.builder()
+                .memberId(memberId)
+                .teamName(target.getTeamName())
+                .leaderId(remaining.isEmpty() ? null : remaining.get(0))
+                .moves(moved)
+                .build();
+    }
+
+    // 팀 목록 1회 + 팀별 특성 분포 그룹 집계 1회 (행 수는 팀 수 × 특성 조합 수)
+    private Layout loadLayout() {
+        List<Team> teams = teamRepository.findAll(Sort.by("id"));
+        Map<Long, Integer> indexOfTeam = new HashMap<>(teams.size() * 2);
+        List<Map<Feature, Integer>> histograms = new ArrayList<>(teams.size());
+        for (int t = 0; t < teams.size(); t++) {
+            indexOfTeam.put(teams.get(t).getId(), t);
+            histograms.add(new HashMap<>());
+        }
+        for (TeamJdbcRepository.FeatureCount row : teamJdbcRepository.countFeaturesByTeam(
+                questionCatalog.questionIds(QuestionRole.MBTI), questionCatalog.questionIds(QuestionRole.DRINK))) {
+            Integer t = indexOfTeam.get(row.teamId());
+            if (t != null) {
+                histograms.get(t).merge(new Feature(row.extrovert(), row.male(), row.drinkScore()), row.members(), Integer::sum);
+            }
+        }
+        return new Layout(teams, TeamFeatureCounts.of(histograms));
+    }
+
+    // 한 팀의 멤버 id와 특성 (멤버 id 1회 + 해당 멤버 스냅샷 2회 조회)
+    private Roster loadRoster(long teamId) {
+        List<Long> ids = Arrays.stream(teamJdbcRepository.findMemberIds(teamId)).boxed().toList();
+        MemberFeatureSnapshot snapshot = snapshotLoader.loadMembers(ids);
+        Map<Long, Integer> indexOf = indexById(snapshot);
+        List<Feature> features = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Integer index = indexOf.get(id);
+            features.add(index == null ? null : Feature.of(snapshot, index));
+        }
+        return new Roster(ids, features, snapshot);
+    }
+
+    // ids 중 새 리더 id (스냅샷에 없는 멤버, 즉 아기사자가 아닌 멤버는 후보에서 제외, 후보가 없으면 null)
+    private static Long electLeader(MemberFeatureSnapshot snapshot, Map<Long, Integer> indexOf, List<Long> ids) {
+        TeamAssignment candidates = new TeamAssignment(1, ids.size());
+        for (Long id : ids) {
+            Integer index = indexOf.get(id);
+            if (index != null) {
+                candidates.add(0, index);
+            }
+        }
+        if (candidates.size(0) == 0) {
+            return null;
+        }
+        return snapshot.id(candidates.member(0, TeamMaintenancePlanner.leaderPosition(snapshot, candidates, 0)));
+    }
+
+    // leaderId를 맨 앞으로 옮긴 멤버 순서 (나머지 순서는 유지)
+    private static List<Long> withLeaderFirst(List<Long> ids, long leaderId) {
+        List<Long> ordered = new ArrayList<>(ids.size());
+        ordered.add(leaderId);
+        for (Long id : ids) {
+            if (id != leaderId) {
+                ordered.add(id);
+            }
+        }
+        return ordered;
+    }
+
+    // 멤버 id -> 스냅샷 인덱스
+    private static Map<Long, Integer> indexById(MemberFeatureSnapshot snapshot) {
+        Map<Long, Integer> indexOf = new HashMap<>(snapshot.size() * 2);
+        for (int i = 0; i < snapshot.size(); i++) {
+            indexOf.put(snapshot.id(i), i);
+        }
+        return indexOf;
+    }
+
+    // teamBuilt 변경과 기수 현황 갱신, 명단 캐시 무효화 (커밋 후)
+    private void changed(Long memberId, boolean teamBuilt) {
+        int updated = memberRepository.updateTeamBuilt(memberId, teamBuilt);
+        eventPublisher.publishEvent(new CohortStatus.TeamMembershipChanged(teamBuilt ? updated : -updated));
+        rosterCache.invalidate();
+    }
+
+    private static int indexOfTeam(List<Team> teams, long teamId) {
+        for (int t = 0; t < teams.size(); t++) {
+            if (teams.get(t).getId() == teamId) {
+                return t;
+            }
+        }
+        throw new IllegalStateException("팀을 찾을 수 없습니다: " + teamId);
+    }
+}
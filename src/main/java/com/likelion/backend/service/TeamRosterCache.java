@@ -0,0 +1,8 @@
+package com.likelion.backend.service;
+
+import org.springframework.stereotype.Component;
+
+// GET /team 응답 캐시 - 팀빌딩/초기화/회원 변경이 커밋되면 무효화됨
+@Component
+public class TeamRosterCache extends SerializedResponseCache {
+}
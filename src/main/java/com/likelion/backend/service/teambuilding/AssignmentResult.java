@@ -0,0 +1,14 @@
+package com.likelion.backend.service.teambuilding;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 전략 실행 결과 - 최종 배정과 최적화 전/후 목적함수 값(팀 평균 불균형, 낮을수록 좋음)
+@Getter
+@AllArgsConstructor
+public class AssignmentResult {
+    private final TeamAssignment assignment;
+    private final double objectiveBefore;
+    private final double objectiveAfter;
+    private final long iterations;
+}
@@ -0,0 +1,169 @@
+package com.likelion.backend.service.teambuilding;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+// 팀별 누적 카운터(인원, E 수, 남/여 수, 음주 합)를 유지하며 팔로워를 배정하는 엔진
+// 후보 한 명을 팀에 넣었을 때의 균형 점수를 리스트 복사 없이 O(1)로 계산한다.
+public final class FollowerAssignmentEngine {
+
+    // 진행률 보고/취소 확인 주기 (배정 횟수)
+    private static final int PROGRESS_INTERVAL = 1 << 8;
+
+    private final MemberFeatureSnapshot snapshot;
+    private final TeamAssignment assignment;
+
+    private final int[] sizes;
+    private final int[] eCounts;
+    private final int[] maleCounts;
+    private final int[] femaleCounts;
+    private final long[] drinkSums;
+
+    public FollowerAssignmentEngine(MemberFeatureSnapshot snapshot, int teamCount) {
+        this.snapshot = snapshot;
+        this.assignment = new TeamAssignment(teamCount, snapshot.size() / Math.max(teamCount, 1) + 1);
+        this.sizes = new int[teamCount];
+        this.eCounts = new int[teamCount];
+        this.maleCounts = new int[teamCount];
+        this.femaleCounts = new int[teamCount];
+        this.drinkSums = new long[teamCount];
+    }
+
+    public TeamAssignment assignment() {
+        return assignment;
+    }
+
+    public void add(int team, int member) {
+        assignment.add(team, member);
+        sizes[team]++;
+        if (snapshot.isExtrovert(member)) eCounts[team]++;
+        if (snapshot.isMale(member)) maleCounts[team]++;
+        if (snapshot.isFemale(member)) femaleCounts[team]++;
+        drinkSums[team] += snapshot.drinkScore(member);
+    }
+
+    // member를 team에 넣었다고 가정했을 때의 균형 점수 (낮을수록 좋음)
+    public double score(int team, int member) {
+        int size = sizes[team] + 1;
+        int eCount = eCounts[team] + (snapshot.isExtrovert(member) ? 1 : 0);
+        long maleCount = maleCounts[team] + (snapshot.isMale(member) ? 1 : 0);
+        int drinkScore = snapshot.drinkScore(member);
+
+        double avgDrink = (double) (drinkSums[team] + drinkScore) / size;
+        double drinkGap = Math.abs(avgDrink - drinkScore);
+
+        // 균형 점수 계산 (0.1 가중치로 음주 점수 편차 반영)
+        return Math.abs((double) eCount / size - 0.5)
+                + Math.abs((double) maleCount / size - 0.5)
+                + drinkGap * 0.1;
+    }
+
+    // 남은 자리(slot)가 있는 팀 중 (점수, 후보 순서, 팀 번호)가 가장 작은 쌍부터 하나씩 배정
+    // 점수는 (E 여부, 남자 여부, 음주 점수)에만 의존하므로 같은 특성의 후보는 맨 앞 한 명만 비교하면 된다.
+    // 배정하지 못한 멤버는 remain 순서대로 반환
+    public int[] assignFollowers(int[] remain, int[] slot) {
+        return assignFollowers(remain, slot, TeamBuildMonitor.NONE);
+    }
+
+    public int[] assignFollowers(int[] remain, int[] slot, TeamBuildMonitor monitor) {
+        Map<Long, Integer> classIndex = new HashMap<>();
+        int[] classOf = new int[remain.length];
+        int[] classSizes = new int[remain.length];
+        for (int r = 0; r < remain.length; r++) {
+            int m = remain[r];
+            long key = ((long) snapshot.drinkScore(m) << 2)
+                    | (snapshot.isExtrovert(m) ? 2 : 0)
+                    | (snapshot.isMale(m) ? 1 : 0);
+            int c = classIndex.computeIfAbsent(key, k -> classIndex.size());
+            classOf[r] = c;
+            classSizes[c]++;
+        }
+
+        // 특성이 같은 후보들을 remain 순서 그대로 큐에 담음 (값은 remain 내 위치)
+        int classCount = classIndex.size();
+        int[][] queues = new int[classCount][];
+        for (int c = 0; c < classCount; c++) {
+            queues[c] = new int[classSizes[c]];
+        }
+        int[] tails = new int[classCount];
+        for (int r = 0; r < remain.length; r++) {
+            queues[classOf[r]][tails[classOf[r]]++] = r;
+        }
+        int[] heads = new int[classCount];
+        boolean[] assigned = new boolean[remain.length];
+
+        for (int step = 0; step < remain.length; step++) {
+            if ((step & (PROGRESS_INTERVAL - 1)) == 0) {
+                monitor.checkCancelled();
+                monitor.progress((double) step / remain.length);
+            }
+            int bestClass = -1;
+            int bestTeam = -1;
+            int bestPosition = Integer.MAX_VALUE;
+            double bestScore = Double.MAX_VALUE;
+
+            for (int c = 0; c < classCount; c++) {
+                if (heads[c] == tails[c]) continue;
+                int position = queues[c][heads[c]];
+                int m = remain[position];
+
+                for (int t = 0; t < slot.length; t++) {
+                    if (slot[t] <= 0) continue;
+                    double score = score(t, m);
+                    if (score < bestScore || (score == bestScore && position < bestPosition)) {
+                        bestScore = score;
+                        bestClass = c;
+                        bestTeam = t;
+                        bestPosition = position;
+                    }
+                }
+            }
+
+            if (bestClass == -1) {
+                // 적합한 멤버-팀 쌍이 더 없으면 중단
+                break;
+            }
+            add(bestTeam, remain[bestPosition]);
+            slot[bestTeam]--;
+            assigned[bestPosition] = true;
+            heads[bestClass]++;
+        }
+
+        int[] leftover = new int[remain.length];
+        int count = 0;
+        for (int r = 0; r < remain.length; r++) {
+            if (!assigned[r]) leftover[count++] = remain[r];
+        }
+        return Arrays.copyOf(leftover, count);
+    }
+
+    // 남은 멤버를 음주 평균이 가장 가까운 팀에 순차 배정 (같은 성별이 팀 내 최다인 팀은 1.5배 페널티)
+    // members는 음주 점수 내림차순으로 정렬되어 있어야 함
+    public void assignLeftovers(int[] members) {
+        for (int m : members) {
+            int drinkScore = snapshot.drinkScore(m);
+            int minIndex = 0;
+            double minDiff = Double.MAX_VALUE;
+
+            for (int t = 0; t < sizes.length; t++) {
+                double average = sizes[t] == 0 ? 0 : (double) drinkSums[t] / sizes[t];
+                double diff = Math.abs(average - drinkScore);
+
+                int otherCount = sizes[t] - maleCounts[t] - femaleCounts[t];
+                int genderNum = snapshot.isMale(m) ? maleCounts[t]
+                        : snapshot.isFemale(m) ? femaleCounts[t] : otherCount;
+                int maxGenderCount = Math.max(maleCounts[t], Math.max(femaleCounts[t], otherCount));
+                if (genderNum == maxGenderCount && maxGenderCount > 0) {
+                    diff *= 1.5;
+                }
+
+                if (diff < minDiff) {
+                    minDiff = diff;
+                    minIndex = t;
+                }
+            }
+            add(minIndex, m);
+        }
+    }
+}
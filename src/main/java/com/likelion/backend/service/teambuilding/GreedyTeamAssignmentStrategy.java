@@ -0,0 +1,132 @@
+package com.likelion.backend.service.teambuilding;
+
+import com.likelion.backend.enums.TeamBuildPhase;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+// 리더 선발 -> E/I·성별 그룹핑 -> 누적 카운터 기반 탐욕 배정 -> 남은 멤버 처리 순서의 기본 팀빌딩 알고리즘
+@Component
+public class GreedyTeamAssignmentStrategy implements TeamAssignmentStrategy {
+
+    public static final String NAME = "greedy";
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public AssignmentResult assign(MemberFeatureSnapshot snapshot, TeamBuildingOptions options) {
+        TeamAssignment assignment = build(snapshot, options.getTotalMembers(), options.getTeamCount(),
+                null, options.getMonitor());
+        double objective = TeamBalanceState.objectiveOf(snapshot, assignment);
+        return new AssignmentResult(assignment, objective, objective, 0);
+    }
+
+    public TeamAssignment build(MemberFeatureSnapshot snapshot, int totalMembers, int teamCount) {
+        return build(snapshot, totalMembers, teamCount, null, TeamBuildMonitor.NONE);
+    }
+
+    // shuffle이 주어지면 팔로워 후보 순서를 섞어 동점 처리 순서가 다른 출발점을 만든다 (multi-start 재시작용)
+    public TeamAssignment build(MemberFeatureSnapshot snapshot, int totalMembers, int teamCount,
+                                SplittableRandom shuffle, TeamBuildMonitor monitor) {
+        int memberCount = snapshot.size();
+        monitor.phase(TeamBuildPhase.LEADER_SELECTION);
+
+        // 1. 리더 점수로 리더 선발 <- 질문 1 답이 높을수록 리더형!
+        // 리더 점수 높은 순으로 정렬하여 팀 수만큼 리더 선발
+        List<Integer> leaders = new ArrayList<>(memberCount);
+        for (int i = 0; i < memberCount; i++) {
+            leaders.add(i);
+        }
+        leaders.sort(Comparator.<Integer>comparingInt(snapshot::leaderScore).reversed()
+                .thenComparingLong(snapshot::id));
+        leaders = new ArrayList<>(leaders.subList(0, Math.min(teamCount, memberCount)));
+
+        // 2. 리더 음주 점수 추출 & 리더 정렬 (음주 내림차순) <- 질문 2 답이 높을수록 애주가
+        leaders.sort((a, b) -> Integer.compare(snapshot.drinkScore(b), snapshot.drinkScore(a)));
+
+        // 3. 리더 제외 팔로워 분리
+        boolean[] isLeader = new boolean[memberCount];
+        for (int leader : leaders) {
+            isLeader[leader] = true;
+        }
+
+        // 4. 팔로워를 MBTI E/I, 성별로 분류 후 음주 점수 내림차순 정렬
+        List<Integer> eMaleGroup = new ArrayList<>();
+        List<Integer> eFemaleGroup = new ArrayList<>();
+        List<Integer> iMaleGroup = new ArrayList<>();
+        List<Integer> iFemaleGroup = new ArrayList<>();
+        for (int i = 0; i < memberCount; i++) {
+            if (isLeader[i]) continue;
+            if (snapshot.isMale(i)) {
+                (snapshot.isExtrovert(i) ? eMaleGroup : iMaleGroup).add(i);
+            } else if (snapshot.isFemale(i)) {
+                (snapshot.isExtrovert(i) ? eFemaleGroup : iFemaleGroup).add(i);
+            }
+        }
+
+        Comparator<Integer> drinkDescThenId = Comparator.<Integer>comparingInt(snapshot::drinkScore).reversed()
+                .thenComparingLong(snapshot::id);
+
+        eMaleGroup.sort(drinkDescThenId);
+        eFemaleGroup.sort(drinkDescThenId);
+        iMaleGroup.sort(drinkDescThenId);
+        iFemaleGroup.sort(drinkDescThenId);
+
+        // 5. 팀별 균등 인원 할당 수 계산 (리더 1명 제외)
+        int baseCount = totalMembers / teamCount;
+        int remainder = totalMembers % teamCount;
+
+        int[] slot = new int[teamCount];
+        for (int i = 0; i < teamCount; i++) {
+            // 리더 자리 제외하고 배정 가능한 슬롯 계산
+            slot[i] = baseCount + (i < remainder ? 1 : 0) - 1;
+        }
+
+        // 6. 리더를 팀별 첫 번째 멤버로 배정
+        FollowerAssignmentEngine engine = new FollowerAssignmentEngine(snapshot, teamCount);
+        for (int i = 0; i < teamCount; i++) {
+            engine.add(i, leaders.get(i));
+        }
+
+        // 7. 팔로워들을 남은 자리에 최대한 균등 분배 (MBTI, 성별, 음주 점수 고려)
+        List<Integer> remain = new ArrayList<>();
+        remain.addAll(eMaleGroup);
+        remain.addAll(eFemaleGroup);
+        remain.addAll(iMaleGroup);
+        remain.addAll(iFemaleGroup);
+        if (shuffle != null) {
+            Collections.shuffle(remain, new Random(shuffle.nextLong()));
+        }
+
+        monitor.checkCancelled();
+        monitor.phase(TeamBuildPhase.ASSIGNMENT);
+        int[] leftover = engine.assignFollowers(toArray(remain), slot, monitor);
+
+        // 8. 남은 멤버 처리 - 음주 점수 내림차순으로 정렬 후 음주 평균이 가까운 팀에 순차 배정
+        monitor.phase(TeamBuildPhase.LEFTOVER_ASSIGNMENT);
+        List<Integer> remainingMembers = new ArrayList<>(leftover.length);
+        for (int m : leftover) {
+            remainingMembers.add(m);
+        }
+        remainingMembers.sort(drinkDescThenId);
+        engine.assignLeftovers(toArray(remainingMembers));
+
+        return engine.assignment();
+    }
+
+    private static int[] toArray(List<Integer> list) {
+        int[] array = new int[list.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = list.get(i);
+        }
+        return array;
+    }
+}
@@ -0,0 +1,137 @@
+package com.likelion.backend.service.teambuilding;
+
+import com.likelion.backend.enums.TeamBuildPhase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.SplittableRandom;
+
+// greedy 결과에서 출발해 서로 다른 팀의 팔로워를 맞바꾸는 담금질(simulated annealing)로 균형을 개선하는 전략
+// 리더(팀의 0번째 멤버)는 움직이지 않으며, 팀 인원수도 그대로 유지된다.
+@Component
+@RequiredArgsConstructor
+public class LocalSearchTeamAssignmentStrategy implements TeamAssignmentStrategy {
+
+    public static final String NAME = "local-search";
+
+    public static final long DEFAULT_TIME_BUDGET_MILLIS = 1_000;
+    static final long MAX_TIME_BUDGET_MILLIS = 60_000;
+
+    private static final double START_TEMPERATURE = 0.05;
+    private static final double END_TEMPERATURE = 0.0005;
+    // 시간 확인/온도 갱신 주기 (반복 횟수)
+    private static final int CHECK_INTERVAL = 1 << 12;
+
+    private final GreedyTeamAssignmentStrategy greedy;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public AssignmentResult assign(MemberFeatureSnapshot snapshot, TeamBuildingOptions options) {
+        TeamAssignment initial = greedy.build(snapshot, options.getTotalMembers(), options.getTeamCount(),
+                null, options.getMonitor());
+        options.getMonitor().phase(TeamBuildPhase.OPTIMIZATION);
+        return improve(snapshot, initial, options);
+    }
+
+    // initial은 변경하지 않고 복사본을 개선해서 반환
+    public AssignmentResult improve(MemberFeatureSnapshot snapshot, TeamAssignment initial, TeamBuildingOptions options) {
+        TeamBalanceState state = TeamBalanceState.of(snapshot, initial.copy());
+        double before = state.objective();
+
+        // 맞교환 대상이 되는 팔로워 자리 (팀, 위치) 목록
+        int teamCount = initial.teamCount();
+        int followerCount = 0;
+        for (int t = 0; t < teamCount; t++) {
+            followerCount += Math.max(0, initial.size(t) - 1);
+        }
+        if (teamCount < 2 || followerCount < 2) {
+            return new AssignmentResult(state.assignment(), before, before, 0);
+        }
+        int[] slotTeams = new int[followerCount];
+        int[] slotPositions = new int[followerCount];
+        int k = 0;
+        for (int t = 0; t < teamCount; t++) {
+            for (int p = 1; p < initial.size(t); p++) {
+                slotTeams[k] = t;
+                slotPositions[k] = p;
+                k++;
+            }
+        }
+
+        long maxIterations = Math.max(0, options.getMaxIterations());
+        long budgetNanos = resolveTimeBudgetMillis(options) * 1_000_000L;
+        SplittableRandom random = new SplittableRandom(options.getSeed());
+
+        TeamBuildMonitor monitor = options.getMonitor();
+        long start = System.nanoTime();
+        long iterations = 0;
+        double temperature = START_TEMPERATURE;
+
+        // 현재 배정이 지금까지의 최선이면 best 복사본 없이 진행하고, 나빠지는 이동을 받아들이기 직전에만 복사
+        boolean currentIsBest = true;
+        double bestObjective = before;
+        TeamAssignment best = null;
+
+        while (maxIterations == 0 || iterations < maxIterations) {
+            if ((iterations & (CHECK_INTERVAL - 1)) == 0) {
+                double progress = progress(iterations, maxIterations, System.nanoTime() - start, budgetNanos);
+                if (progress >= 1) {
+                    break;
+                }
+                monitor.checkCancelled();
+                monitor.progress(progress);
+                temperature = START_TEMPERATURE * Math.pow(END_TEMPERATURE / START_TEMPERATURE, progress);
+                state.recompute();
+            }
+            iterations++;
+
+            int i = random.nextInt(followerCount);
+            int j = random.nextInt(followerCount);
+            int a = slotTeams[i];
+            int b = slotTeams[j];
+            if (a == b) continue;
+
+            double delta = state.swapDelta(a, slotPositions[i], b, slotPositions[j]);
+            if (delta > 0) {
+                if (random.nextDouble() >= Math.exp(-delta / temperature)) continue;
+                if (currentIsBest) {
+                    best = state.assignment().copy();
+                    bestObjective = state.objective();
+                    currentIsBest = false;
+                }
+            }
+            state.applySwap(a, slotPositions[i], b, slotPositions[j]);
+            if (!currentIsBest && state.objective() < bestObjective) {
+                currentIsBest = true;
+            }
+        }
+
+        TeamAssignment result = currentIsBest ? state.assignment() : best;
+        return new AssignmentResult(result, before, TeamBalanceState.objectiveOf(snapshot, result), iterations);
+    }
+
+    // 반복 횟수/시간 예산 중 먼저 소진되는 쪽 기준 진행률 (0 ~ 1)
+    private static double progress(long iterations, long maxIterations, long elapsedNanos, long budgetNanos) {
+        double progress = 0;
+        if (maxIterations > 0) {
+            progress = (double) iterations / maxIterations;
+        }
+        if (budgetNanos > 0) {
+            progress = Math.max(progress, (double) elapsedNanos / budgetNanos);
+        }
+        return progress;
+    }
+
+    private static long resolveTimeBudgetMillis(TeamBuildingOptions options) {
+        long budget = options.getTimeBudgetMillis();
+        if (budget <= 0) {
+            // 반복 횟수 제한만 주어지면 시간 제한 없이 결정적으로 수행
+            return options.getMaxIterations() > 0 ? 0 : DEFAULT_TIME_BUDGET_MILLIS;
+        }
+        return Math.min(budget, MAX_TIME_BUDGET_MILLIS);
+    }
+}
@@ -0,0 +1,212 @@
+package com.likelion.backend.service.teambuilding;
+
+import com.likelion.backend.domain.Member;
+import com.likelion.backend.domain.QuestionResult;
+import com.likelion.backend.enums.QuestionRole;
+import com.likelion.backend.service.QuestionCatalog;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 팀빌딩 1회분의 멤버 특성 스냅샷
+// 설문 응답을 미리 읽어 멤버별 원시값(리더 점수, 음주 점수, E/I, 성별)을 평평한 배열로 보관한다.
+// 생성 이후에는 읽기 전용이므로 여러 스레드에서 공유해도 안전하다.
+public final class MemberFeatureSnapshot {
+
+    public static final byte GENDER_OTHER = 0;
+    public static final byte GENDER_MALE = 1;
+    public static final byte GENDER_FEMALE = 2;
+
+    private final long[] ids;
+    private final String[] names;
+    private final int[] leaderScores;
+    private final int[] drinkScores;
+    private final String[] mbtiInitials;
+    private final boolean[] extroverts;
+    private final byte[] genders;
+
+    private MemberFeatureSnapshot(Builder builder) {
+        int size = builder.size;
+        this.ids = Arrays.copyOf(builder.ids, size);
+        this.names = Arrays.copyOf(builder.names, size);
+        this.leaderScores = Arrays.copyOf(builder.leaderScores, size);
+        this.drinkScores = Arrays.copyOf(builder.drinkScores, size);
+        this.mbtiInitials = Arrays.copyOf(builder.mbtiInitials, size);
+        this.extroverts = Arrays.copyOf(builder.extroverts, size);
+        this.genders = Arrays.copyOf(builder.genders, size);
+    }
+
+    private MemberFeatureSnapshot(MemberFeatureSnapshot source, int[] members) {
+        int size = members.length;
+        this.ids = new long[size];
+        this.names = new String[size];
+        this.leaderScores = new int[size];
+        this.drinkScores = new int[size];
+        this.mbtiInitials = new String[size];
+        this.extroverts = new boolean[size];
+        this.genders = new byte[size];
+        for (int i = 0; i < size; i++) {
+            int m = members[i];
+            ids[i] = source.ids[m];
+            names[i] = source.names[m];
+            leaderScores[i] = source.leaderScores[m];
+            drinkScores[i] = source.drinkScores[m];
+            mbtiInitials[i] = source.mbtiInitials[m];
+            extroverts[i] = source.extroverts[m];
+            genders[i] = source.genders[m];
+        }
+    }
+
+    // 멤버 목록(ID 오름차순)과 해당 멤버들의 전체 응답으로 스냅샷 생성 (질문 역할은 catalog에서 id로 조회)
+    public static MemberFeatureSnapshot from(List<Member> members, List<QuestionResult> results, QuestionCatalog catalog) {
+        Map<Long, List<QuestionResult>> resultsByMember = new HashMap<>();
+        for (QuestionResult qr : results) {
+            if (qr.getMember() == null) continue;
+            resultsByMember.computeIfAbsent(qr.getMember().getId(), id -> new ArrayList<>()).add(qr);
+        }
+
+        Builder builder = builder(members.size());
+        for (Member member : members) {
+            List<QuestionResult> answers = resultsByMember.getOrDefault(member.getId(), List.of());
+            builder.add(member.getId(),
+                    member.getName(),
+                    member.getGender(),
+                    parseScore(findAnswer(answers, catalog, QuestionRole.LEADER)),
+                    parseScore(findAnswer(answers, catalog, QuestionRole.DRINK)),
+                    findAnswer(answers, catalog, QuestionRole.MBTI));
+        }
+        return builder.build();
+    }
+
+    // role 질문에 대한 첫 번째 응답 (없으면 null)
+    private static String findAnswer(List<QuestionResult> answers, QuestionCatalog catalog, QuestionRole role) {
+        for (QuestionResult qr : answers) {
+            if (qr.getQuestion() != null && catalog.is(role, qr.getQuestion().getId())) {
+                return qr.getAnswer() == null ? "" : qr.getAnswer();
+            }
+        }
+        return null;
+    }
+
+    private static int parseScore(String answer) {
+        if (answer == null) return 0;  // 질문 답변 없으면 0점 처리
+        try {
+            return Integer.parseInt(answer);
+        } catch (Exception e) {
+            return 0;  // 파싱 실패 시 0점으로 처리
+        }
+    }
+
+    public static Builder builder(int expectedSize) {
+        return new Builder(expectedSize);
+    }
+
+    // members(이 스냅샷의 인덱스) 순서대로 뽑은 부분 스냅샷 - 새 스냅샷의 i번째 멤버는 members[i]
+    public MemberFeatureSnapshot subset(int[] members) {
+        return new MemberFeatureSnapshot(this, members);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public long id(int i) {
+        return ids[i];
+    }
+
+    public String name(int i) {
+        return names[i];
+    }
+
+    public int leaderScore(int i) {
+        return leaderScores[i];
+    }
+
+    public int drinkScore(int i) {
+        return drinkScores[i];
+    }
+
+    // MBTI 첫 글자 (대문자, 응답 없으면 "")
+    public String mbtiInitial(int i) {
+        return mbtiInitials[i];
+    }
+
+    public boolean isExtrovert(int i) {
+        return extroverts[i];
+    }
+
+    public byte gender(int i) {
+        return genders[i];
+    }
+
+    public boolean isMale(int i) {
+        return genders[i] == GENDER_MALE;
+    }
+
+    public boolean isFemale(int i) {
+        return genders[i] == GENDER_FEMALE;
+    }
+
+    public static final class Builder {
+        private int size;
+        private long[] ids;
+        private String[] names;
+        private int[] leaderScores;
+        private int[] drinkScores;
+        private String[] mbtiInitials;
+        private boolean[] extroverts;
+        private byte[] genders;
+
+        private Builder(int expectedSize) {
+            int capacity = Math.max(expectedSize, 16);
+            this.ids = new long[capacity];
+            this.names = new String[capacity];
+            this.leaderScores = new int[capacity];
+            this.drinkScores = new int[capacity];
+            this.mbtiInitials = new String[capacity];
+            this.extroverts = new boolean[capacity];
+            this.genders = new byte[capacity];
+        }
+
+        // mbti는 전체 응답 문자열, gender는 "남자"/"여자" 원문
+        public Builder add(long id, String name, String gender, int leaderScore, int drinkScore, String mbti) {
+            if (size == ids.length) {
+                grow();
+            }
+            String initial = (mbti != null && !mbti.isEmpty()) ? mbti.substring(0, 1).toUpperCase() : "";
+            ids[size] = id;
+            names[size] = name;
+            leaderScores[size] = leaderScore;
+            drinkScores[size] = drinkScore;
+            mbtiInitials[size] = initial;
+            extroverts[size] = "E".equalsIgnoreCase(initial);
+            genders[size] = toGenderCode(gender);
+            size++;
+            return this;
+        }
+
+        public MemberFeatureSnapshot build() {
+            return new MemberFeatureSnapshot(this);
+        }
+
+        private void grow() {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            names = Arrays.copyOf(names, capacity);
+            leaderScores = Arrays.copyOf(leaderScores, capacity);
+            drinkScores = Arrays.copyOf(drinkScores, capacity);
+            mbtiInitials = Arrays.copyOf(mbtiInitials, capacity);
+            extroverts = Arrays.copyOf(extroverts, capacity);
+            genders = Arrays.copyOf(genders, capacity);
+        }
+
+        private static byte toGenderCode(String gender) {
+            if ("남자".equalsIgnoreCase(gender)) return GENDER_MALE;
+            if ("여자".equalsIgnoreCase(gender)) return GENDER_FEMALE;
+            return GENDER_OTHER;
+        }
+    }
+}
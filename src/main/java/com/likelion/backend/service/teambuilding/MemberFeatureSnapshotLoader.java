@@ -0,0 +1,45 @@
+package com.likelion.backend.service.teambuilding;
+
+import com.likelion.backend.domain.Member;
+import com.likelion.backend.domain.QuestionResult;
+import com.likelion.backend.enums.Role;
+import com.likelion.backend.repository.MemberRepository;
+import com.likelion.backend.repository.QuestionResultRepository;
+import com.likelion.backend.service.QuestionCatalog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class MemberFeatureSnapshotLoader {
+
+    private final MemberRepository memberRepository;
+    private final QuestionResultRepository questionResultRepository;
+    private final QuestionCatalog questionCatalog;
+
+    // 아기사자 중 ID가 오래된 순으로 totalMembers명의 스냅샷 생성 (멤버 1회 + 응답 1회 조회)
+    public MemberFeatureSnapshot load(int totalMembers) {
+        List<Member> allMembers = memberRepository.findByRole(Role.BABY).stream()
+                .sorted(Comparator.comparing(Member::getId))  // ID 오름차순 정렬해서 오래된 멤버부터
+                .toList();
+        List<Member> members = allMembers.subList(0, Math.min(totalMembers, allMembers.size()));
+
+        List<QuestionResult> results = questionResultRepository.findAllByMemberRoleFetchQuestion(Role.BABY);
+        return MemberFeatureSnapshot.from(members, results, questionCatalog);
+    }
+
+    // 지정한 아기사자들만의 스냅샷 (ID 오름차순, 아기사자가 아니거나 없는 id는 제외) - 팀 부분 수정용 (멤버 1회 + 응답 1회 조회)
+    public MemberFeatureSnapshot loadMembers(Collection<Long> memberIds) {
+        List<Member> members = memberRepository.findAllById(memberIds).stream()
+                .filter(Member::isBaby)
+                .sorted(Comparator.comparing(Member::getId))
+                .toList();
+        List<QuestionResult> results = members.isEmpty() ? List.of()
+                : questionResultRepository.findAllByMemberIdInFetchQuestion(members.stream().map(Member::getId).toList());
+        return MemberFeatureSnapshot.from(members, results, questionCatalog);
+    }
+}
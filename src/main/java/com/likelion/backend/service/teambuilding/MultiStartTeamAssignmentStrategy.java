@@ -0,0 +1,89 @@
+package com.likelion.backend.service.teambuilding;
+
+import com.likelion.backend.enums.TeamBuildPhase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 서로 다른 시드로 (greedy 출발점 + 로컬 서치)를 N번 병렬 실행해 목적함수가 가장 낮은 배정을 고르는 전략
+// 모든 재시작이 같은 읽기 전용 스냅샷을 공유하며, 재시작별 시드와 반복 횟수가 고정이므로
+// 같은 seed면 병렬도와 상관없이 항상 같은 결과가 나온다.
+@Component
+@RequiredArgsConstructor
+public class MultiStartTeamAssignmentStrategy implements TeamAssignmentStrategy {
+
+    public static final String NAME = "multi-start";
+
+    static final int DEFAULT_RESTARTS = 8;
+    static final int MAX_RESTARTS = 256;
+    static final long DEFAULT_ITERATIONS_PER_RESTART = 200_000;
+
+    private final GreedyTeamAssignmentStrategy greedy;
+    private final LocalSearchTeamAssignmentStrategy localSearch;
+    private final ParallelTasks parallelTasks;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public AssignmentResult assign(MemberFeatureSnapshot snapshot, TeamBuildingOptions options) {
+        int restarts = options.getRestarts() <= 0 ? DEFAULT_RESTARTS : Math.min(options.getRestarts(), MAX_RESTARTS);
+        long iterations = options.getMaxIterations() > 0 ? options.getMaxIterations() : DEFAULT_ITERATIONS_PER_RESTART;
+
+        TeamBuildMonitor monitor = options.getMonitor();
+        monitor.phase(TeamBuildPhase.OPTIMIZATION);
+        AtomicInteger completed = new AtomicInteger();
+
+        // 재시작별 시드는 호출 스레드에서 순서대로 뽑아 실행 순서와 무관하게 고정
+        SplittableRandom seeds = new SplittableRandom(options.getSeed());
+        List<Callable<AssignmentResult>> tasks = new ArrayList<>(restarts);
+        for (int i = 0; i < restarts; i++) {
+            boolean shuffled = i > 0;  // 0번째 재시작은 기본 greedy 결과에서 출발
+            long restartSeed = seeds.nextLong();
+            tasks.add(() -> {
+                AssignmentResult result = runRestart(snapshot, options, iterations, restartSeed, shuffled);
+                monitor.progress((double) completed.incrementAndGet() / restarts);
+                return result;
+            });
+        }
+
+        List<AssignmentResult> results = parallelTasks.invokeAll(options.getParallelism(), tasks);
+
+        // 목적함수가 가장 낮은 결과 (동률이면 앞선 재시작)
+        AssignmentResult best = results.get(0);
+        long totalIterations = 0;
+        for (AssignmentResult result : results) {
+            totalIterations += result.getIterations();
+            if (result.getObjectiveAfter() < best.getObjectiveAfter()) {
+                best = result;
+            }
+        }
+        return new AssignmentResult(best.getAssignment(),
+                results.get(0).getObjectiveBefore(), best.getObjectiveAfter(), totalIterations);
+    }
+
+    private AssignmentResult runRestart(MemberFeatureSnapshot snapshot, TeamBuildingOptions options,
+                                        long iterations, long restartSeed, boolean shuffled) {
+        SplittableRandom random = new SplittableRandom(restartSeed);
+        // 하위 작업은 진행률을 따로 보고하지 않고 취소 여부만 확인
+        TeamBuildMonitor monitor = options.getMonitor().cancellationOnly();
+        TeamAssignment initial = greedy.build(snapshot, options.getTotalMembers(), options.getTeamCount(),
+                shuffled ? random : null, monitor);
+
+        // 시간 예산 대신 반복 횟수로만 제한해야 결정적인 결과가 보장됨
+        TeamBuildingOptions restartOptions = options.toBuilder()
+                .monitor(monitor)
+                .timeBudgetMillis(0)
+                .maxIterations(iterations)
+                .seed(random.nextLong())
+                .build();
+        return localSearch.improve(snapshot, initial, restartOptions);
+    }
+}
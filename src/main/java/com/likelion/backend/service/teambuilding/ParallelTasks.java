@@ -0,0 +1,112 @@
+package com.likelion.backend.service.teambuilding;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 팀빌딩 연산 전용 ForkJoinPool (공용 common pool과 분리, 애플리케이션 전체에서 하나)
+// 풀 크기가 팀빌딩 연산에 쓰는 스레드 수의 상한이며, 요청별 parallelism은 한 번에 제출하는 작업 수만 제한한다.
+@Component
+public class ParallelTasks {
+
+    public static final int MAX_PARALLELISM = 32;
+
+    private final ForkJoinPool pool;
+
+    public ParallelTasks(@Value("${team-building.pool-size:0}") int poolSize) {
+        // 기본값은 CPU 수
+        int size = Math.min(poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors(), MAX_PARALLELISM);
+        this.pool = new ForkJoinPool(size, p -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+            thread.setName("team-building-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+    }
+
+    // 요청한 동시 실행 수 (0 이하면 풀 크기, 풀 크기를 넘을 수 없음)
+    public int resolveParallelism(int requested) {
+        if (requested <= 0) {
+            return pool.getParallelism();
+        }
+        return Math.min(requested, pool.getParallelism());
+    }
+
+    // 결과는 tasks 순서대로 반환, 실패한 작업이 있으면 남은 작업은 시작하지 않고 그 예외를 그대로 던짐
+    // 풀에는 동시 실행 수만큼의 실행 루프만 제출하고, 각 루프가 남은 작업을 하나씩 가져가 실행한다.
+    // 동시 실행 수가 1이거나 이 풀의 작업 안에서 다시 호출되면 호출 스레드에서 순서대로 실행
+    // (풀 스레드가 하위 작업을 기다리며 풀을 모두 점유해 멈추는 일이 없도록)
+    public <T> List<T> invokeAll(int parallelism, List<Callable<T>> tasks) {
+        int limit = Math.min(resolveParallelism(parallelism), tasks.size());
+        AtomicInteger next = new AtomicInteger();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Object[] results = new Object[tasks.size()];
+        Runnable loop = () -> {
+            int i;
+            while (failure.get() == null && (i = next.getAndIncrement()) < tasks.size()) {
+                try {
+                    results[i] = tasks.get(i).call();
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                }
+            }
+        };
+
+        if (limit <= 1 || insidePool()) {
+            loop.run();
+        } else {
+            List<ForkJoinTask<?>> loops = new ArrayList<>(limit);
+            for (int k = 0; k < limit; k++) {
+                loops.add(pool.submit(loop));
+            }
+            try {
+                for (ForkJoinTask<?> task : loops) {
+                    task.get();
+                }
+            } catch (InterruptedException e) {
+                // 실행 중인 작업은 끝까지 돌고, 남은 작업은 시작하지 않음
+                failure.compareAndSet(null, e);
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("팀빌딩 병렬 작업이 중단되었습니다.", e);
+            } catch (ExecutionException e) {
+                failure.compareAndSet(null, e.getCause());
+            }
+        }
+
+        Throwable error = failure.get();
+        if (error instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (error instanceof Error fatal) {
+            throw fatal;
+        }
+        if (error != null) {
+            throw new IllegalStateException("팀빌딩 병렬 작업 중 오류가 발생했습니다.", error);
+        }
+        List<T> list = new ArrayList<>(results.length);
+        for (Object result : results) {
+            @SuppressWarnings("unchecked")
+            T value = (T) result;
+            list.add(value);
+        }
+        return list;
+    }
+
+    private boolean insidePool() {
+        return Thread.currentThread() instanceof ForkJoinWorkerThread worker && worker.getPool() == pool;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+}
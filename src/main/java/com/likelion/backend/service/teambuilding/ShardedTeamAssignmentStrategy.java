@@ -0,0 +1,189 @@
+package com.likelion.backend.service.teambuilding;
+
+import com.likelion.backend.enums.TeamBuildPhase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 대규모 기수용 전략 - 멤버를 (E/I, 성별, 음주 점수 분위) 층별로 고르게 나눈 파티션마다 greedy를 병렬 실행하고,
+// 합친 결과를 로컬 서치(파티션 경계를 넘는 팔로워 맞교환)로 재조정한다.
+// greedy 배정 비용이 (멤버 수 x 팀 수)에 비례하므로 파티션 S개로 나누면 전체 연산량이 1/S로 줄고 코어별로 병렬 실행된다.
+// 파티션 구성과 재조정 시드/반복 횟수가 고정이므로 같은 seed면 병렬도와 상관없이 항상 같은 결과가 나온다.
+@Component
+@RequiredArgsConstructor
+public class ShardedTeamAssignmentStrategy implements TeamAssignmentStrategy {
+
+    public static final String NAME = "sharded";
+
+    static final int MAX_SHARDS = 256;
+    // 파티션 하나가 맡는 최소 팀 수 (파티션 수 자동 결정 시)
+    static final int MIN_TEAMS_PER_SHARD = 8;
+    static final int DRINK_QUANTILES = 4;
+    // 재조정 기본 반복 횟수 (멤버 1명당)
+    static final long DEFAULT_REBALANCE_ITERATIONS_PER_MEMBER = 50;
+
+    private final GreedyTeamAssignmentStrategy greedy;
+    private final LocalSearchTeamAssignmentStrategy localSearch;
+    private final ParallelTasks parallelTasks;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public AssignmentResult assign(MemberFeatureSnapshot snapshot, TeamBuildingOptions options) {
+        int teamCount = options.getTeamCount();
+        int shardCount = resolveShards(options);
+
+        TeamBuildMonitor monitor = options.getMonitor();
+        monitor.phase(TeamBuildPhase.LEADER_SELECTION);
+
+        // 파티션별 팀 수, 멤버 수, 정원(totalMembers)을 팀 수에 비례해 나눔
+        int[] teams = split(teamCount, shardCount);
+        int[] memberQuotas = split(snapshot.size(), teams, teamCount);
+        int[] totalQuotas = split(options.getTotalMembers(), teams, teamCount);
+        int[][] shards = partition(snapshot, memberQuotas);
+
+        monitor.checkCancelled();
+        monitor.phase(TeamBuildPhase.ASSIGNMENT);
+        AtomicInteger completed = new AtomicInteger();
+        List<Callable<TeamAssignment>> tasks = new ArrayList<>(shardCount);
+        for (int s = 0; s < shardCount; s++) {
+            int shard = s;
+            tasks.add(() -> {
+                // 하위 작업은 진행률을 따로 보고하지 않고 취소 여부만 확인
+                MemberFeatureSnapshot sub = snapshot.subset(shards[shard]);
+                TeamAssignment result = greedy.build(sub, totalQuotas[shard], teams[shard],
+                        null, monitor.cancellationOnly());
+                monitor.progress((double) completed.incrementAndGet() / shardCount);
+                return result;
+            });
+        }
+        List<TeamAssignment> results = parallelTasks.invokeAll(options.getParallelism(), tasks);
+
+        // 파티션 결과를 전체 스냅샷 인덱스로 되돌려 이어 붙임 (파티션 0의 팀들이 앞쪽)
+        TeamAssignment merged = new TeamAssignment(teamCount, snapshot.size() / teamCount + 1);
+        int offset = 0;
+        for (int s = 0; s < shardCount; s++) {
+            TeamAssignment result = results.get(s);
+            for (int t = 0; t < teams[s]; t++) {
+                for (int member : result.members(t)) {
+                    merged.add(offset + t, shards[s][member]);
+                }
+            }
+            offset += teams[s];
+        }
+
+        // 파티션 경계를 넘는 맞교환으로 전체 균형 재조정 - 시간 예산 대신 반복 횟수로만 제한해 결정적으로 수행
+        monitor.checkCancelled();
+        monitor.phase(TeamBuildPhase.OPTIMIZATION);
+        long iterations = options.getMaxIterations() > 0
+                ? options.getMaxIterations()
+                : DEFAULT_REBALANCE_ITERATIONS_PER_MEMBER * snapshot.size();
+        TeamBuildingOptions rebalanceOptions = options.toBuilder()
+                .timeBudgetMillis(0)
+                .maxIterations(iterations)
+                .build();
+        return localSearch.improve(snapshot, merged, rebalanceOptions);
+    }
+
+    int resolveShards(TeamBuildingOptions options) {
+        int teamCount = options.getTeamCount();
+        int shards = options.getShards() > 0
+                ? Math.min(options.getShards(), MAX_SHARDS)
+                : Math.min(parallelTasks.resolveParallelism(options.getParallelism()), teamCount / MIN_TEAMS_PER_SHARD);
+        return Math.max(1, Math.min(shards, teamCount));
+    }
+
+    // 멤버를 층(E/I, 성별, 음주 점수 분위)별로 묶고 층 안에서는 리더 점수 내림차순으로 세운 뒤,
+    // 앞에서부터 정원 대비 가장 덜 채워진 파티션에 하나씩 나눠 담는다.
+    // 어느 구간을 잘라 봐도 파티션별 몫이 정원에 비례하므로 층 구성과 리더 후보가 파티션마다 고르게 퍼진다.
+    // 반환값은 파티션별 멤버 인덱스 (오름차순)
+    static int[][] partition(MemberFeatureSnapshot snapshot, int[] quotas) {
+        int n = snapshot.size();
+        int[] strata = strata(snapshot);
+
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.<Integer>comparingInt(i -> strata[i])
+                .thenComparing(Comparator.<Integer>comparingInt(snapshot::leaderScore).reversed())
+                .thenComparingLong(snapshot::id));
+
+        int shardCount = quotas.length;
+        int[][] shards = new int[shardCount][];
+        for (int s = 0; s < shardCount; s++) {
+            shards[s] = new int[quotas[s]];
+        }
+        int[] counts = new int[shardCount];
+        for (int k = 0; k < n; k++) {
+            // k+1명까지의 이상적인 몫(quota * (k+1) / n) 대비 부족분이 가장 큰 파티션 (동률이면 앞 파티션)
+            int best = -1;
+            long bestDeficit = Long.MIN_VALUE;
+            for (int s = 0; s < shardCount; s++) {
+                if (counts[s] == quotas[s]) continue;
+                long deficit = (long) quotas[s] * (k + 1) - (long) counts[s] * n;
+                if (deficit > bestDeficit) {
+                    bestDeficit = deficit;
+                    best = s;
+                }
+            }
+            shards[best][counts[best]++] = order[k];
+        }
+        for (int[] shard : shards) {
+            Arrays.sort(shard);
+        }
+        return shards;
+    }
+
+    // 멤버별 층 번호 = (음주 분위, 성별, E/I) 조합
+    private static int[] strata(MemberFeatureSnapshot snapshot) {
+        int n = snapshot.size();
+        Integer[] byDrink = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            byDrink[i] = i;
+        }
+        Arrays.sort(byDrink, Comparator.<Integer>comparingInt(snapshot::drinkScore)
+                .thenComparingLong(snapshot::id));
+
+        int[] strata = new int[n];
+        for (int rank = 0; rank < n; rank++) {
+            int m = byDrink[rank];
+            int quantile = (int) ((long) rank * DRINK_QUANTILES / n);
+            int gender = snapshot.isMale(m) ? 1 : snapshot.isFemale(m) ? 2 : 0;
+            strata[m] = (quantile * 3 + gender) * 2 + (snapshot.isExtrovert(m) ? 1 : 0);
+        }
+        return strata;
+    }
+
+    // total을 parts개로 균등 분할 (앞쪽이 1씩 더 많음)
+    private static int[] split(int total, int parts) {
+        int[] result = new int[parts];
+        for (int i = 0; i < parts; i++) {
+            result[i] = total / parts + (i < total % parts ? 1 : 0);
+        }
+        return result;
+    }
+
+    // total을 weights(합계 weightSum)에 비례하도록 누적 내림으로 분할
+    static int[] split(int total, int[] weights, int weightSum) {
+        int[] result = new int[weights.length];
+        long cumulative = 0;
+        int previous = 0;
+        for (int i = 0; i < weights.length; i++) {
+            cumulative += weights[i];
+            int next = (int) (total * cumulative / weightSum);
+            result[i] = next - previous;
+            previous = next;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,70 @@
+package com.likelion.backend.service.teambuilding;
+
+import java.util.Arrays;
+
+// 팀 배정 결과 - 팀별로 스냅샷 인덱스를 배정 순서대로 보관 (0번째가 리더)
+public final class TeamAssignment {
+
+    private final int[][] members;
+    private final int[] sizes;
+
+    public TeamAssignment(int teamCount, int expectedTeamSize) {
+        this.members = new int[teamCount][Math.max(expectedTeamSize, 4)];
+        this.sizes = new int[teamCount];
+    }
+
+    private TeamAssignment(int[][] members, int[] sizes) {
+        this.members = members;
+        this.sizes = sizes;
+    }
+
+    public void add(int team, int member) {
+        if (sizes[team] == members[team].length) {
+            members[team] = Arrays.copyOf(members[team], members[team].length * 2);
+        }
+        members[team][sizes[team]++] = member;
+    }
+
+    public void set(int team, int position, int member) {
+        members[team][position] = member;
+    }
+
+    // position의 멤버를 빼고 뒤 멤버들을 한 칸씩 당김 (나머지 순서 유지)
+    public int remove(int team, int position) {
+        int member = members[team][position];
+        System.arraycopy(members[team], position + 1, members[team], position, sizes[team] - position - 1);
+        sizes[team]--;
+        return member;
+    }
+
+    // position의 멤버를 맨 앞(리더 자리)으로 옮기고 그 앞의 멤버들은 한 칸씩 뒤로
+    public void moveToFront(int team, int position) {
+        int member = members[team][position];
+        System.arraycopy(members[team], 0, members[team], 1, position);
+        members[team][0] = member;
+    }
+
+    public int teamCount() {
+        return sizes.length;
+    }
+
+    public int size(int team) {
+        return sizes[team];
+    }
+
+    public int member(int team, int position) {
+        return members[team][position];
+    }
+
+    public int[] members(int team) {
+        return Arrays.copyOf(members[team], sizes[team]);
+    }
+
+    public TeamAssignment copy() {
+        int[][] copied = new int[members.length][];
+        for (int t = 0; t < members.length; t++) {
+            copied[t] = Arrays.copyOf(members[t], members[t].length);
+        }
+        return new TeamAssignment(copied, Arrays.copyOf(sizes, sizes.length));
+    }
+}
@@ -0,0 +1,10 @@
+package com.likelion.backend.service.teambuilding;
+
+// 스냅샷을 받아 팀 배정을 만들어내는 알고리즘
+public interface TeamAssignmentStrategy {
+
+    // 요청에서 전략을 고를 때 쓰는 이름
+    String name();
+
+    AssignmentResult assign(MemberFeatureSnapshot snapshot, TeamBuildingOptions options);
+}
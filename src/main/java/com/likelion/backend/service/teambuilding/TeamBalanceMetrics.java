@@ -0,0 +1,68 @@
+package com.likelion.backend.service.teambuilding;
+
+import lombok.Getter;
+
+// 팀 배정 결과의 균형 지표 (팀빌딩 미리보기용)
+// 비율 편차는 팀별 값의 (최대 - 최소), 음주 분산은 팀별 음주 평균의 모분산이며 빈 팀은 제외한다.
+@Getter
+public final class TeamBalanceMetrics {
+
+    private final double objective;
+    private final double extrovertRatioSpread;
+    private final double maleRatioSpread;
+    private final double drinkAverageVariance;
+    private final int minTeamSize;
+    private final int maxTeamSize;
+
+    private TeamBalanceMetrics(double objective, double extrovertRatioSpread, double maleRatioSpread,
+                               double drinkAverageVariance, int minTeamSize, int maxTeamSize) {
+        this.objective = objective;
+        this.extrovertRatioSpread = extrovertRatioSpread;
+        this.maleRatioSpread = maleRatioSpread;
+        this.drinkAverageVariance = drinkAverageVariance;
+        this.minTeamSize = minTeamSize;
+        this.maxTeamSize = maxTeamSize;
+    }
+
+    public static TeamBalanceMetrics of(MemberFeatureSnapshot snapshot, TeamAssignment assignment) {
+        double minE = Double.MAX_VALUE, maxE = -Double.MAX_VALUE;
+        double minMale = Double.MAX_VALUE, maxMale = -Double.MAX_VALUE;
+        double drinkSum = 0, drinkSquareSum = 0;
+        int minSize = Integer.MAX_VALUE, maxSize = 0;
+        int nonEmpty = 0;
+
+        for (int t = 0; t < assignment.teamCount(); t++) {
+            int size = assignment.size(t);
+            minSize = Math.min(minSize, size);
+            maxSize = Math.max(maxSize, size);
+            if (size == 0) continue;
+
+            int eCount = 0, maleCount = 0;
+            long drinkTotal = 0;
+            for (int p = 0; p < size; p++) {
+                int m = assignment.member(t, p);
+                if (snapshot.isExtrovert(m)) eCount++;
+                if (snapshot.isMale(m)) maleCount++;
+                drinkTotal += snapshot.drinkScore(m);
+            }
+            double eRatio = (double) eCount / size;
+            double maleRatio = (double) maleCount / size;
+            double drinkAverage = (double) drinkTotal / size;
+            minE = Math.min(minE, eRatio);
+            maxE = Math.max(maxE, eRatio);
+            minMale = Math.min(minMale, maleRatio);
+            maxMale = Math.max(maxMale, maleRatio);
+            drinkSum += drinkAverage;
+            drinkSquareSum += drinkAverage * drinkAverage;
+            nonEmpty++;
+        }
+
+        if (nonEmpty == 0) {
+            return new TeamBalanceMetrics(0, 0, 0, 0, 0, 0);
+        }
+        double drinkMean = drinkSum / nonEmpty;
+        double drinkVariance = Math.max(0, drinkSquareSum / nonEmpty - drinkMean * drinkMean);
+        return new TeamBalanceMetrics(TeamBalanceState.objectiveOf(snapshot, assignment),
+                maxE - minE, maxMale - minMale, drinkVariance, minSize, maxSize);
+    }
+}
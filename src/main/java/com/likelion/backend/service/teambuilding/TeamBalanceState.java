@@ -0,0 +1,185 @@
+package com.likelion.backend.service.teambuilding;
+
+// 팀 배정의 불균형 목적함수와 팀별 누적 카운터
+// 팀 비용 = |E 비율 - 0.5| + |남자 비율 - 0.5| + 0.1 * |팀 음주 평균 - 전체 음주 평균|
+// 두 멤버를 맞바꿀 때의 변화량을 두 팀의 카운터만으로 O(1)에 계산한다.
+public final class TeamBalanceState {
+
+    private static final double DRINK_WEIGHT = 0.1;
+
+    private final MemberFeatureSnapshot snapshot;
+    private final TeamAssignment assignment;
+
+    private final int[] sizes;
+    private final int[] eCounts;
+    private final int[] maleCounts;
+    private final long[] drinkSums;
+    private final double[] costs;
+    private final double targetDrink;
+    private double totalCost;
+
+    private TeamBalanceState(MemberFeatureSnapshot snapshot, TeamAssignment assignment) {
+        int teamCount = assignment.teamCount();
+        this.snapshot = snapshot;
+        this.assignment = assignment;
+        this.sizes = new int[teamCount];
+        this.eCounts = new int[teamCount];
+        this.maleCounts = new int[teamCount];
+        this.drinkSums = new long[teamCount];
+        this.costs = new double[teamCount];
+
+        long drinkTotal = 0;
+        int memberTotal = 0;
+        for (int t = 0; t < teamCount; t++) {
+            for (int p = 0; p < assignment.size(t); p++) {
+                int m = assignment.member(t, p);
+                sizes[t]++;
+                if (snapshot.isExtrovert(m)) eCounts[t]++;
+                if (snapshot.isMale(m)) maleCounts[t]++;
+                drinkSums[t] += snapshot.drinkScore(m);
+            }
+            drinkTotal += drinkSums[t];
+            memberTotal += sizes[t];
+        }
+        this.targetDrink = memberTotal == 0 ? 0 : (double) drinkTotal / memberTotal;
+        recompute();
+    }
+
+    // assignment를 직접 참조하므로 applySwap 시 assignment도 함께 바뀐다
+    public static TeamBalanceState of(MemberFeatureSnapshot snapshot, TeamAssignment assignment) {
+        return new TeamBalanceState(snapshot, assignment);
+    }
+
+    public static double objectiveOf(MemberFeatureSnapshot snapshot, TeamAssignment assignment) {
+        return of(snapshot, assignment).objective();
+    }
+
+    public TeamAssignment assignment() {
+        return assignment;
+    }
+
+    // 팀 평균 비용
+    public double objective() {
+        return costs.length == 0 ? 0 : totalCost / costs.length;
+    }
+
+    public double teamCost(int team) {
+        return costs[team];
+    }
+
+    public int size(int team) {
+        return sizes[team];
+    }
+
+    // member를 team 맨 뒤에 추가했을 때 전체 비용 변화량
+    public double addDelta(int team, int member) {
+        double newCost = cost(sizes[team] + 1,
+                eCounts[team] + flag(snapshot.isExtrovert(member)),
+                maleCounts[team] + flag(snapshot.isMale(member)),
+                drinkSums[team] + snapshot.drinkScore(member));
+        return newCost - costs[team];
+    }
+
+    // team의 position번째 멤버를 뺐을 때 전체 비용 변화량
+    public double removeDelta(int team, int position) {
+        int member = assignment.member(team, position);
+        double newCost = cost(sizes[team] - 1,
+                eCounts[team] - flag(snapshot.isExtrovert(member)),
+                maleCounts[team] - flag(snapshot.isMale(member)),
+                drinkSums[team] - snapshot.drinkScore(member));
+        return newCost - costs[team];
+    }
+
+    // (from팀 position번째) 멤버를 to팀으로 옮겼을 때 전체 비용 변화량
+    public double moveDelta(int from, int position, int to) {
+        return removeDelta(from, position) + addDelta(to, assignment.member(from, position));
+    }
+
+    // 인원이 바뀌는 변경 - 전체 음주 평균(목표값)은 처음 값을 그대로 사용
+    public void add(int team, int member) {
+        assignment.add(team, member);
+        update(team, 1, member);
+    }
+
+    public int remove(int team, int position) {
+        int member = assignment.remove(team, position);
+        update(team, -1, member);
+        return member;
+    }
+
+    private void update(int team, int sign, int member) {
+        sizes[team] += sign;
+        eCounts[team] += sign * flag(snapshot.isExtrovert(member));
+        maleCounts[team] += sign * flag(snapshot.isMale(member));
+        drinkSums[team] += sign * snapshot.drinkScore(member);
+        double newCost = cost(sizes[team], eCounts[team], maleCounts[team], drinkSums[team]);
+        totalCost += newCost - costs[team];
+        costs[team] = newCost;
+    }
+
+    // (a팀 pa번째)와 (b팀 pb번째) 멤버를 맞바꿨을 때 전체 비용 변화량
+    public double swapDelta(int a, int pa, int b, int pb) {
+        int ma = assignment.member(a, pa);
+        int mb = assignment.member(b, pb);
+        int dE = flag(snapshot.isExtrovert(mb)) - flag(snapshot.isExtrovert(ma));
+        int dMale = flag(snapshot.isMale(mb)) - flag(snapshot.isMale(ma));
+        int dDrink = snapshot.drinkScore(mb) - snapshot.drinkScore(ma);
+        if (dE == 0 && dMale == 0 && dDrink == 0) {
+            return 0;
+        }
+        double newA = cost(sizes[a], eCounts[a] + dE, maleCounts[a] + dMale, drinkSums[a] + dDrink);
+        double newB = cost(sizes[b], eCounts[b] - dE, maleCounts[b] - dMale, drinkSums[b] - dDrink);
+        return (newA - costs[a]) + (newB - costs[b]);
+    }
+
+    public void applySwap(int a, int pa, int b, int pb) {
+        int ma = assignment.member(a, pa);
+        int mb = assignment.member(b, pb);
+        int dE = flag(snapshot.isExtrovert(mb)) - flag(snapshot.isExtrovert(ma));
+        int dMale = flag(snapshot.isMale(mb)) - flag(snapshot.isMale(ma));
+        int dDrink = snapshot.drinkScore(mb) - snapshot.drinkScore(ma);
+
+        assignment.set(a, pa, mb);
+        assignment.set(b, pb, ma);
+
+        eCounts[a] += dE;
+        eCounts[b] -= dE;
+        maleCounts[a] += dMale;
+        maleCounts[b] -= dMale;
+        drinkSums[a] += dDrink;
+        drinkSums[b] -= dDrink;
+
+        double newA = cost(sizes[a], eCounts[a], maleCounts[a], drinkSums[a]);
+        double newB = cost(sizes[b], eCounts[b], maleCounts[b], drinkSums[b]);
+        totalCost += (newA - costs[a]) + (newB - costs[b]);
+        costs[a] = newA;
+        costs[b] = newB;
+    }
+
+    // 누적 오차 제거용 전체 재계산
+    public void recompute() {
+        totalCost = 0;
+        for (int t = 0; t < costs.length; t++) {
+            costs[t] = cost(sizes[t], eCounts[t], maleCounts[t], drinkSums[t]);
+            totalCost += costs[t];
+        }
+    }
+
+    private double cost(int size, int eCount, int maleCount, long drinkSum) {
+        return cost(size, eCount, maleCount, drinkSum, targetDrink);
+    }
+
+    // 팀 하나의 비용 (팀 부분 수정의 TeamFeatureCounts도 같은 식을 사용)
+    static double cost(int size, int eCount, int maleCount, long drinkSum, double targetDrink) {
+        if (size == 0) {
+            return 0;
+        }
+        return Math.abs((double) eCount / size - 0.5)
+                + Math.abs((double) maleCount / size - 0.5)
+                + Math.abs((double) drinkSum / size - targetDrink) * DRINK_WEIGHT;
+    }
+
+    private static int flag(boolean value) {
+        return value ? 1 : 0;
+    }
+}
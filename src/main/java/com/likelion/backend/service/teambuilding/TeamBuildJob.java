@@ -0,0 +1,106 @@
+package com.likelion.backend.service.teambuilding;
+
+import com.likelion.backend.enums.TeamBuildJobStatus;
+import com.likelion.backend.enums.TeamBuildPhase;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.Future;
+
+// 비동기 팀빌딩 작업 하나의 상태
+// 작업 스레드가 단계/진행률을 기록하고, 조회/취소 요청 스레드가 읽거나 취소 플래그를 세운다.
+@Getter
+public class TeamBuildJob implements TeamBuildMonitor {
+
+    private final String id;
+    private final TeamBuildingOptions options;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    private volatile TeamBuildJobStatus status = TeamBuildJobStatus.QUEUED;
+    private volatile TeamBuildPhase phase = TeamBuildPhase.QUEUED;
+    private volatile int percent;
+    private volatile boolean cancelRequested;
+    private volatile TeamBuildResult result;
+    private volatile String error;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+
+    private volatile Future<?> future;
+
+    public TeamBuildJob(String id, TeamBuildingOptions options) {
+        this.id = id;
+        this.options = options.toBuilder().monitor(this).build();
+    }
+
+    void attach(Future<?> future) {
+        this.future = future;
+    }
+
+    // 저장 단계 진입과 취소 요청은 이 객체의 잠금으로 순서를 정함
+    // (취소가 먼저면 저장하지 않고 멈추며, 저장이 먼저 시작됐으면 cancel()이 거절됨)
+    @Override
+    public synchronized void phase(TeamBuildPhase phase) {
+        if (phase == TeamBuildPhase.PERSIST) {
+            checkCancelled();
+        }
+        this.phase = phase;
+        this.percent = Math.max(percent, phase.getStartPercent());
+    }
+
+    // 병렬 재시작에서 동시에 보고할 수 있으므로 진행률은 줄어들지 않게 기록
+    @Override
+    public synchronized void progress(double fraction) {
+        this.percent = Math.max(percent, phase.percentAt(fraction));
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelRequested;
+    }
+
+    synchronized boolean start() {
+        if (status != TeamBuildJobStatus.QUEUED) {
+            return false;
+        }
+        status = TeamBuildJobStatus.RUNNING;
+        startedAt = LocalDateTime.now();
+        return true;
+    }
+
+    synchronized void succeed(TeamBuildResult result) {
+        this.result = result;
+        this.phase = TeamBuildPhase.DONE;
+        this.percent = 100;
+        finish(TeamBuildJobStatus.SUCCEEDED);
+    }
+
+    synchronized void fail(String error) {
+        this.error = error;
+        finish(TeamBuildJobStatus.FAILED);
+    }
+
+    synchronized void cancelled() {
+        finish(TeamBuildJobStatus.CANCELLED);
+    }
+
+    // 대기 중이면 바로 취소하고, 실행 중이면 플래그만 세워 작업 스레드가 다음 확인 지점에서 멈추게 함
+    // 이미 끝났거나 저장 단계에 들어간 작업이면 false (부분 저장 방지를 위해 저장은 끝까지 진행)
+    public synchronized boolean cancel() {
+        if (status.isFinished() || phase.compareTo(TeamBuildPhase.PERSIST) >= 0) {
+            return false;
+        }
+        cancelRequested = true;
+        if (status == TeamBuildJobStatus.QUEUED) {
+            if (future != null) {
+                future.cancel(false);
+            }
+            cancelled();
+        }
+        return true;
+    }
+
+    private void finish(TeamBuildJobStatus status) {
+        this.status = status;
+        this.finishedAt = LocalDateTime.now();
+    }
+}
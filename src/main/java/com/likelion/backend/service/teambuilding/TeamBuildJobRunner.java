@@ -0,0 +1,68 @@
+package com.likelion.backend.service.teambuilding;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+// 비동기 팀빌딩 작업을 executor에 올리고 결과/실패/취소를 작업 상태에 기록하는 헬퍼
+@Slf4j
+public final class TeamBuildJobRunner {
+
+    private TeamBuildJobRunner() {
+    }
+
+    public static void submit(ExecutorService executor, TeamBuildJob job,
+                              Function<TeamBuildingOptions, TeamBuildResult> build) {
+        job.attach(executor.submit(() -> run(job, build)));
+    }
+
+    // 취소된 대기 작업은 executor 대기열에서 바로 빼서 새 작업이 들어갈 자리를 비움
+    // (취소된 Future도 꺼낼 때까지 대기열 칸을 차지해 용량 초과(503)를 일으키므로)
+    public static boolean cancel(ThreadPoolExecutor executor, TeamBuildJob job) {
+        if (!job.cancel()) {
+            return false;
+        }
+        executor.purge();
+        return true;
+    }
+
+    private static void run(TeamBuildJob job, Function<TeamBuildingOptions, TeamBuildResult> build) {
+        if (!job.start()) {
+            return;  // 대기 중에 취소됨
+        }
+        try {
+            job.succeed(build.apply(job.getOptions()));
+        } catch (CancellationException e) {
+            job.cancelled();
+        } catch (IllegalArgumentException e) {
+            job.fail(e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("팀빌딩 작업 실패: {}", job.getId(), e);
+            job.fail("팀빌딩 중 오류 발생");
+        }
+    }
+
+    // 가상 스레드를 지원하는 런타임(Java 21+)이면 가상 스레드, 아니면 데몬 플랫폼 스레드 사용
+    public static ThreadFactory threadFactory() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, "team-build-", 0L);
+            Method factory = builderType.getMethod("factory");
+            return (ThreadFactory) factory.invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            AtomicInteger sequence = new AtomicInteger();
+            return runnable -> {
+                Thread thread = new Thread(runnable, "team-build-" + sequence.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            };
+        }
+    }
+}
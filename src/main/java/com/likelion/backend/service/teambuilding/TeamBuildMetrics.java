@@ -0,0 +1,53 @@
+package com.likelion.backend.service.teambuilding;
+
+import com.likelion.backend.enums.TeamBuildPhase;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// 팀빌딩 단계별 소요 시간을 team.build.phase{phase} 타이머로 기록
+// (스냅샷, 리더 선발/그룹 분류, 팔로워 배정, 남은 멤버 배정, 최적화, 저장)
+@Component
+@RequiredArgsConstructor
+public class TeamBuildMetrics {
+
+    static final String PHASE_TIMER = "team.build.phase";
+
+    private final MeterRegistry meterRegistry;
+
+    // 단계 전환을 시간으로 기록하고 모든 보고는 delegate에 그대로 전달하는 모니터
+    public TeamBuildMonitor timed(TeamBuildMonitor delegate) {
+        return new TeamBuildMonitor() {
+            private TeamBuildPhase current;
+            private Timer.Sample sample;
+
+            @Override
+            public synchronized void phase(TeamBuildPhase phase) {
+                if (phase == current) {
+                    delegate.phase(phase);
+                    return;
+                }
+                if (sample != null) {
+                    sample.stop(meterRegistry.timer(PHASE_TIMER, "phase", current.name()));
+                    sample = null;
+                }
+                current = phase;
+                if (phase != TeamBuildPhase.DONE) {
+                    sample = Timer.start(meterRegistry);
+                }
+                delegate.phase(phase);
+            }
+
+            @Override
+            public void progress(double fraction) {
+                delegate.progress(fraction);
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return delegate.isCancelled();
+            }
+        };
+    }
+}
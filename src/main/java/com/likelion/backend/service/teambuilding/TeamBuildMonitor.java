@@ -0,0 +1,40 @@
+package com.likelion.backend.service.teambuilding;
+
+import com.likelion.backend.enums.TeamBuildPhase;
+
+import java.util.concurrent.CancellationException;
+
+// 팀빌딩 진행 단계/진행률 보고와 협조적 취소 확인용 콜백
+public interface TeamBuildMonitor {
+
+    TeamBuildMonitor NONE = new TeamBuildMonitor() {
+    };
+
+    default void phase(TeamBuildPhase phase) {
+    }
+
+    // 현재 단계 내 진행률 (0 ~ 1)
+    default void progress(double fraction) {
+    }
+
+    default boolean isCancelled() {
+        return false;
+    }
+
+    default void checkCancelled() {
+        if (isCancelled()) {
+            throw new CancellationException("팀빌딩이 취소되었습니다.");
+        }
+    }
+
+    // 진행 보고는 무시하고 취소 여부만 전달하는 모니터 (병렬 하위 작업용)
+    default TeamBuildMonitor cancellationOnly() {
+        TeamBuildMonitor parent = this;
+        return new TeamBuildMonitor() {
+            @Override
+            public boolean isCancelled() {
+                return parent.isCancelled();
+            }
+        };
+    }
+}
@@ -0,0 +1,17 @@
+package com.likelion.backend.service.teambuilding;
+
+import com.likelion.backend.dto.response.TeamOutputDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 팀빌딩 + 저장 결과 (응답 팀 목록과 사용한 전략, 최적화 전/후 목적함수 값)
+@Getter
+@AllArgsConstructor
+public class TeamBuildResult {
+    private final List<TeamOutputDto> teams;
+    private final String strategy;
+    private final double objectiveBefore;
+    private final double objectiveAfter;
+}
@@ -0,0 +1,40 @@
+package com.likelion.backend.service.teambuilding;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 팀빌딩 1회 실행 옵션
+@Getter
+@Builder(toBuilder = true)
+public class TeamBuildingOptions {
+    private int totalMembers;
+    private int teamCount;
+
+    // 사용할 배정 전략 이름 (null이면 greedy)
+    private String strategy;
+
+    // 로컬 서치 최대 수행 시간(ms)과 최대 반복 횟수 (0이면 제한 없음)
+    private long timeBudgetMillis;
+    private long maxIterations;
+
+    // 로컬 서치 난수 시드
+    private long seed;
+
+    // multi-start 재시작 횟수와 동시 실행 스레드 수 (0이면 기본값)
+    private int restarts;
+    private int parallelism;
+
+    // sharded 전략의 파티션 수 (0이면 코어 수와 팀 수로 결정)
+    private int shards;
+
+    // 진행 상황 보고 및 취소 확인 (비동기 잡에서 사용)
+    @Builder.Default
+    private TeamBuildMonitor monitor = TeamBuildMonitor.NONE;
+
+    public static TeamBuildingOptions of(int totalMembers, int teamCount) {
+        return TeamBuildingOptions.builder()
+                .totalMembers(totalMembers)
+                .teamCount(teamCount)
+                .build();
+    }
+}
@@ -0,0 +1,119 @@
+package com.likelion.backend.service.teambuilding;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+// 팀별 아기사자 특성 분포 - (E 여부, 남자 여부, 음주 점수)가 같은 멤버 수 (팀빌딩 이후 부분 수정용)
+// 팀 멤버를 모두 읽지 않고도 팀 카운터와 멤버를 넣고 뺄 때의 비용 변화량을 계산한다. (목적함수는 TeamBalanceState와 같음)
+// 전체 음주 평균(목표값)은 처음 분포 기준 값을 그대로 사용한다.
+public final class TeamFeatureCounts {
+
+    // 팀 비용에 영향을 주는 멤버 특성
+    public record Feature(boolean extrovert, boolean male, int drinkScore) {
+
+        public static Feature of(MemberFeatureSnapshot snapshot, int member) {
+            return new Feature(snapshot.isExtrovert(member), snapshot.isMale(member), snapshot.drinkScore(member));
+        }
+    }
+
+    private final List<Map<Feature, Integer>> histograms;
+    private final int[] sizes;
+    private final int[] eCounts;
+    private final int[] maleCounts;
+    private final long[] drinkSums;
+    private final double[] costs;
+    private final double targetDrink;
+
+    private TeamFeatureCounts(List<Map<Feature, Integer>> histograms) {
+        int teamCount = histograms.size();
+        this.histograms = histograms;
+        this.sizes = new int[teamCount];
+        this.eCounts = new int[teamCount];
+        this.maleCounts = new int[teamCount];
+        this.drinkSums = new long[teamCount];
+        this.costs = new double[teamCount];
+
+        long drinkTotal = 0;
+        int memberTotal = 0;
+        for (int t = 0; t < teamCount; t++) {
+            for (Map.Entry<Feature, Integer> entry : histograms.get(t).entrySet()) {
+                accumulate(t, entry.getKey(), entry.getValue());
+            }
+            drinkTotal += drinkSums[t];
+            memberTotal += sizes[t];
+        }
+        this.targetDrink = memberTotal == 0 ? 0 : (double) drinkTotal / memberTotal;
+        for (int t = 0; t < teamCount; t++) {
+            costs[t] = cost(t);
+        }
+    }
+
+    // 팀 순서대로의 특성별 인원 (전달한 Map은 이후 add/remove로 바뀜)
+    public static TeamFeatureCounts of(List<Map<Feature, Integer>> histograms) {
+        return new TeamFeatureCounts(histograms);
+    }
+
+    public int teamCount() {
+        return sizes.length;
+    }
+
+    public int size(int team) {
+        return sizes[team];
+    }
+
+    public int total() {
+        int total = 0;
+        for (int size : sizes) {
+            total += size;
+        }
+        return total;
+    }
+
+    // 팀에 있는 특성 -> 인원 (리더 포함)
+    public Map<Feature, Integer> features(int team) {
+        return Collections.unmodifiableMap(histograms.get(team));
+    }
+
+    // member를 team에 넣었을 때 전체 비용 변화량
+    public double addDelta(int team, Feature member) {
+        return costWith(team, 1, member) - costs[team];
+    }
+
+    // (from팀의) member를 to팀으로 옮겼을 때 전체 비용 변화량
+    public double moveDelta(int from, Feature member, int to) {
+        return (costWith(from, -1, member) - costs[from]) + addDelta(to, member);
+    }
+
+    public void add(int team, Feature member) {
+        histograms.get(team).merge(member, 1, Integer::sum);
+        accumulate(team, member, 1);
+        costs[team] = cost(team);
+    }
+
+    public void remove(int team, Feature member) {
+        histograms.get(team).computeIfPresent(member, (feature, count) -> count == 1 ? null : count - 1);
+        accumulate(team, member, -1);
+        costs[team] = cost(team);
+    }
+
+    private void accumulate(int team, Feature member, int count) {
+        sizes[team] += count;
+        if (member.extrovert()) eCounts[team] += count;
+        if (member.male()) maleCounts[team] += count;
+        drinkSums[team] += (long) member.drinkScore() * count;
+    }
+
+    private double cost(int team) {
+        return TeamBalanceState.cost(sizes[team], eCounts[team], maleCounts[team], drinkSums[team], targetDrink);
+    }
+
+    // team에 member를 sign(+1/-1)만큼 더한 상태의 비용
+    private double costWith(int team, int sign, Feature member) {
+        return TeamBalanceState.cost(sizes[team] + sign,
+                eCounts[team] + (member.extrovert() ? sign : 0),
+                maleCounts[team] + (member.male() ? sign : 0),
+                drinkSums[team] + (long) sign * member.drinkScore(),
+                targetDrink);
+    }
+}
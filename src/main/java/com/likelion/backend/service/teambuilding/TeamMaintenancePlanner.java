@@ -0,0 +1,85 @@
+package com.likelion.backend.service.teambuilding;
+
+import com.likelion.backend.service.teambuilding.TeamFeatureCounts.Feature;
+
+import java.util.List;
+
+// 팀빌딩 이후 한 명씩 들어오고 나가는 경우의 부분 수정 계획
+// 전체를 다시 배정하지 않고 팀별 특성 분포(TeamFeatureCounts)만으로 배정할 팀과 보충해 줄 팀을 고른다.
+public final class TeamMaintenancePlanner {
+
+    private TeamMaintenancePlanner() {
+    }
+
+    // 인원이 가장 적은 팀들 중 member를 넣었을 때 전체 비용이 가장 작아지는 팀 (동률이면 앞 팀) - O(팀 수)
+    // 팀 인원 차이는 기존처럼 최대 1명으로 유지된다.
+    public static int placement(TeamFeatureCounts counts, Feature member) {
+        int minSize = Integer.MAX_VALUE;
+        for (int t = 0; t < counts.teamCount(); t++) {
+            minSize = Math.min(minSize, counts.size(t));
+        }
+
+        int best = -1;
+        double bestDelta = Double.MAX_VALUE;
+        for (int t = 0; t < counts.teamCount(); t++) {
+            if (counts.size(t) != minSize) continue;
+            double delta = counts.addDelta(t, member);
+            if (delta < bestDelta) {
+                bestDelta = delta;
+                best = t;
+            }
+        }
+        return best;
+    }
+
+    // 리더가 빠진 팀의 새 리더 위치 - 팀빌딩과 같은 기준 (리더 점수 높은 순, 같으면 id 작은 순)
+    public static int leaderPosition(MemberFeatureSnapshot snapshot, TeamAssignment assignment, int team) {
+        int best = 0;
+        for (int p = 1; p < assignment.size(team); p++) {
+            int candidate = assignment.member(team, p);
+            int current = assignment.member(team, best);
+            if (snapshot.leaderScore(candidate) > snapshot.leaderScore(current)
+                    || (snapshot.leaderScore(candidate) == snapshot.leaderScore(current)
+                    && snapshot.id(candidate) < snapshot.id(current))) {
+                best = p;
+            }
+        }
+        return best;
+    }
+
+    // team 인원이 minSize보다 적을 때 한 명을 옮겨 줄 팀 (없으면 -1)
+    // minSize보다 많은 팀 중 그 팀에 있는 특성 가운데 두 팀 비용 변화량의 합이 가장 작은 특성을 가진 팀 - O(팀 수 × 특성 조합 수)
+    // 분포에는 리더도 들어 있으므로, 실제로 옮길 팔로워는 고른 팀의 멤버만 읽어 follower()로 정한다.
+    public static int donor(TeamFeatureCounts counts, int team, int minSize) {
+        int best = -1;
+        double bestDelta = Double.MAX_VALUE;
+        for (int t = 0; t < counts.teamCount(); t++) {
+            if (t == team || counts.size(t) <= minSize) continue;
+            for (Feature feature : counts.features(t).keySet()) {
+                double delta = counts.moveDelta(t, feature, team);
+                if (delta < bestDelta) {
+                    bestDelta = delta;
+                    best = t;
+                }
+            }
+        }
+        return best;
+    }
+
+    // donor 팀 멤버(저장 순서, 0번째는 리더) 중 team으로 옮겼을 때 두 팀 비용 변화량의 합이 가장 작은 팔로워의 위치 (없으면 -1)
+    // 특성이 null인 멤버(아기사자가 아닌 멤버)는 옮기지 않는다.
+    public static int follower(TeamFeatureCounts counts, List<Feature> members, int donor, int team) {
+        int best = -1;
+        double bestDelta = Double.MAX_VALUE;
+        for (int p = 1; p < members.size(); p++) {
+            Feature member = members.get(p);
+            if (member == null) continue;
+            double delta = counts.moveDelta(donor, member, team);
+            if (delta < bestDelta) {
+                bestDelta = delta;
+                best = p;
+            }
+        }
+        return best;
+    }
+}
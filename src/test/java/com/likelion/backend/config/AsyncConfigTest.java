@@ -0,0 +1,50 @@
+package com.likelion.backend.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AsyncConfigTest {
+
+    @Autowired
+    @Qualifier("applicationTaskExecutor")
+    private AsyncTaskExecutor applicationTaskExecutor;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void tasksSeeSubmittersAuthenticationAndDoNotLeakIt() throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("admin", null));
+
+        assertThat(applicationTaskExecutor.submit(AsyncConfigTest::currentName).get(5, TimeUnit.SECONDS))
+                .isEqualTo("admin");
+
+        // 풀 스레드가 재사용돼도 앞 작업의 인증 정보가 남아 있지 않아야 함
+        SecurityContextHolder.clearContext();
+        for (int i = 0; i < 20; i++) {
+            assertThat(applicationTaskExecutor.submit(AsyncConfigTest::currentName).get(5, TimeUnit.SECONDS))
+                    .isNull();
+        }
+    }
+
+    private static String currentName() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null ? null : authentication.getName();
+    }
+}
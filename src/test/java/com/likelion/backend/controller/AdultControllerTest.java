@@ -0,0 +1,135 @@
+package com.likelion.backend.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.likelion.backend.jwt.JwtTokenProvider;
+import com.likelion.backend.metrics.SqlCountFilter;
+import com.likelion.backend.support.SqlStatementCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(SqlStatementCounter.class)
+class AdultControllerTest {
+
+    private static final int ANSWERED_MEMBERS = 25;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    private String authorization;
+
+    @BeforeEach
+    void setUp() {
+        authorization = "Bearer " + jwtTokenProvider.generateAccessToken("admin");
+
+        jdbcTemplate.update("INSERT INTO question (content, keyword) VALUES ('MBTI', 'mbti')");
+        jdbcTemplate.update("INSERT INTO question (content, keyword) VALUES ('취미', 'hobby')");
+        List<Object[]> members = new ArrayList<>();
+        for (int i = 0; i <= ANSWERED_MEMBERS; i++) {
+            members.add(new Object[]{"member" + i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO member (name, password, role, team_built) VALUES (?, 'pw', 'BABY', false)", members);
+        // 마지막 멤버는 응답 없음 (결과에서 제외)
+        jdbcTemplate.update("INSERT INTO question_result (member_id, question_id, answer) " +
+                "SELECT m.id, q.id, CONCAT(m.name, '-', q.keyword) FROM member m CROSS JOIN question q " +
+                "WHERE m.name <> 'member" + ANSWERED_MEMBERS + "'");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM question_result");
+        jdbcTemplate.update("DELETE FROM question");
+        jdbcTemplate.update("DELETE FROM member");
+    }
+
+    @Test
+    void fullResultsGroupAnswersByKeyword() throws Exception {
+        mockMvc.perform(get("/adult").header(HttpHeaders.AUTHORIZATION, authorization))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.memberCount").value(ANSWERED_MEMBERS))
+                .andExpect(jsonPath("$.results[0].memberName").value("member0"))
+                .andExpect(jsonPath("$.results[0].answers.mbti").value("member0-mbti"))
+                .andExpect(jsonPath("$.results[0].answers.hobby").value("member0-hobby"))
+                .andExpect(jsonPath("$.nextAfter").doesNotExist());
+    }
+
+    @Test
+    void keysetPagesVisitEveryAnsweredMemberOnceWithTwoQueriesEach() throws Exception {
+        List<String> names = new ArrayList<>();
+        Long after = null;
+        int pages = 0;
+        do {
+            sqlStatementCounter.reset();
+            String body = mockMvc.perform(get("/adult").header(HttpHeaders.AUTHORIZATION, authorization)
+                            .param("size", "10")
+                            .param("after", after == null ? "0" : after.toString()))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(SqlCountFilter.HEADER, "2"))
+                    .andReturn().getResponse().getContentAsString();
+            assertThat(sqlStatementCounter.count()).isLessThanOrEqualTo(2);
+
+            JsonNode page = objectMapper.readTree(body);
+            page.get("results").forEach(result -> names.add(result.get("memberName").asText()));
+            after = page.hasNonNull("nextAfter") ? page.get("nextAfter").asLong() : null;
+            pages++;
+        } while (after != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(names).hasSize(ANSWERED_MEMBERS).doesNotHaveDuplicates().doesNotContain("member" + ANSWERED_MEMBERS);
+    }
+
+    @Test
+    void rejectsOversizedPage() throws Exception {
+        mockMvc.perform(get("/adult").header(HttpHeaders.AUTHORIZATION, authorization).param("size", "100000"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void ndjsonStreamsOneLinePerMember() throws Exception {
+        MvcResult started = mockMvc.perform(get("/adult")
+                        .header(HttpHeaders.AUTHORIZATION, authorization)
+                        .header(HttpHeaders.ACCEPT, "application/x-ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(ANSWERED_MEMBERS);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("memberName").asText()).isEqualTo("member0");
+        assertThat(first.get("answers").get("mbti").asText()).isEqualTo("member0-mbti");
+    }
+}
@@ -0,0 +1,145 @@
+package com.likelion.backend.controller;
+
+import com.likelion.backend.domain.Member;
+import com.likelion.backend.enums.Role;
+import com.likelion.backend.repository.MemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 로그인 폭주 중 GET /question 지연 시간 측정 - ./gradlew benchmark 로 실행
+// BCrypt는 전용 풀에서만 돌고 초과분은 503으로 거절되므로 일반 요청 지연은 평소 수준을 유지해야 한다.
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class LoginStormBenchmark {
+
+    private static final int LOGIN_CLIENTS = 32;
+    private static final int PROBES = 200;
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private BCryptPasswordEncoder passwordEncoder;
+
+    // 로그인 폭주용과 지연 측정용 클라이언트를 분리 (측정 요청이 부하 발생기 쪽 커넥션에 밀리지 않게)
+    private final HttpClient stormClient = newClient();
+    private final HttpClient probeClient = newClient();
+
+    @BeforeEach
+    void setUp() {
+        memberRepository.save(Member.builder()
+                .name("storm")
+                .password(passwordEncoder.encode("password"))
+                .role(Role.BABY)
+                .gender("남자")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    void otherEndpointsKeepLatencyDuringLoginStorm() throws Exception {
+        probe(100); // 워밍업
+        long[] baseline = probe(PROBES);
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        Map<Integer, Integer> loginStatuses = new ConcurrentHashMap<>();
+        ExecutorService stormers = Executors.newFixedThreadPool(LOGIN_CLIENTS);
+        for (int i = 0; i < LOGIN_CLIENTS; i++) {
+            stormers.submit(() -> {
+                while (running.get()) {
+                    int status = send(stormClient, HttpRequest.newBuilder(uri("/login"))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString("{\"name\":\"storm\",\"password\":\"password\"}"))
+                            .build());
+                    loginStatuses.merge(status, 1, Integer::sum);
+                    if (status == 503) {
+                        Thread.sleep(100); // Retry-After를 (짧게) 따르는 클라이언트
+                    }
+                }
+                return null;
+            });
+        }
+        Thread.sleep(1_000);
+        long[] storm = probe(PROBES);
+        running.set(false);
+        stormers.shutdown();
+        stormers.awaitTermination(30, TimeUnit.SECONDS);
+
+        System.out.printf("%-10s %10s %10s %10s%n", "GET /question", "p50 ms", "p99 ms", "max ms");
+        print("baseline", baseline);
+        print("storm", storm);
+        System.out.println("login statuses: " + loginStatuses);
+
+        assertThat(loginStatuses).containsKey(200);
+        assertThat(percentile(storm, 0.99)).isLessThan(Math.max(250, percentile(baseline, 0.99) * 10));
+    }
+
+    private long[] probe(int count) {
+        long[] nanos = new long[count];
+        for (int i = 0; i < count; i++) {
+            long start = System.nanoTime();
+            int status = send(probeClient, HttpRequest.newBuilder(uri("/question")).GET().build());
+            nanos[i] = System.nanoTime() - start;
+            assertThat(status).isEqualTo(200);
+        }
+        Arrays.sort(nanos);
+        return nanos;
+    }
+
+    private static HttpClient newClient() {
+        return HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    private static int send(HttpClient client, HttpRequest request) {
+        try {
+            return client.send(HttpRequest.newBuilder(request, (name, value) -> true)
+                    .timeout(Duration.ofSeconds(10))
+                    .build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static double percentile(long[] sortedNanos, double p) {
+        return sortedNanos[(int) Math.min(sortedNanos.length - 1, Math.ceil(p * sortedNanos.length) - 1)] / 1e6;
+    }
+
+    private static void print(String label, long[] sortedNanos) {
+        System.out.printf("%-13s %10.2f %10.2f %10.2f%n", label,
+                percentile(sortedNanos, 0.5), percentile(sortedNanos, 0.99), sortedNanos[sortedNanos.length - 1] / 1e6);
+    }
+}
@@ -0,0 +1,140 @@
+package com.likelion.backend.controller;
+
+import com.likelion.backend.dto.request.JoinRequestDto;
+import com.likelion.backend.metrics.SqlCountFilter;
+import com.likelion.backend.service.CohortStatus;
+import com.likelion.backend.service.MemberService;
+import com.likelion.backend.service.TeamBuildingService;
+import com.likelion.backend.service.teambuilding.TeamBuildingOptions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TeamBuildingControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private TeamBuildingService teamBuildingService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private CohortStatus cohortStatus;
+
+    @BeforeEach
+    void setUp() {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            rows.add(new Object[]{"member" + i, i % 2 == 0 ? "남자" : "여자"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO member (name, password, role, gender, team_built) VALUES (?, 'pw', 'BABY', ?, false)", rows);
+        // 앞의 5명만 설문 응답
+        jdbcTemplate.update("INSERT INTO question (content, keyword) VALUES ('MBTI', 'mbti')");
+        jdbcTemplate.update("INSERT INTO question_result (member_id, question_id, answer) " +
+                "SELECT m.id, q.id, 'ENFP' FROM member m CROSS JOIN question q WHERE m.name IN ('member0', 'member1', 'member2', 'member3', 'member4')");
+        // 서비스를 거치지 않고 넣은 회원은 다시 집계
+        cohortStatus.refresh();
+    }
+
+    @AfterEach
+    void tearDown() {
+        teamBuildingService.clearAllTeams();
+        jdbcTemplate.update("DELETE FROM question_result");
+        jdbcTemplate.update("DELETE FROM question");
+        jdbcTemplate.update("DELETE FROM member");
+        cohortStatus.refresh();
+    }
+
+    @Test
+    void cohortStatusFollowsCommittedChangesWithoutQueries() throws Exception {
+        assertStatus(12, 0, 5, true);
+
+        teamBuildingService.buildAndSaveTeams(TeamBuildingOptions.of(12, 3));
+        assertStatus(12, 12, 5, false);
+
+        Long id = memberService.join(joinRequest("newcomer")).getId();
+        assertStatus(13, 12, 5, true);
+
+        // 롤백된 가입(이름 중복)은 반영되지 않음
+        assertThatThrownBy(() -> memberService.join(joinRequest("newcomer"))).isInstanceOf(IllegalArgumentException.class);
+        assertStatus(13, 12, 5, true);
+
+        memberService.deleteMember(id);
+        assertStatus(12, 12, 5, false);
+
+        teamBuildingService.clearAllTeams();
+        assertStatus(12, 0, 5, true);
+    }
+
+    private void assertStatus(int babies, int built, int answered, boolean hasUnbuiltMembers) throws Exception {
+        mockMvc.perform(get("/team/status"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(SqlCountFilter.HEADER, "0"))
+                .andExpect(jsonPath("$.babies").value(babies))
+                .andExpect(jsonPath("$.built").value(built))
+                .andExpect(jsonPath("$.answered").value(answered))
+                .andExpect(jsonPath("$.hasUnbuiltMembers").value(hasUnbuiltMembers));
+    }
+
+    private static JoinRequestDto joinRequest(String name) {
+        JoinRequestDto dto = new JoinRequestDto();
+        ReflectionTestUtils.setField(dto, "name", name);
+        ReflectionTestUtils.setField(dto, "password", "password");
+        ReflectionTestUtils.setField(dto, "gender", "여자");
+        return dto;
+    }
+
+    @Test
+    void rosterIsServedWithEtagAndNotModifiedUntilTeamsChange() throws Exception {
+        teamBuildingService.buildAndSaveTeams(TeamBuildingOptions.of(12, 3));
+
+        String etag = mockMvc.perform(get("/team"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.teams.length()").value(3))
+                .andExpect(jsonPath("$.hasUnbuiltMembers").value(false))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // 캐시된 명단은 DB 조회 없이 응답
+        mockMvc.perform(get("/team").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(header().string(SqlCountFilter.HEADER, "0"));
+
+        teamBuildingService.buildAndSaveTeams(TeamBuildingOptions.of(12, 4));
+
+        String rebuilt = mockMvc.perform(get("/team").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.teams.length()").value(4))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(rebuilt).isNotEqualTo(etag);
+
+        teamBuildingService.clearAllTeams();
+
+        mockMvc.perform(get("/team").header(HttpHeaders.IF_NONE_MATCH, rebuilt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.teams.length()").value(0))
+                .andExpect(jsonPath("$.hasUnbuiltMembers").value(true));
+    }
+}
@@ -0,0 +1,166 @@
+package com.likelion.backend.controller;
+
+import com.likelion.backend.BackendApplication;
+import com.likelion.backend.jwt.JwtTokenProvider;
+import com.likelion.backend.service.QuestionCatalog;
+import com.likelion.backend.service.TeamBuildingService;
+import com.likelion.backend.service.teambuilding.TeamBuildingOptions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 플랫폼 스레드(기본) vs 가상 스레드(virtual 프로필) 처리량/p99 비교 - ./gradlew benchmark 로 실행
+// 같은 H2 데이터로 앱을 두 번 띄워 /login, /team, /adult(100명 페이지) 에 동시 클라이언트 CLIENTS개로 부하를 준다.
+// 가상 스레드는 Java 21 이상에서만 켜지므로 비교하려면 ./gradlew benchmark -PvirtualThreads 로 실행해야 한다.
+@Tag("benchmark")
+class ThreadModelLoadBenchmark {
+
+    // Tomcat 기본 최대 스레드(200)보다 많아야 스레드 풀이 상한이 되는 상황이 재현됨
+    private static final int CLIENTS = 400;
+    private static final int MEMBERS = 1_000;
+    private static final Duration WARMUP = Duration.ofSeconds(2);
+    private static final Duration MEASUREMENT = Duration.ofSeconds(5);
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @Test
+    void compareThroughputAndTailLatency() throws Exception {
+        int javaVersion = Runtime.version().feature();
+        if (javaVersion < 21) {
+            System.out.println("Java " + javaVersion + ": 가상 스레드를 쓸 수 없어 두 실행 모두 플랫폼 스레드로 동작함 (-PvirtualThreads 필요)");
+        }
+
+        Map<String, Result> platform = run("test");
+        Map<String, Result> virtual = run("test,virtual");
+
+        System.out.printf("%-8s %-9s %12s %10s %10s  %s%n", "endpoint", "threads", "ok req/s", "p50 ms", "p99 ms", "statuses");
+        for (String endpoint : platform.keySet()) {
+            platform.get(endpoint).print(endpoint, "platform");
+            virtual.get(endpoint).print(endpoint, "virtual");
+        }
+
+        for (Result result : platform.values()) assertThat(result.statuses).containsKey(200);
+        for (Result result : virtual.values()) assertThat(result.statuses).containsKey(200);
+    }
+
+    private Map<String, Result> run(String profiles) throws Exception {
+        try (ServletWebServerApplicationContext context = (ServletWebServerApplicationContext) new SpringApplicationBuilder(BackendApplication.class)
+                .run("--spring.profiles.active=" + profiles, "--server.port=0")) {
+            seed(context);
+            String base = "http://localhost:" + context.getWebServer().getPort();
+            String authorization = "Bearer " + context.getBean(JwtTokenProvider.class).generateAccessToken("admin");
+
+            Map<String, Result> results = new LinkedHashMap<>();
+            results.put("/login", load(i -> HttpRequest.newBuilder(URI.create(base + "/login"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"name\":\"member" + (i % 20) + "\",\"password\":\"password\"}"))
+                    .build()));
+            results.put("/team", load(i -> HttpRequest.newBuilder(URI.create(base + "/team")).GET().build()));
+            results.put("/adult", load(i -> HttpRequest.newBuilder(URI.create(base + "/adult?size=100"))
+                    .header("Authorization", authorization)
+                    .GET().build()));
+            return results;
+        }
+    }
+
+    // 질문 3개(리더/음주/MBTI)에 응답한 MEMBERS명 + 팀 구성 (로그인은 앞 20명만 사용)
+    private static void seed(ServletWebServerApplicationContext context) {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        String hash = context.getBean(BCryptPasswordEncoder.class).encode("password");
+
+        jdbcTemplate.update("INSERT INTO question (content, keyword) VALUES " +
+                "('대화를 이끄는 편인가요?', 'leader'), ('회식을 좋아하나요?', 'drink'), ('MBTI', 'mbti')");
+        List<Object[]> members = new ArrayList<>(MEMBERS);
+        for (int i = 0; i < MEMBERS; i++) {
+            members.add(new Object[]{"member" + i, hash, i % 2 == 0 ? "남자" : "여자"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO member (name, password, role, gender, team_built) VALUES (?, ?, 'BABY', ?, false)", members);
+        jdbcTemplate.update("INSERT INTO question_result (member_id, question_id, answer) " +
+                "SELECT m.id, q.id, CASE q.keyword WHEN 'mbti' THEN CASE MOD(m.id, 2) WHEN 0 THEN 'ENFP' ELSE 'ISTJ' END " +
+                "ELSE CAST(MOD(m.id * 7 + q.id, 10) + 1 AS VARCHAR) END FROM member m CROSS JOIN question q");
+
+        context.getBean(QuestionCatalog.class).refresh();
+        context.getBean(TeamBuildingService.class).buildAndSaveTeams(TeamBuildingOptions.of(MEMBERS, MEMBERS / 10));
+    }
+
+    private Result load(IntFunction<HttpRequest> requests) throws Exception {
+        AtomicBoolean measuring = new AtomicBoolean(false);
+        AtomicBoolean running = new AtomicBoolean(true);
+        Map<Integer, Integer> statuses = new ConcurrentHashMap<>();
+        List<long[]> latencies = Collections.synchronizedList(new ArrayList<>());
+
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        for (int c = 0; c < CLIENTS; c++) {
+            int clientId = c;
+            clients.submit(() -> {
+                long[] nanos = new long[1 << 12];
+                int count = 0;
+                for (int i = clientId; running.get(); i += CLIENTS) {
+                    long start = System.nanoTime();
+                    int status = send(requests.apply(i));
+                    long elapsed = System.nanoTime() - start;
+                    if (!measuring.get()) continue;
+                    statuses.merge(status, 1, Integer::sum);
+                    if (status == 200) {
+                        if (count == nanos.length) nanos = Arrays.copyOf(nanos, count * 2);
+                        nanos[count++] = elapsed;
+                    }
+                }
+                latencies.add(Arrays.copyOf(nanos, count));
+                return null;
+            });
+        }
+
+        Thread.sleep(WARMUP.toMillis());
+        measuring.set(true);
+        Thread.sleep(MEASUREMENT.toMillis());
+        measuring.set(false);
+        running.set(false);
+        clients.shutdown();
+        assertThat(clients.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        long[] all = latencies.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+        return new Result(all, new TreeMap<>(statuses));
+    }
+
+    private int send(HttpRequest request) {
+        try {
+            return client.send(HttpRequest.newBuilder(request, (name, value) -> true)
+                    .timeout(Duration.ofSeconds(10))
+                    .build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    private record Result(long[] sortedNanos, Map<Integer, Integer> statuses) {
+
+        double percentile(double p) {
+            if (sortedNanos.length == 0) return Double.NaN;
+            return sortedNanos[(int) Math.min(sortedNanos.length - 1, Math.ceil(p * sortedNanos.length) - 1)] / 1e6;
+        }
+
+        void print(String endpoint, String threads) {
+            System.out.printf("%-8s %-9s %12.1f %10.2f %10.2f  %s%n", endpoint, threads,
+                    sortedNanos.length / (MEASUREMENT.toMillis() / 1000.0), percentile(0.5), percentile(0.99), statuses);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.likelion.backend.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtAuthenticationFilterTest {
+
+    private final JwtTokenProvider provider =
+            new JwtTokenProvider("test-secret-test-secret-test-secret-test-secret-test-secret", 100);
+    private final JwtAuthenticationFilter filter = new JwtAuthenticationFilter(provider, new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void authenticatesProtectedRouteWithValidToken() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/team");
+        request.addHeader("Authorization", "Bearer " + provider.generateAccessToken("lion"));
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal()).isEqualTo("lion");
+    }
+
+    @Test
+    void skipsPublicRoutes() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/team");
+        request.addHeader("Authorization", "Bearer " + provider.generateAccessToken("lion"));
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+
+    @Test
+    void leavesRequestUnauthenticatedWithoutValidToken() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/team");
+        request.addHeader("Authorization", "Bearer broken");
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        filter.doFilter(new MockHttpServletRequest("DELETE", "/team"), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+    }
+}
@@ -0,0 +1,56 @@
+package com.likelion.backend.jwt;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-test-secret-test-secret-test-secret-test-secret";
+
+    private final JwtTokenProvider provider = new JwtTokenProvider(SECRET, 100);
+
+    @Test
+    void verifiesTokenAndReturnsUsernameInOneCall() {
+        String token = provider.generateAccessToken("lion");
+
+        JwtVerification first = provider.verify(token);
+        JwtVerification cached = provider.verify(token);
+
+        assertThat(first.isValid()).isTrue();
+        assertThat(first.getUsername()).isEqualTo("lion");
+        assertThat(cached.getUsername()).isEqualTo("lion");
+        assertThat(provider.validateToken(token)).isEqualTo(JwtValidationType.VALID_JWT);
+    }
+
+    @Test
+    void rejectsTokenSignedWithAnotherKey() {
+        String token = new JwtTokenProvider(SECRET + "-other", 100).generateAccessToken("lion");
+
+        assertThat(provider.verify(token).getType()).isEqualTo(JwtValidationType.INVALID_JWT_SIGNATURE);
+        assertThat(provider.verify(token + "x").isValid()).isFalse();
+        assertThat(provider.verify("not-a-jwt").getType()).isEqualTo(JwtValidationType.INVALID_JWT_TOKEN);
+        assertThat(provider.verify(null).getType()).isEqualTo(JwtValidationType.EMPTY_JWT);
+    }
+
+    @Test
+    void verifiedCacheIsBoundedAndRespectsExpiry() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(2);
+        ByteBuffer a = VerifiedTokenCache.digest("a");
+        ByteBuffer b = VerifiedTokenCache.digest("b");
+        ByteBuffer c = VerifiedTokenCache.digest("c");
+
+        cache.put(a, "a", 1_000);
+        cache.put(b, "b", 2_000);
+        assertThat(cache.get(a, 500)).isEqualTo("a");  // a를 최근 사용으로 갱신
+        cache.put(c, "c", 3_000);                       // 가장 오래 안 쓴 b가 밀려남
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(b, 500)).isNull();
+        assertThat(cache.get(c, 500)).isEqualTo("c");
+        assertThat(cache.get(a, 1_000)).isNull();       // 만료 시각이 지나면 캐시 결과를 쓰지 않음
+        assertThat(cache.size()).isEqualTo(1);
+    }
+}
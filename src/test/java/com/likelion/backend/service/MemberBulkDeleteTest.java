@@ -0,0 +1,182 @@
+package com.likelion.backend.service;
+
+import com.likelion.backend.dto.request.MemberBulkDeleteRequestDto;
+import com.likelion.backend.dto.response.MemberBulkDeleteResponseDto;
+import com.likelion.backend.service.teambuilding.TeamBuildingOptions;
+import com.likelion.backend.support.QueryBudget;
+import com.likelion.backend.support.SqlStatementCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(SqlStatementCounter.class)
+class MemberBulkDeleteTest {
+
+    // 팀에 남아 있는 이미 지워진 회원 id
+    private static final long STALE_MEMBER_ID = 999_999_999L;
+
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private TeamBuildingService teamBuildingService;
+    @Autowired
+    private CohortStatus cohortStatus;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void rejectsRequestsWithoutExactlyOneTarget() {
+        assertThatThrownBy(() -> memberService.deleteMembers(request(null, null)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> memberService.deleteMembers(request(List.of(1L), "BABY")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> memberService.deleteMembers(request(null, "LION")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Nested
+    class With20Members extends Scenarios {
+        With20Members() {
+            super(20);
+        }
+
+        @Test
+        void deletingRoleRemovesAnswersMembershipsAndEmptyTeams() {
+            MemberBulkDeleteResponseDto response = memberService.deleteMembers(request(null, "BABY"));
+
+            assertThat(response.getDeletedMembers()).isEqualTo(20);
+            assertThat(response.getDeletedAnswers()).isEqualTo(20);
+            assertThat(response.getRemovedTeamMemberships()).isEqualTo(21); // 팀원 20명 + 남아 있던 id
+            assertThat(count("member")).isEqualTo(1); // 운영진은 그대로
+            assertThat(count("question_result")).isZero();
+            assertThat(count("team_member_ids")).isZero();
+            assertThat(count("team")).isZero();
+            assertThat(cohortStatus.babies()).isZero();
+            assertThat(cohortStatus.built()).isZero();
+            assertThat(cohortStatus.answered()).isZero();
+        }
+
+        @Test
+        void deletingLeaderReelectsFromRemainingMembers() {
+            List<Long> team = members("(SELECT MIN(id) FROM team)");
+
+            // 리더(0번째)를 지우면 팀빌딩과 같은 기준으로 새 리더를 뽑음
+            // 리더 질문이 없어 리더 점수가 모두 같으므로 id가 가장 작은 멤버가 리더, 나머지는 저장 순서 유지
+            memberService.deleteMembers(request(List.of(team.get(0)), null));
+
+            List<Long> survivors = team.subList(1, team.size()).stream()
+                    .filter(id -> id != STALE_MEMBER_ID).toList();
+            long leader = survivors.stream().min(Long::compare).orElseThrow();
+            List<Long> expected = new ArrayList<>(List.of(leader));
+            survivors.stream().filter(id -> id != leader).forEach(expected::add);
+            assertThat(members("(SELECT MIN(id) FROM team)")).isEqualTo(expected);
+            assertThat(cohortStatus.babies()).isEqualTo(19);
+            assertThat(cohortStatus.built()).isEqualTo(19);
+            assertThat(cohortStatus.answered()).isEqualTo(19);
+        }
+
+        @Test
+        void cleanupIsLimitedToTeamsOfDeletedMembers() {
+            jdbcTemplate.update("INSERT INTO team (team_name) VALUES ('Empty')");
+            jdbcTemplate.update("INSERT INTO team_member_ids (team_id, member_ids) SELECT MAX(id), ? FROM team WHERE team_name <> 'Empty'",
+                    STALE_MEMBER_ID + 1);
+            List<Long> lastTeam = members("(SELECT MAX(id) FROM team WHERE team_name <> 'Empty')");
+            List<Long> firstTeam = members("(SELECT MIN(id) FROM team)");
+
+            MemberBulkDeleteResponseDto response = memberService.deleteMembers(request(List.of(firstTeam.get(1)), null));
+
+            // 지운 멤버 + 같은 팀에 남아 있던 id만 정리, 다른 팀의 빈 팀과 남아 있던 id는 그대로
+            assertThat(response.getRemovedTeamMemberships()).isEqualTo(2);
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM team WHERE team_name = 'Empty'", Long.class)).isEqualTo(1);
+            assertThat(members("(SELECT MAX(id) FROM team WHERE team_name <> 'Empty')")).isEqualTo(lastTeam);
+            assertThat(members("(SELECT MIN(id) FROM team)")).isEqualTo(firstTeam.stream()
+                    .filter(id -> id != STALE_MEMBER_ID && !id.equals(firstTeam.get(1))).toList());
+        }
+    }
+
+    @Nested
+    class With2000Members extends Scenarios {
+        With2000Members() {
+            super(2_000);
+        }
+    }
+
+    abstract class Scenarios {
+
+        private final int memberCount;
+
+        Scenarios(int memberCount) {
+            this.memberCount = memberCount;
+        }
+
+        @BeforeEach
+        void seedCohort() {
+            jdbcTemplate.update("INSERT INTO question (content, keyword) VALUES ('MBTI', 'mbti')");
+            List<Object[]> members = new ArrayList<>(memberCount);
+            for (int i = 0; i < memberCount; i++) {
+                members.add(new Object[]{"member" + i, i % 2 == 0 ? "남자" : "여자"});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO member (name, password, role, gender, team_built) VALUES (?, 'pw', 'BABY', ?, false)", members);
+            jdbcTemplate.update("INSERT INTO member (name, password, role, team_built) VALUES ('admin', 'pw', 'ADULT', false)");
+            jdbcTemplate.update("INSERT INTO question_result (member_id, question_id, answer) " +
+                    "SELECT m.id, q.id, 'ENFP' FROM member m CROSS JOIN question q WHERE m.role = 'BABY'");
+            cohortStatus.refresh();
+
+            teamBuildingService.buildAndSaveTeams(TeamBuildingOptions.of(memberCount, memberCount / 5));
+            jdbcTemplate.update("INSERT INTO team_member_ids (team_id, member_ids) SELECT MIN(id), ? FROM team", STALE_MEMBER_ID);
+        }
+
+        @AfterEach
+        void clearCohort() {
+            teamBuildingService.clearAllTeams();
+            jdbcTemplate.update("DELETE FROM question_result");
+            jdbcTemplate.update("DELETE FROM question");
+            jdbcTemplate.update("DELETE FROM member");
+            cohortStatus.refresh();
+        }
+
+        // 대상 id 조회 1 + 현황 집계 1 + 팀 조회 2 + DELETE 4 + 리더 재선출(스냅샷 2 + 쓰기 배치 2) - 삭제 인원과 관계없이 같음
+        @Test
+        @QueryBudget(max = 12, sameForEveryRun = true)
+        void deletingHalfTheCohortUsesConstantStatements() {
+            List<Long> ids = jdbcTemplate.queryForList(
+                    "SELECT id FROM member WHERE role = 'BABY' AND MOD(id, 2) = 0", Long.class);
+
+            MemberBulkDeleteResponseDto response = memberService.deleteMembers(request(ids, null));
+
+            assertThat(response.getDeletedMembers()).isEqualTo(ids.size());
+            assertThat(response.getDeletedAnswers()).isEqualTo(ids.size());
+        }
+    }
+
+    // 팀 멤버 id (저장 순서, 0번째가 리더)
+    private List<Long> members(String teamId) {
+        return jdbcTemplate.queryForList("SELECT member_ids FROM team_member_ids WHERE team_id = " + teamId, Long.class);
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+
+    private static MemberBulkDeleteRequestDto request(List<Long> ids, String role) {
+        MemberBulkDeleteRequestDto dto = new MemberBulkDeleteRequestDto();
+        ReflectionTestUtils.setField(dto, "ids", ids);
+        ReflectionTestUtils.setField(dto, "role", role);
+        return dto;
+    }
+}
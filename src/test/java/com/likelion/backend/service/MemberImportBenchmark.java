@@ -0,0 +1,93 @@
+package com.likelion.backend.service;
+
+import com.likelion.backend.domain.Question;
+import com.likelion.backend.dto.response.MemberImportResponseDto;
+import com.likelion.backend.enums.QuestionType;
+import com.likelion.backend.repository.QuestionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 5만 명 NDJSON 일괄 등록 소요 시간 측정 - ./gradlew benchmark 로 실행
+// 본문은 한 줄씩 생성되는 스트림이라 테스트 쪽도 전체 본문을 메모리에 올리지 않는다.
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class MemberImportBenchmark {
+
+    private static final int MEMBERS = 50_000;
+    private static final int QUESTIONS = 8;
+
+    @Autowired
+    private MemberImportService memberImportService;
+    @Autowired
+    private QuestionRepository questionRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM question_result");
+        jdbcTemplate.update("DELETE FROM question_choices");
+        jdbcTemplate.update("DELETE FROM question");
+        jdbcTemplate.update("DELETE FROM member");
+    }
+
+    @Test
+    void imports50kMembers() throws Exception {
+        List<Long> questionIds = new ArrayList<>();
+        for (int i = 0; i < QUESTIONS; i++) {
+            questionIds.add(questionRepository.save(Question.builder()
+                    .content("질문" + i).type(QuestionType.METRIC).build()).getId());
+        }
+
+        long start = System.nanoTime();
+        MemberImportResponseDto result = memberImportService.importNdjson(generate(MEMBERS, questionIds));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.printf("imported %d members (%d answers) in %d ms%n",
+                result.getImported(), result.getImported() * QUESTIONS, elapsedMillis);
+        assertThat(result.getImported()).isEqualTo(MEMBERS);
+        assertThat(result.getFailed()).isZero();
+    }
+
+    private static InputStream generate(int count, List<Long> questionIds) {
+        return new SequenceInputStream(new Enumeration<>() {
+            private int next;
+
+            @Override
+            public boolean hasMoreElements() {
+                return next < count;
+            }
+
+            @Override
+            public InputStream nextElement() {
+                StringBuilder line = new StringBuilder("{\"name\":\"member").append(next)
+                        .append("\",\"gender\":\"").append(next % 2 == 0 ? "남자" : "여자")
+                        .append("\",\"passwordHash\":\"").append(MemberImportServiceTest.HASH)
+                        .append("\",\"answers\":{");
+                for (int q = 0; q < questionIds.size(); q++) {
+                    line.append(q == 0 ? "" : ",").append('"').append(questionIds.get(q)).append("\":\"")
+                            .append((next + q) % 10 + 1).append('"');
+                }
+                line.append("}}\n");
+                next++;
+                return new ByteArrayInputStream(line.toString().getBytes(StandardCharsets.UTF_8));
+            }
+        });
+    }
+}
@@ -0,0 +1,154 @@
+package com.likelion.backend.service;
+
+import com.likelion.backend.domain.Question;
+import com.likelion.backend.dto.response.MemberImportResponseDto;
+import com.likelion.backend.dto.response.MemberImportResponseDto.RowError;
+import com.likelion.backend.enums.QuestionType;
+import com.likelion.backend.repository.QuestionRepository;
+import com.likelion.backend.support.SqlStatementCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(SqlStatementCounter.class)
+class MemberImportServiceTest {
+
+    // BCrypt("password")
+    static final String HASH = "$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z6GJAzb1qSrBvAYn0QFkbhIi";
+
+    @Autowired
+    private MemberImportService memberImportService;
+    @Autowired
+    private QuestionRepository questionRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    private long q1;
+    private long q2;
+
+    @BeforeEach
+    void setUp() {
+        q1 = questionRepository.save(Question.builder().content("리더").type(QuestionType.METRIC).build()).getId();
+        q2 = questionRepository.save(Question.builder().content("MBTI").type(QuestionType.STRING).build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM question_result");
+        jdbcTemplate.update("DELETE FROM question_choices");
+        jdbcTemplate.update("DELETE FROM question");
+        jdbcTemplate.update("DELETE FROM member");
+    }
+
+    @Test
+    void ndjsonImportSkipsBadRowsWithoutAborting() throws Exception {
+        jdbcTemplate.update("INSERT INTO member (name, password, role, team_built) VALUES ('existing', 'pw', 'BABY', false)");
+        String body = String.join("\n",
+                row("alice", "\"password\":\"secret\""),
+                row("bob", "\"passwordHash\":\"" + HASH + "\""),
+                "{not json",
+                "",
+                "{\"gender\":\"남자\",\"password\":\"pw\"}",
+                "{\"name\":\"carol\",\"passwordHash\":\"" + HASH + "\",\"answers\":{\"999999\":\"1\"}}",
+                row("existing", "\"passwordHash\":\"" + HASH + "\""),
+                row("bob", "\"passwordHash\":\"" + HASH + "\""),
+                "{\"name\":\"dave\",\"passwordHash\":\"plain\"}");
+
+        MemberImportResponseDto result = memberImportService.importNdjson(stream(body));
+
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(6);
+        assertThat(result.getErrors()).extracting(RowError::getLine).containsExactly(3, 5, 6, 8, 9, 7);
+        assertThat(result.isErrorsTruncated()).isFalse();
+
+        assertThat(jdbcTemplate.queryForList("SELECT name FROM member ORDER BY name", String.class))
+                .containsExactly("alice", "bob", "existing");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM question_result qr JOIN member m ON m.id = qr.member_id WHERE m.name IN ('alice', 'bob')",
+                Integer.class)).isEqualTo(4);
+        assertThat(jdbcTemplate.queryForObject("SELECT password FROM member WHERE name = 'alice'", String.class))
+                .startsWith("$2a$");
+    }
+
+    @Test
+    void rowThatFailsOnInsertIsReportedAloneAndTheRestOfItsChunkIsSaved() throws Exception {
+        // 이름 열 길이(255)를 넘는 행은 이름 확인을 통과하지만 insert에서 실패함
+        String longName = "x".repeat(300);
+        String body = String.join("\n",
+                row("alice", "\"password\":\"secret\""),
+                row(longName, "\"passwordHash\":\"" + HASH + "\""),
+                row("bob", "\"password\":\"secret\""));
+
+        MemberImportResponseDto result = memberImportService.importNdjson(stream(body));
+
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(result.getErrors()).extracting(RowError::getLine).containsExactly(2);
+        assertThat(jdbcTemplate.queryForList("SELECT name FROM member ORDER BY name", String.class))
+                .containsExactly("alice", "bob");
+        assertThat(jdbcTemplate.queryForList("SELECT password FROM member", String.class))
+                .allMatch(hash -> hash.startsWith("$2a$")).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void csvImportReadsQuotedValuesAndQuestionColumns() throws Exception {
+        String body = "name,gender,passwordHash," + q1 + "," + q2 + "\n"
+                + "erin,여자," + HASH + ",7,\"ENFP, 가끔 INFP\"\n"
+                + "frank,남자," + HASH + ",3,\n"
+                + "\"broken,남자\n";
+
+        MemberImportResponseDto result = memberImportService.importCsv(stream(body));
+
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getErrors()).extracting(RowError::getLine).containsExactly(4);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT qr.answer FROM question_result qr JOIN member m ON m.id = qr.member_id " +
+                        "WHERE m.name = 'erin' AND qr.question_id = ?", String.class, q2))
+                .isEqualTo("ENFP, 가끔 INFP");
+        // 빈 값은 응답하지 않은 것으로 처리
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM question_result qr JOIN member m ON m.id = qr.member_id WHERE m.name = 'frank'",
+                Integer.class)).isEqualTo(1);
+    }
+
+    @Test
+    void statementsPerChunkDoNotDependOnRowCount() throws Exception {
+        int rows = MemberImportService.CHUNK_SIZE * 2 + 500;
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < rows; i++) {
+            body.append(row("member" + i, "\"passwordHash\":\"" + HASH + "\"")).append('\n');
+        }
+
+        sqlStatementCounter.reset();
+        MemberImportResponseDto result = memberImportService.importNdjson(stream(body.toString()));
+
+        assertThat(result.getImported()).isEqualTo(rows);
+        // 질문 목록 1 + 청크 3개 x (이름 조회 1 + 멤버 배치 1 + id 조회 1 + 응답 배치 최대 2 (1000명 x 2개 / 배치 1000))
+        assertThat(sqlStatementCounter.count()).as("%s", sqlStatementCounter.statements()).isLessThanOrEqualTo(1 + 3 * 5);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM question_result", Integer.class)).isEqualTo(rows * 2);
+    }
+
+    private String row(String name, String password) {
+        return "{\"name\":\"" + name + "\",\"gender\":\"남자\"," + password
+                + ",\"answers\":{\"" + q1 + "\":\"8\",\"" + q2 + "\":\"ENFP\"}}";
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
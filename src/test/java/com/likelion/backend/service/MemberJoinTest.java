@@ -0,0 +1,251 @@
+package com.likelion.backend.service;
+
+import com.likelion.backend.config.MemberNameMigration;
+import com.likelion.backend.domain.Member;
+import com.likelion.backend.domain.Question;
+import com.likelion.backend.dto.request.JoinRequestDto;
+import com.likelion.backend.enums.QuestionType;
+import com.likelion.backend.enums.Role;
+import com.likelion.backend.repository.MemberRepository;
+import com.likelion.backend.repository.QuestionRepository;
+import com.likelion.backend.support.SqlStatementCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(SqlStatementCounter.class)
+class MemberJoinTest {
+
+    private static final int CONCURRENT_JOINS = 16;
+
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private QuestionRepository questionRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private MemberNameMigration memberNameMigration;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM question_result");
+        jdbcTemplate.update("DELETE FROM question_choices");
+        jdbcTemplate.update("DELETE FROM question");
+        jdbcTemplate.update("DELETE FROM member");
+    }
+
+    @Test
+    void statementCountDoesNotGrowWithAnswerCount() {
+        List<Long> few = seedQuestions(3);
+        List<Long> many = seedQuestions(30);
+
+        sqlStatementCounter.reset();
+        memberService.join(request("few", few));
+        int small = sqlStatementCounter.count();
+
+        sqlStatementCounter.reset();
+        memberService.join(request("many", many));
+        int large = sqlStatementCounter.count();
+
+        // 이름 중복 확인 1 + 멤버 insert 1 + 질문 조회 1 + 응답 insert 배치 1
+        assertThat(large).as("%s", sqlStatementCounter.statements()).isEqualTo(small).isLessThanOrEqualTo(4);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM question_result", Integer.class)).isEqualTo(33);
+    }
+
+    @Test
+    void unknownQuestionRollsBackTheWholeJoin() {
+        List<Long> questionIds = new ArrayList<>(seedQuestions(3));
+        questionIds.add(questionIds.get(2) + 1000);
+
+        assertThatThrownBy(() -> memberService.join(request("ghost", questionIds)))
+                .hasMessageContaining("번 질문이 없습니다.");
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM member", Integer.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM question_result", Integer.class)).isZero();
+    }
+
+    @Test
+    void existingNameIsRejectedBeforeHashing() {
+        List<Long> questionIds = seedQuestions(1);
+        memberService.join(request("taken", questionIds));
+        long hashed = meterRegistry.find("password.hash.duration").tag("operation", "encode").timer().count();
+
+        assertThatThrownBy(() -> memberService.join(request("taken", questionIds)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("이미 존재하는 사용자입니다.");
+
+        assertThat(meterRegistry.find("password.hash.duration").tag("operation", "encode").timer().count())
+                .isEqualTo(hashed);
+    }
+
+    @Test
+    void onlyTheNameConstraintIsTranslatedToConflict() {
+        jdbcTemplate.update("INSERT INTO member (name, password, role, team_built) VALUES ('taken', 'pw', 'BABY', false)");
+
+        DataIntegrityViolationException duplicate = catchThrowableOfType(DataIntegrityViolationException.class,
+                () -> transactionTemplate.executeWithoutResult(status -> memberRepository.saveAndFlush(
+                        Member.builder().name("taken").password("pw").role(Role.BABY).build())));
+        DataIntegrityViolationException other = catchThrowableOfType(DataIntegrityViolationException.class,
+                () -> jdbcTemplate.update("INSERT INTO question_result (member_id, question_id, answer) VALUES (-1, -1, 'x')"));
+
+        assertThat(MemberService.isNameConflict(duplicate)).isTrue();
+        assertThat(MemberService.isNameConflict(other)).isFalse();
+    }
+
+    @Test
+    void concurrentJoinsWithSameNameCreateExactlyOneMember() throws Exception {
+        List<Long> questionIds = seedQuestions(5);
+
+        List<Throwable> failures = runConcurrently(i -> request("same", questionIds));
+
+        assertThat(failures).hasSize(CONCURRENT_JOINS - 1)
+                .allSatisfy(e -> assertThat(e)
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasMessage("이미 존재하는 사용자입니다."));
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM member", Integer.class)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM question_result", Integer.class)).isEqualTo(5);
+    }
+
+    // 유니크 제약이 아직 없는 DB (중복 이름 정리 전)
+    @Test
+    void concurrentJoinsWithSameNameCreateExactlyOneMemberWithoutTheConstraint() throws Exception {
+        jdbcTemplate.execute("ALTER TABLE member DROP CONSTRAINT " + Member.NAME_CONSTRAINT);
+        try {
+            List<Long> questionIds = seedQuestions(5);
+
+            List<Throwable> failures = runConcurrently(i -> request("same", questionIds));
+
+            assertThat(failures).hasSize(CONCURRENT_JOINS - 1)
+                    .allSatisfy(e -> assertThat(e).hasMessage("이미 존재하는 사용자입니다."));
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM member", Integer.class)).isEqualTo(1);
+        } finally {
+            restoreNameConstraint();
+        }
+    }
+
+    @Test
+    void migrationRenamesDuplicateNamesExceptTheFirst() {
+        jdbcTemplate.execute("ALTER TABLE member DROP CONSTRAINT " + Member.NAME_CONSTRAINT);
+        try {
+            for (int i = 0; i < 3; i++) {
+                jdbcTemplate.update("INSERT INTO member (name, password, role, team_built) VALUES ('dup', 'pw', 'BABY', false)");
+            }
+            jdbcTemplate.update("INSERT INTO member (name, password, role, team_built) VALUES ('solo', 'pw', 'BABY', false)");
+            List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM member ORDER BY id", Long.class);
+
+            assertThat(memberNameMigration.deduplicateNames()).isEqualTo(2);
+
+            assertThat(jdbcTemplate.queryForList("SELECT name FROM member ORDER BY id", String.class))
+                    .containsExactly("dup", "dup#" + ids.get(1), "dup#" + ids.get(2), "solo");
+            assertThat(memberNameMigration.deduplicateNames()).isZero();
+        } finally {
+            restoreNameConstraint();
+        }
+    }
+
+    private void restoreNameConstraint() {
+        jdbcTemplate.update("DELETE FROM question_result");
+        jdbcTemplate.update("DELETE FROM member");
+        jdbcTemplate.execute("ALTER TABLE member ADD CONSTRAINT " + Member.NAME_CONSTRAINT + " UNIQUE (name)");
+    }
+
+    @Test
+    void concurrentJoinsWithDistinctNamesAllSucceed() throws Exception {
+        List<Long> questionIds = seedQuestions(5);
+
+        long start = System.nanoTime();
+        List<Throwable> failures = runConcurrently(i -> request("member" + i, questionIds));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.printf("%d concurrent joins: %d ms%n", CONCURRENT_JOINS, elapsedMillis);
+        assertThat(failures).isEmpty();
+        assertThat(meterRegistry.find("member.join").tag("outcome", "success").timer().count())
+                .isGreaterThanOrEqualTo(CONCURRENT_JOINS);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM member", Integer.class)).isEqualTo(CONCURRENT_JOINS);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM question_result", Integer.class))
+                .isEqualTo(CONCURRENT_JOINS * 5);
+    }
+
+    // 모든 가입 요청을 동시에 출발시키고 실패한 요청의 예외만 모아 반환
+    private List<Throwable> runConcurrently(IntFunction<JoinRequestDto> requests) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_JOINS);
+        CountDownLatch ready = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_JOINS; i++) {
+                JoinRequestDto request = requests.apply(i);
+                futures.add(executor.submit(() -> {
+                    ready.await();
+                    return memberService.join(request);
+                }));
+            }
+            ready.countDown();
+
+            List<Throwable> failures = new ArrayList<>();
+            for (Future<?> future : futures) {
+                try {
+                    future.get(30, TimeUnit.SECONDS);
+                } catch (ExecutionException e) {
+                    failures.add(e.getCause());
+                }
+            }
+            return failures;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<Long> seedQuestions(int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(questionRepository.save(Question.builder()
+                    .content("질문" + i)
+                    .type(QuestionType.METRIC)
+                    .build()).getId());
+        }
+        return ids;
+    }
+
+    private static JoinRequestDto request(String name, List<Long> questionIds) {
+        Map<String, String> answers = new LinkedHashMap<>();
+        for (Long id : questionIds) {
+            answers.put(String.valueOf(id), "5");
+        }
+        JoinRequestDto dto = new JoinRequestDto();
+        ReflectionTestUtils.setField(dto, "name", name);
+        ReflectionTestUtils.setField(dto, "password", "password");
+        ReflectionTestUtils.setField(dto, "gender", "남자");
+        ReflectionTestUtils.setField(dto, "answers", answers);
+        return dto;
+    }
+}
@@ -0,0 +1,125 @@
+package com.likelion.backend.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+class PasswordHasherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+    private PasswordHasher hasher;
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        if (hasher != null) hasher.shutdown();
+    }
+
+    @Test
+    void encodesAndMatchesOnWorkerPoolAndRecordsLatency() {
+        hasher = new PasswordHasher(new BCryptPasswordEncoder(4), meterRegistry, 1, 4, 2);
+
+        String hash = hasher.encode("secret");
+
+        assertThat(hasher.matches("secret", hash)).isTrue();
+        assertThat(hasher.matches("wrong", hash)).isFalse();
+        assertThat(meterRegistry.get("password.hash.duration").tag("operation", "encode").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("password.hash.duration").tag("operation", "matches").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("password.hash.queue.depth").gauge().value()).isZero();
+    }
+
+    @Test
+    void rejectsWithRetryAfterWhenQueueIsFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        BCryptPasswordEncoder blocking = new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.encode(rawPassword);
+            }
+        };
+        hasher = new PasswordHasher(blocking, meterRegistry, 1, 1, 3);
+
+        callers.submit(() -> hasher.encode("a"));     // 작업 스레드 점유
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        callers.submit(() -> hasher.encode("b"));     // 대기열 1칸 점유
+        waitUntil(() -> meterRegistry.get("password.hash.queue.depth").gauge().value() == 1);
+
+        ServiceBusyException busy = catchThrowableOfType(ServiceBusyException.class, () -> hasher.encode("c"));
+
+        assertThat(busy.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(busy.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("3");
+        assertThat(meterRegistry.get("password.hash.rejected").counter().count()).isEqualTo(1);
+        release.countDown();
+    }
+
+    @Test
+    void encodeAllKeepsInputOrder() {
+        hasher = new PasswordHasher(new BCryptPasswordEncoder(4), meterRegistry, 2, 4, 2);
+
+        List<String> hashes = hasher.encodeAll(List.of("a", "b", "c", "d", "e"));
+
+        assertThat(hashes).hasSize(5);
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(4);
+        for (int i = 0; i < hashes.size(); i++) {
+            assertThat(encoder.matches(String.valueOf((char) ('a' + i)), hashes.get(i))).isTrue();
+        }
+        assertThat(meterRegistry.get("password.hash.duration").tag("operation", "encode").timer().count()).isEqualTo(5);
+    }
+
+    @Test
+    void encodeAllReturnsNullForRejectedPasswordsInsteadOfThrowing() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        BCryptPasswordEncoder blocking = new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.encode(rawPassword);
+            }
+        };
+        hasher = new PasswordHasher(blocking, meterRegistry, 1, 1, 3);
+
+        callers.submit(() -> hasher.encode("a"));     // 작업 스레드 점유
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        callers.submit(() -> hasher.encode("b"));     // 대기열 1칸 점유
+        waitUntil(() -> meterRegistry.get("password.hash.queue.depth").gauge().value() == 1);
+
+        List<String> hashes = hasher.encodeAll(List.of("c", "d"));
+
+        assertThat(hashes).containsExactly(null, null);
+        assertThat(meterRegistry.get("password.hash.rejected").counter().count()).isEqualTo(2);
+        release.countDown();
+    }
+
+    private static void waitUntil(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.likelion.backend.service;
+
+import com.likelion.backend.domain.Question;
+import com.likelion.backend.dto.request.JoinRequestDto;
+import com.likelion.backend.enums.QuestionType;
+import com.likelion.backend.repository.QuestionRepository;
+import com.likelion.backend.service.teambuilding.TeamBuildingOptions;
+import com.likelion.backend.support.QueryBudget;
+import com.likelion.backend.support.SqlStatementCounter;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 코호트 크기(10 ~ 1만 명)별로 주요 경로의 SQL 수가 상한 안에 있고 데이터 양에 따라 늘지 않는지 검사
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(SqlStatementCounter.class)
+class QueryBudgetTest {
+
+    private static final String[][] QUESTIONS = {
+            {"대화를 이끄는 편인가요?", "leader"}, {"회식을 좋아하나요?", "drink"}, {"MBTI", "mbti"},
+            {"취미", "hobby"}, {"좋아하는 음식", "food"}, {"야생 사자력", "wildLion"}};
+    private static final String[] MBTI = {"ENFP", "INTJ", "ESTJ", "ISFP"};
+
+    @Autowired
+    private TeamBuildingService teamBuildingService;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private AdultService adultService;
+    @Autowired
+    private QuestionRepository questionRepository;
+    @Autowired
+    private QuestionCatalog questionCatalog;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Nested
+    class With10Members extends Scenarios {
+        With10Members() {
+            super(10);
+        }
+    }
+
+    @Nested
+    class With100Members extends Scenarios {
+        With100Members() {
+            super(100);
+        }
+    }
+
+    @Nested
+    class With1000Members extends Scenarios {
+        With1000Members() {
+            super(1_000);
+        }
+    }
+
+    @Nested
+    class With10000Members extends Scenarios {
+        With10000Members() {
+            super(10_000);
+        }
+    }
+
+    abstract class Scenarios {
+
+        private final int memberCount;
+        private final int teamCount;
+        private final List<Long> questionIds = new ArrayList<>();
+
+        Scenarios(int memberCount) {
+            this.memberCount = memberCount;
+            this.teamCount = Math.max(1, memberCount / 10);
+        }
+
+        @BeforeEach
+        void seedCohort() {
+            for (String[] question : QUESTIONS) {
+                questionIds.add(questionRepository.save(Question.builder()
+                        .content(question[0]).keyword(question[1])
+                        .type(question[1].equals("mbti") ? QuestionType.STRING : QuestionType.METRIC)
+                        .build()).getId());
+            }
+            questionCatalog.refresh();
+
+            SplittableRandom random = new SplittableRandom(memberCount);
+            List<Object[]> members = new ArrayList<>(memberCount);
+            for (int i = 0; i < memberCount; i++) {
+                members.add(new Object[]{"member" + i, i % 2 == 0 ? "남자" : "여자"});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO member (name, password, role, gender, team_built) VALUES (?, 'pw', 'BABY', ?, false)", members);
+
+            List<Long> memberIds = jdbcTemplate.queryForList("SELECT id FROM member ORDER BY id", Long.class);
+            List<Object[]> answers = new ArrayList<>(memberCount * QUESTIONS.length);
+            for (Long memberId : memberIds) {
+                for (int q = 0; q < QUESTIONS.length; q++) {
+                    String answer = QUESTIONS[q][1].equals("mbti") ? MBTI[random.nextInt(MBTI.length)]
+                            : String.valueOf(1 + random.nextInt(10));
+                    answers.add(new Object[]{memberId, questionIds.get(q), answer});
+                }
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO question_result (member_id, question_id, answer) VALUES (?, ?, ?)", answers);
+
+            teamBuildingService.buildAndSaveTeams(TeamBuildingOptions.of(memberCount, teamCount));
+        }
+
+        @AfterEach
+        void clearCohort() {
+            teamBuildingService.clearAllTeams();
+            jdbcTemplate.update("DELETE FROM question_result");
+            jdbcTemplate.update("DELETE FROM question_choices");
+            jdbcTemplate.update("DELETE FROM question");
+            jdbcTemplate.update("DELETE FROM member");
+            // JDBC로 직접 지운 질문은 Hibernate가 모르므로 2차 캐시도 비움
+            entityManagerFactory.getCache().evictAll();
+            entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+            questionCatalog.refresh();
+        }
+
+        // 팀 + 멤버 id 1 + 명단 질문 응답 1
+        @Test
+        @QueryBudget(max = 3, sameForEveryRun = true)
+        void getAllTeams() {
+            assertThat(teamBuildingService.getAllTeams()).hasSize(teamCount);
+        }
+
+        // 검증 1 + 스냅샷 2 + 팀 교체(삭제 2, 팀 배치, id 조회, 멤버 배치 1000명당 1) + teamBuilt UPDATE 1
+        @Test
+        @QueryBudget(max = 20)
+        void buildAndSaveTeams() {
+            teamBuildingService.buildAndSaveTeams(TeamBuildingOptions.of(memberCount, teamCount));
+        }
+
+        // 이름 중복 확인 1 + 멤버 insert 1 + 질문 조회 (캐시 적중 시 0) + 응답 배치 1
+        @Test
+        @QueryBudget(max = 4, sameForEveryRun = true)
+        void join() {
+            Map<String, String> answers = new LinkedHashMap<>();
+            for (Long questionId : questionIds) {
+                answers.put(String.valueOf(questionId), "5");
+            }
+            JoinRequestDto dto = new JoinRequestDto();
+            ReflectionTestUtils.setField(dto, "name", "newcomer");
+            ReflectionTestUtils.setField(dto, "password", "password");
+            ReflectionTestUtils.setField(dto, "gender", "여자");
+            ReflectionTestUtils.setField(dto, "answers", answers);
+
+            memberService.join(dto);
+        }
+
+        @Test
+        @QueryBudget(max = 1, sameForEveryRun = true)
+        void getResultsGroupedByMember() {
+            assertThat(adultService.getResultsGroupedByMember().getMemberCount()).isEqualTo(memberCount);
+        }
+    }
+}
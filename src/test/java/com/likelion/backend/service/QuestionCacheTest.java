@@ -0,0 +1,157 @@
+package com.likelion.backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.likelion.backend.domain.Question;
+import com.likelion.backend.dto.request.QuestionRequestDto;
+import com.likelion.backend.dto.response.QuestionResponseDto;
+import com.likelion.backend.enums.QuestionType;
+import com.likelion.backend.repository.QuestionRepository;
+import com.likelion.backend.support.SqlStatementCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(SqlStatementCounter.class)
+class QuestionCacheTest {
+
+    @Autowired
+    private QuestionService questionService;
+    @Autowired
+    private QuestionRepository questionRepository;
+    @Autowired
+    private QuestionCatalog questionCatalog;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private QuestionListCache questionListCache;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final List<Long> questionIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        questionIds.add(questionRepository.save(Question.builder()
+                .content("리더").type(QuestionType.METRIC).keyword("leader").choices(List.of("1", "10")).build()).getId());
+        questionIds.add(questionRepository.save(Question.builder()
+                .content("음식").type(QuestionType.CHOICES).keyword("food").choices(List.of("한식", "양식", "중식")).build()).getId());
+        questionIds.add(questionRepository.save(Question.builder()
+                .content("MBTI").type(QuestionType.STRING).keyword("mbti").build()).getId());
+        // 저장소로 직접 넣은 질문은 스냅샷에 반영되지 않으므로 다시 만들게 함
+        questionListCache.invalidate();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM question_choices");
+        jdbcTemplate.update("DELETE FROM question");
+        // JDBC로 직접 지운 행은 Hibernate가 모르므로 캐시도 함께 비움
+        entityManagerFactory.getCache().evictAll();
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+        questionCatalog.refresh();
+        questionListCache.invalidate();
+    }
+
+    @Test
+    void steadyStateReadsIssueNoQuestionSelects() {
+        // 캐시 채우기
+        readEverything();
+
+        sqlStatementCounter.reset();
+        for (int i = 0; i < 3; i++) {
+            readEverything();
+        }
+
+        assertThat(questionStatements()).isEmpty();
+        // 적중/실패 횟수는 리전별 메트릭으로 노출
+        assertThat(meterRegistry.find("hibernate.second.level.cache.requests").tag("result", "hit").functionCounters())
+                .anySatisfy(counter -> assertThat(counter.count()).isPositive());
+    }
+
+    @Test
+    void postingQuestionEvictsCachedListAndChoices() {
+        readEverything();
+
+        questionService.postQuestion(new QuestionRequestDto("취미", "CHOICES", null, "hobby", List.of("운동", "독서")));
+
+        sqlStatementCounter.reset();
+        List<QuestionResponseDto> questions = questionService.getQuestion();
+
+        assertThat(questions).extracting(QuestionResponseDto::getContent).contains("리더", "음식", "MBTI", "취미");
+        assertThat(questions).filteredOn(q -> q.getContent().equals("취미"))
+                .singleElement().extracting(QuestionResponseDto::getChoices).isEqualTo(List.of("운동", "독서"));
+        assertThat(questionStatements()).isNotEmpty();
+    }
+
+    @Test
+    void questionListSnapshotIsBuiltWithOneQueryAndThenServedFromMemory() throws Exception {
+        sqlStatementCounter.reset();
+        SerializedResponseCache.Entry first = questionService.getQuestionList();
+        assertThat(questionStatements()).hasSize(1);
+
+        sqlStatementCounter.reset();
+        SerializedResponseCache.Entry second = questionService.getQuestionList();
+        assertThat(second).isSameAs(first);
+        assertThat(sqlStatementCounter.count()).isZero();
+
+        JsonNode questions = objectMapper.readTree(first.getBody());
+        assertThat(questions).hasSize(3);
+        assertThat(questions.get(1).get("content").asText()).isEqualTo("음식");
+        assertThat(questions.get(1).get("choices")).hasSize(3);
+        assertThat(questions.get(2).has("choices")).isFalse();
+    }
+
+    @Test
+    void postingQuestionRebuildsSnapshotWithNewEtag() {
+        SerializedResponseCache.Entry before = questionService.getQuestionList();
+
+        questionService.postQuestion(new QuestionRequestDto("취미", "CHOICES", null, "hobby", List.of("운동", "독서")));
+
+        // 질문 추가 시점에 이미 다시 만들어 두므로 다음 조회는 SQL 없음
+        sqlStatementCounter.reset();
+        SerializedResponseCache.Entry after = questionService.getQuestionList();
+        assertThat(sqlStatementCounter.count()).isZero();
+        assertThat(after.getEtag()).isNotEqualTo(before.getEtag());
+        assertThat(new String(after.getBody(), StandardCharsets.UTF_8)).contains("취미", "독서");
+    }
+
+    private void readEverything() {
+        questionService.getQuestionList();
+        // 가입 시 질문 확인처럼 엔티티와 보기 목록을 2차 캐시에서 읽는 경로
+        transactionTemplate.executeWithoutResult(status ->
+                questionRepository.findAllById(questionIds).forEach(question -> question.getChoices().size()));
+        questionCatalog.refresh();
+    }
+
+    private List<String> questionStatements() {
+        return sqlStatementCounter.statements().stream()
+                .filter(sql -> sql.toLowerCase().matches("(?s).*from question(_choices)?\\b.*"))
+                .toList();
+    }
+}
@@ -0,0 +1,58 @@
+package com.likelion.backend.service;
+
+import com.likelion.backend.domain.Question;
+import com.likelion.backend.enums.QuestionRole;
+import com.likelion.backend.enums.QuestionType;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QuestionCatalogTest {
+
+    @Test
+    void resolvesRolesFromContentWhenNoKeywordIsSet() {
+        Map<Long, Integer> masks = QuestionCatalog.resolve(List.of(
+                question(1, "처음 만난 사람과 대화를 이끄는 편인가요?", null),
+                question(2, "회식 자리를 얼마나 좋아하나요?", ""),
+                question(3, "MBTI를 알려주세요", null),
+                question(4, "집순이 vs 밖순이", null)));
+
+        assertThat(masks).containsEntry(1L, QuestionRole.LEADER.mask())
+                .containsEntry(2L, QuestionRole.DRINK.mask())
+                .containsEntry(3L, QuestionRole.MBTI.mask())
+                .doesNotContainKey(4L);
+    }
+
+    @Test
+    void keywordTakesPrecedenceOverContentForThatRole() {
+        Map<Long, Integer> masks = QuestionCatalog.resolve(List.of(
+                question(1, "회식 장소 추천", null),
+                question(2, "술자리는 얼마나 자주?", "drink"),
+                question(3, "MBTI를 알려주세요", null)));
+
+        assertThat(masks).doesNotContainKey(1L)
+                .containsEntry(2L, QuestionRole.DRINK.mask())
+                .containsEntry(3L, QuestionRole.MBTI.mask());
+    }
+
+    @Test
+    void questionKeepsItsKeyword() {
+        assertThat(question(1, "취미&관심사", "hobby").getKeyword()).isEqualTo("hobby");
+        assertThat(question(2, "취미&관심사", null).getKeyword()).isEmpty();
+    }
+
+    private static Question question(long id, String content, String keyword) {
+        Question question = Question.builder()
+                .content(content)
+                .type(QuestionType.STRING)
+                .keyword(keyword)
+                .choices(List.of())
+                .build();
+        ReflectionTestUtils.setField(question, "id", id);
+        return question;
+    }
+}
@@ -0,0 +1,59 @@
+package com.likelion.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SerializedResponseCacheTest {
+
+    private final SerializedResponseCache cache = new SerializedResponseCache();
+
+    @Test
+    void reusesSerializedRosterUntilInvalidated() {
+        AtomicInteger loads = new AtomicInteger();
+
+        SerializedResponseCache.Entry first = cache.get(() -> body("v" + loads.incrementAndGet()));
+        SerializedResponseCache.Entry second = cache.get(() -> body("v" + loads.incrementAndGet()));
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+
+        cache.invalidate();
+        SerializedResponseCache.Entry third = cache.get(() -> body("v" + loads.incrementAndGet()));
+        assertThat(loads).hasValue(2);
+        assertThat(third.getVersion()).isGreaterThan(first.getVersion());
+        assertThat(third.getEtag()).isNotEqualTo(first.getEtag());
+    }
+
+    @Test
+    void rosterBuiltWhileInvalidatedIsReloadedOnNextRead() {
+        AtomicInteger loads = new AtomicInteger();
+
+        // 명단을 만드는 도중 팀빌딩이 커밋된 경우
+        cache.get(() -> {
+            loads.incrementAndGet();
+            cache.invalidate();
+            return body("stale");
+        });
+        SerializedResponseCache.Entry roster = cache.get(() -> {
+            loads.incrementAndGet();
+            return body("fresh");
+        });
+
+        assertThat(loads).hasValue(2);
+        assertThat(new String(roster.getBody(), StandardCharsets.UTF_8)).isEqualTo("fresh");
+    }
+
+    @Test
+    void sameContentGivesSameEtag() {
+        SerializedResponseCache other = new SerializedResponseCache();
+
+        assertThat(other.get(() -> body("same")).getEtag()).isEqualTo(cache.get(() -> body("same")).getEtag());
+    }
+
+    private static byte[] body(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,173 @@
+package com.likelion.backend.service;
+
+import com.likelion.backend.dto.response.TeamPreviewResponseDto;
+import com.likelion.backend.enums.Role;
+import com.likelion.backend.enums.TeamBuildPhase;
+import com.likelion.backend.service.teambuilding.TeamBuildingOptions;
+import com.likelion.backend.support.SqlStatementCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(SqlStatementCounter.class)
+class TeamBuildingPersistenceTest {
+
+    private static final int BABY_COUNT = 10_000;
+    private static final int ADULT_COUNT = 5;
+    private static final int TEAM_COUNT = 500;
+
+    @Autowired
+    private TeamBuildingService teamBuildingService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private CohortStatus cohortStatus;
+
+    @BeforeEach
+    void setUp() {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < BABY_COUNT + ADULT_COUNT; i++) {
+            Role role = i < BABY_COUNT ? Role.BABY : Role.ADULT;
+            rows.add(new Object[]{"member" + i, "pw", role.name(), i % 2 == 0 ? "남자" : "여자"});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO member (name, password, role, gender, team_built) VALUES (?, ?, ?, ?, false)", rows);
+        cohortStatus.refresh();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM team_member_ids");
+        jdbcTemplate.update("DELETE FROM team");
+        jdbcTemplate.update("DELETE FROM member");
+        cohortStatus.refresh();
+    }
+
+    @Test
+    void buildsAndSaves10kMembersWithHandfulOfStatements() {
+        sqlStatementCounter.reset();
+
+        teamBuildingService.buildAndSaveTeams(TeamBuildingOptions.of(BABY_COUNT, TEAM_COUNT));
+
+        // 검증 1 + 스냅샷 2 + 팀 삭제 2 + 팀 insert 배치 1 + 팀 id 조회 1 + 멤버 insert 배치 10 + teamBuilt UPDATE 1
+        assertThat(sqlStatementCounter.count())
+                .as("%s", sqlStatementCounter.statements())
+                .isBetween(1, 20);
+    }
+
+    @Test
+    void savesEveryCohortMemberOnceAndMarksOnlyCohortAsBuilt() {
+        teamBuildingService.buildAndSaveTeams(TeamBuildingOptions.of(BABY_COUNT, TEAM_COUNT));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM team", Integer.class)).isEqualTo(TEAM_COUNT);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT member_ids) FROM team_member_ids", Integer.class))
+                .isEqualTo(BABY_COUNT);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM team_member_ids tm JOIN member m ON m.id = tm.member_ids WHERE m.role = 'ADULT'",
+                Integer.class)).isZero();
+
+        assertThat(cohortStatus.hasUnbuiltMembers()).isFalse();
+        // 이벤트로 바꾼 값이 DB 집계와 같은지
+        cohortStatus.refresh();
+        assertThat(cohortStatus.built()).isEqualTo(BABY_COUNT);
+        assertThat(cohortStatus.hasUnbuiltMembers()).isFalse();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM member WHERE role = 'ADULT' AND team_built = false", Integer.class))
+                .isEqualTo(ADULT_COUNT);
+    }
+
+    @Test
+    void rebuildReplacesPreviousTeams() {
+        teamBuildingService.buildAndSaveTeams(TeamBuildingOptions.of(BABY_COUNT, TEAM_COUNT));
+        teamBuildingService.buildAndSaveTeams(TeamBuildingOptions.of(BABY_COUNT, 100));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM team", Integer.class)).isEqualTo(100);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM team_member_ids", Integer.class))
+                .isEqualTo(BABY_COUNT);
+    }
+
+    @Test
+    void previewEvaluatesEveryTeamCountFromOneSnapshotWithoutWrites() {
+        teamBuildingService.buildAndSaveTeams(TeamBuildingOptions.of(BABY_COUNT, 100));
+        sqlStatementCounter.reset();
+
+        List<TeamPreviewResponseDto> previews = teamBuildingService.previewTeams(
+                TeamBuildingOptions.of(BABY_COUNT, 0), List.of(400, 500, 625, 500), false);
+
+        // 검증 1 + 스냅샷 2 (구성 개수와 무관), 쓰기 없음
+        assertThat(sqlStatementCounter.statements())
+                .hasSizeLessThanOrEqualTo(3)
+                .allMatch(sql -> sql.trim().toLowerCase().startsWith("select"));
+        assertThat(previews).extracting(TeamPreviewResponseDto::getTeamCount).containsExactly(400, 500, 625);
+        assertThat(previews).extracting(TeamPreviewResponseDto::getMaxTeamSize).containsExactly(25, 20, 16);
+        assertThat(previews).allSatisfy(preview -> {
+            assertThat(preview.getStrategy()).isEqualTo("greedy");
+            assertThat(preview.getMinTeamSize()).isEqualTo(preview.getMaxTeamSize());
+            assertThat(preview.getTeams()).isNull();
+        });
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM team", Integer.class)).isEqualTo(100);
+    }
+
+    @Test
+    void previewStopsAllConfigurationsWhenTimeBudgetRunsOut() {
+        TeamBuildingOptions options = TeamBuildingOptions.builder()
+                .totalMembers(BABY_COUNT)
+                .strategy("multi-start")
+                .restarts(256)
+                .maxIterations(1_000_000_000L)
+                .build();
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> teamBuildingService.previewTeams(options, List.of(400, 500, 625), false, 200))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("제한을 넘었습니다");
+        assertThat((System.nanoTime() - start) / 1_000_000).isLessThan(10_000);
+    }
+
+    @Test
+    void previewRejectsInvalidTeamCountsBeforeLoadingSnapshot() {
+        TeamBuildingOptions options = TeamBuildingOptions.of(BABY_COUNT, 0);
+        sqlStatementCounter.reset();
+
+        assertThatThrownBy(() -> teamBuildingService.previewTeams(options, List.of(), false))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> teamBuildingService.previewTeams(options, List.of(10, 0), false))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(sqlStatementCounter.count()).isZero();
+
+        assertThatThrownBy(() -> teamBuildingService.previewTeams(options, List.of(10, BABY_COUNT + 1), false))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("팀 개수가 전체 멤버 수보다");
+        assertThat(sqlStatementCounter.count()).isEqualTo(1);
+    }
+
+    @Test
+    void recordsDurationOfEveryPhase() {
+        teamBuildingService.buildAndSaveTeams(TeamBuildingOptions.of(BABY_COUNT, TEAM_COUNT));
+
+        for (TeamBuildPhase phase : List.of(TeamBuildPhase.SNAPSHOT, TeamBuildPhase.LEADER_SELECTION,
+                TeamBuildPhase.ASSIGNMENT, TeamBuildPhase.LEFTOVER_ASSIGNMENT, TeamBuildPhase.PERSIST)) {
+            Timer timer = meterRegistry.find("team.build.phase").tag("phase", phase.name()).timer();
+            assertThat(timer).as(phase.name()).isNotNull();
+            assertThat(timer.count()).as(phase.name()).isPositive();
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package com.likelion.backend.service;
+
+import com.likelion.backend.domain.Question;
+import com.likelion.backend.dto.response.TeamChangeResponseDto;
+import com.likelion.backend.enums.QuestionRole;
+import com.likelion.backend.enums.QuestionType;
+import com.likelion.backend.repository.QuestionRepository;
+import com.likelion.backend.repository.TeamJdbcRepository;
+import com.likelion.backend.service.teambuilding.MemberFeatureSnapshot;
+import com.likelion.backend.service.teambuilding.MemberFeatureSnapshotLoader;
+import com.likelion.backend.service.teambuilding.TeamBuildingOptions;
+import com.likelion.backend.service.teambuilding.TeamFeatureCounts.Feature;
+import com.likelion.backend.support.SqlStatementCounter;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(SqlStatementCounter.class)
+class TeamMaintenanceTest {
+
+    // 20명 / 6팀 -> 4, 4, 3, 3, 3, 3명
+    private static final int MEMBER_COUNT = 20;
+    private static final int TEAM_COUNT = 6;
+    private static final String[] KEYWORDS = {"leader", "drink", "mbti"};
+
+    @Autowired
+    private TeamMaintenanceService teamMaintenanceService;
+    @Autowired
+    private TeamBuildingService teamBuildingService;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private QuestionRepository questionRepository;
+    @Autowired
+    private QuestionCatalog questionCatalog;
+    @Autowired
+    private CohortStatus cohortStatus;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private MemberFeatureSnapshotLoader snapshotLoader;
+    @Autowired
+    private TeamJdbcRepository teamJdbcRepository;
+
+    @BeforeEach
+    void setUp() {
+        for (String keyword : KEYWORDS) {
+            questionRepository.save(Question.builder()
+                    .content(keyword).keyword(keyword)
+                    .type(keyword.equals("mbti") ? QuestionType.STRING : QuestionType.METRIC)
+                    .build());
+        }
+        questionCatalog.refresh();
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            insertMember(i);
+        }
+        cohortStatus.refresh();
+        teamBuildingService.buildAndSaveTeams(TeamBuildingOptions.of(MEMBER_COUNT, TEAM_COUNT));
+    }
+
+    @AfterEach
+    void tearDown() {
+        teamBuildingService.clearAllTeams();
+        jdbcTemplate.update("DELETE FROM question_result");
+        jdbcTemplate.update("DELETE FROM question_choices");
+        jdbcTemplate.update("DELETE FROM question");
+        jdbcTemplate.update("DELETE FROM member");
+        // JDBC로 직접 지운 질문은 Hibernate가 모르므로 2차 캐시도 비움
+        entityManagerFactory.getCache().evictAll();
+        questionCatalog.refresh();
+        cohortStatus.refresh();
+    }
+
+    @Test
+    void lateJoinerIsAddedToOneOfTheSmallestTeamsWithSingleRowWrite() {
+        long newcomer = insertMember(MEMBER_COUNT);
+        cohortStatus.refresh();
+        Map<Long, List<Long>> before = teams();
+        sqlStatementCounter.reset();
+
+        TeamChangeResponseDto result = teamMaintenanceService.addMember(newcomer);
+
+        // 쓰기는 팀 멤버 행 insert 1건 + teamBuilt UPDATE 1건
+        assertThat(writes()).hasSize(2)
+                .anyMatch(sql -> sql.startsWith("insert into team_member_ids"));
+        Map<Long, List<Long>> after = teams();
+        long teamId = teamOf(after, newcomer);
+        assertThat(before.get(teamId)).hasSize(3);
+        assertThat(after.get(teamId)).containsExactlyElementsOf(append(before.get(teamId), newcomer));
+        assertUntouchedExcept(before, after, teamId);
+
+        assertThat(result.getMoves()).isEmpty();
+        assertThat(result.getLeaderId()).isEqualTo(before.get(teamId).get(0));
+        assertThat(cohortStatus.built()).isEqualTo(MEMBER_COUNT + 1);
+        assertThat(cohortStatus.hasUnbuiltMembers()).isFalse();
+    }
+
+    @Test
+    void withdrawingFromSmallTeamMovesOneFollowerFromLargerTeam() {
+        Map<Long, List<Long>> before = teams();
+        long teamId = teamWithSize(before, 3);
+        long follower = before.get(teamId).get(2);
+        sqlStatementCounter.reset();
+
+        TeamChangeResponseDto result = teamMaintenanceService.removeMember(follower);
+
+        // 빠진 멤버 행 삭제 1 + 이동(삭제 1, insert 1) + teamBuilt UPDATE 1
+        assertThat(writes()).hasSize(4);
+        assertThat(result.getMoves()).hasSize(1);
+        long moved = result.getMoves().get(0).getMemberId();
+
+        Map<Long, List<Long>> after = teams();
+        long donorId = teamOf(before, moved);
+        assertThat(before.get(donorId)).hasSize(4);
+        assertThat(after.get(teamId)).containsExactly(before.get(teamId).get(0), before.get(teamId).get(1), moved);
+        assertThat(after.get(donorId)).doesNotContain(moved).hasSize(3);
+        assertThat(after.values()).allSatisfy(team -> assertThat(team).hasSizeBetween(3, 4));
+        assertUntouchedExcept(before, after, teamId, donorId);
+        assertThat(jdbcTemplate.queryForObject("SELECT team_built FROM member WHERE id = ?", Boolean.class, follower)).isFalse();
+    }
+
+    @Test
+    void withdrawingFromLargeTeamNeedsNoMoves() {
+        Map<Long, List<Long>> before = teams();
+        long teamId = teamWithSize(before, 4);
+        long follower = before.get(teamId).get(1);
+
+        TeamChangeResponseDto result = teamMaintenanceService.removeMember(follower);
+
+        assertThat(result.getMoves()).isEmpty();
+        Map<Long, List<Long>> after = teams();
+        assertThat(after.get(teamId)).hasSize(3).doesNotContain(follower);
+        assertUntouchedExcept(before, after, teamId);
+    }
+
+    @Test
+    void withdrawingLeaderPromotesRemainingMemberWithHighestLeaderScore() {
+        Map<Long, List<Long>> before = teams();
+        long teamId = teamWithSize(before, 4);
+        List<Long> members = before.get(teamId);
+
+        TeamChangeResponseDto result = teamMaintenanceService.removeMember(members.get(0));
+
+        long expectedLeader = members.subList(1, members.size()).stream()
+                .max((a, b) -> leaderScore(a) != leaderScore(b)
+                        ? Integer.compare(leaderScore(a), leaderScore(b)) : Long.compare(b, a))
+                .orElseThrow();
+        Map<Long, List<Long>> after = teams();
+        assertThat(result.getLeaderId()).isEqualTo(expectedLeader);
+        assertThat(after.get(teamId)).hasSize(3).startsWith(expectedLeader)
+                .containsExactlyInAnyOrderElementsOf(members.subList(1, members.size()));
+        assertUntouchedExcept(before, after, teamId);
+    }
+
+    @Test
+    void deletingMemberRepairsTheirTeamAndKeepsCohortStatus() {
+        Map<Long, List<Long>> before = teams();
+        long teamId = teamWithSize(before, 3);
+
+        memberService.deleteMember(before.get(teamId).get(1));
+
+        Map<Long, List<Long>> after = teams();
+        assertThat(after.get(teamId)).hasSize(3);
+        assertThat(after.values()).allSatisfy(team -> assertThat(team).hasSizeBetween(3, 4));
+        assertThat(cohortStatus.babies()).isEqualTo(MEMBER_COUNT - 1);
+        assertThat(cohortStatus.built()).isEqualTo(MEMBER_COUNT - 1);
+    }
+
+    // 그룹 집계로 센 팀별 특성 분포가 스냅샷 규칙과 같은지 (소문자 MBTI, 숫자가 아닌 음주 응답 포함)
+    @Test
+    void featureCountsByTeamMatchTheSnapshot() {
+        Map<Long, List<Long>> teams = teams();
+        List<Long> members = teams.values().iterator().next();
+        jdbcTemplate.update("UPDATE question_result SET answer = 'entj' WHERE member_id = ? AND question_id = " +
+                "(SELECT id FROM question WHERE keyword = 'mbti')", members.get(0));
+        jdbcTemplate.update("UPDATE question_result SET answer = '자주' WHERE member_id = ? AND question_id = " +
+                "(SELECT id FROM question WHERE keyword = 'drink')", members.get(1));
+        jdbcTemplate.update("UPDATE question_result SET answer = ' 7' WHERE member_id = ? AND question_id = " +
+                "(SELECT id FROM question WHERE keyword = 'drink')", members.get(2));
+
+        MemberFeatureSnapshot snapshot = snapshotLoader.load(Integer.MAX_VALUE);
+        Map<Long, Map<Feature, Integer>> expected = new HashMap<>();
+        for (int i = 0; i < snapshot.size(); i++) {
+            long teamId = teamOf(teams, snapshot.id(i));
+            expected.computeIfAbsent(teamId, id -> new HashMap<>()).merge(Feature.of(snapshot, i), 1, Integer::sum);
+        }
+        Map<Long, Map<Feature, Integer>> actual = new HashMap<>();
+        for (TeamJdbcRepository.FeatureCount row : teamJdbcRepository.countFeaturesByTeam(
+                questionCatalog.questionIds(QuestionRole.MBTI), questionCatalog.questionIds(QuestionRole.DRINK))) {
+            actual.computeIfAbsent(row.teamId(), id -> new HashMap<>())
+                    .put(new Feature(row.extrovert(), row.male(), row.drinkScore()), row.members());
+        }
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void rejectsMembersInTheWrongState() {
+        long assigned = teams().values().iterator().next().get(0);
+        long newcomer = insertMember(MEMBER_COUNT);
+
+        assertThatThrownBy(() -> teamMaintenanceService.addMember(assigned))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> teamMaintenanceService.removeMember(newcomer))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> teamMaintenanceService.addMember(-1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // i번째 멤버: 성별 번갈아, 리더 점수 i % 7, 음주 점수 (i * 3) % 11, E/I 번갈아
+    private long insertMember(int i) {
+        jdbcTemplate.update("INSERT INTO member (name, password, role, gender, team_built) VALUES (?, 'pw', 'BABY', ?, false)",
+                "member" + i, i % 2 == 0 ? "남자" : "여자");
+        long id = jdbcTemplate.queryForObject("SELECT id FROM member WHERE name = ?", Long.class, "member" + i);
+        String[] answers = {String.valueOf(i % 7), String.valueOf((i * 3) % 11), (i / 2) % 2 == 0 ? "ENFP" : "ISTJ"};
+        for (int q = 0; q < KEYWORDS.length; q++) {
+            jdbcTemplate.update("INSERT INTO question_result (member_id, question_id, answer) " +
+                    "SELECT ?, id, ? FROM question WHERE keyword = ?", id, answers[q], KEYWORDS[q]);
+        }
+        return id;
+    }
+
+    private int leaderScore(long memberId) {
+        return Integer.parseInt(jdbcTemplate.queryForObject("SELECT qr.answer FROM question_result qr " +
+                "JOIN question q ON q.id = qr.question_id WHERE q.keyword = 'leader' AND qr.member_id = ?", String.class, memberId));
+    }
+
+    // 팀 id -> 저장 순서대로의 멤버 id (0번째가 리더)
+    private Map<Long, List<Long>> teams() {
+        Map<Long, List<Long>> teams = new LinkedHashMap<>();
+        for (Long teamId : jdbcTemplate.queryForList("SELECT id FROM team ORDER BY id", Long.class)) {
+            teams.put(teamId, new ArrayList<>());
+        }
+        jdbcTemplate.query("SELECT team_id, member_ids FROM team_member_ids",
+                rs -> { teams.get(rs.getLong("team_id")).add(rs.getLong("member_ids")); });
+        return teams;
+    }
+
+    private List<String> writes() {
+        return sqlStatementCounter.statements().stream()
+                .map(sql -> sql.trim().toLowerCase())
+                .filter(sql -> !sql.startsWith("select"))
+                .toList();
+    }
+
+    private static long teamOf(Map<Long, List<Long>> teams, long memberId) {
+        return teams.entrySet().stream()
+                .filter(entry -> entry.getValue().contains(memberId))
+                .findFirst().orElseThrow().getKey();
+    }
+
+    private static long teamWithSize(Map<Long, List<Long>> teams, int size) {
+        return teams.entrySet().stream()
+                .filter(entry -> entry.getValue().size() == size)
+                .findFirst().orElseThrow().getKey();
+    }
+
+    private static void assertUntouchedExcept(Map<Long, List<Long>> before, Map<Long, List<Long>> after, Long... changed) {
+        Map<Long, List<Long>> expected = new HashMap<>(before);
+        Map<Long, List<Long>> actual = new HashMap<>(after);
+        for (Long teamId : changed) {
+            expected.remove(teamId);
+            actual.remove(teamId);
+        }
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    private static List<Long> append(List<Long> members, long memberId) {
+        List<Long> result = new ArrayList<>(members);
+        result.add(memberId);
+        return result;
+    }
+}
@@ -0,0 +1,151 @@
+package com.likelion.backend.service;
+
+import com.likelion.backend.domain.Member;
+import com.likelion.backend.domain.Question;
+import com.likelion.backend.domain.QuestionResult;
+import com.likelion.backend.dto.response.TeamMemberDto;
+import com.likelion.backend.dto.response.TeamOutputDto;
+import com.likelion.backend.enums.QuestionType;
+import com.likelion.backend.enums.Role;
+import com.likelion.backend.repository.MemberRepository;
+import com.likelion.backend.repository.QuestionRepository;
+import com.likelion.backend.repository.QuestionResultRepository;
+import com.likelion.backend.service.teambuilding.TeamBuildingOptions;
+import com.likelion.backend.support.SqlStatementCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(SqlStatementCounter.class)
+class TeamRosterQueryTest {
+
+    @Autowired
+    private TeamBuildingService teamBuildingService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private QuestionRepository questionRepository;
+    @Autowired
+    private QuestionResultRepository questionResultRepository;
+    @Autowired
+    private QuestionCatalog questionCatalog;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private SqlStatementCounter sqlStatementCounter;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM team_member_ids");
+        jdbcTemplate.update("DELETE FROM team");
+        jdbcTemplate.update("DELETE FROM question_result");
+        jdbcTemplate.update("DELETE FROM question_choices");
+        jdbcTemplate.update("DELETE FROM question");
+        jdbcTemplate.update("DELETE FROM member");
+    }
+
+    @Test
+    void queryCountDoesNotGrowWithCohortSize() {
+        seedCohort(12);
+        teamBuildingService.buildAndSaveTeams(TeamBuildingOptions.of(12, 3));
+        sqlStatementCounter.reset();
+        teamBuildingService.getAllTeams();
+        int small = sqlStatementCounter.count();
+        tearDown();
+
+        seedCohort(240);
+        teamBuildingService.buildAndSaveTeams(TeamBuildingOptions.of(240, 30));
+        sqlStatementCounter.reset();
+        List<TeamOutputDto> teams = teamBuildingService.getAllTeams();
+        int large = sqlStatementCounter.count();
+
+        assertThat(teams).hasSize(30);
+        assertThat(large).as("%s", sqlStatementCounter.statements()).isEqualTo(small).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void rosterShowsAnswersLeaderAndSavedOrder() {
+        List<Member> members = seedCohort(20);
+        List<TeamOutputDto> built = teamBuildingService.buildAndSaveTeams(TeamBuildingOptions.of(20, 4)).getTeams();
+
+        List<TeamOutputDto> roster = teamBuildingService.getAllTeams();
+
+        assertThat(roster).extracting(TeamOutputDto::getTeamName)
+                .containsExactlyElementsOf(built.stream().map(TeamOutputDto::getTeamName).toList());
+        for (int t = 0; t < built.size(); t++) {
+            assertThat(roster.get(t).getMembers()).extracting(TeamMemberDto::getName)
+                    .containsExactlyElementsOf(built.get(t).getMembers().stream().map(TeamMemberDto::getName).toList());
+            assertThat(roster.get(t).getMembers()).extracting(TeamMemberDto::isLeader)
+                    .containsExactlyElementsOf(built.get(t).getMembers().stream().map(TeamMemberDto::isLeader).toList());
+        }
+
+        Member member = members.get(7);
+        TeamMemberDto dto = roster.stream()
+                .flatMap(team -> team.getMembers().stream())
+                .filter(m -> m.getName().equals(member.getName()))
+                .findFirst()
+                .orElseThrow();
+        assertThat(dto.getMbti()).isEqualTo("mbti: ENFP");
+        assertThat(dto.getDrinkScore()).isEqualTo(7);
+        assertThat(dto.getHobby()).isEqualTo("취미/관심사: 등산7");
+        assertThat(dto.getFavoriteFood()).isEqualTo("좋아하는 음식: ");
+        assertThat(dto.getWildLionAnswer()).isEqualTo("야생의 사자를 만나면: 도망");
+        assertThat(dto.getImage()).isEqualTo("/images/7.png");
+    }
+
+    // 멤버 n명과 MBTI/회식/취미/야생 응답 생성 (음식 질문은 응답 없음)
+    private List<Member> seedCohort(int n) {
+        Question mbti = question("당신의 MBTI는?");
+        Question drink = question("회식을 얼마나 좋아하나요?");
+        Question hobby = question("취미가 무엇인가요?");
+        question("좋아하는 음식은?");
+        Question wild = question("야생의 사자를 만나면?");
+
+        List<Member> members = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            members.add(Member.builder()
+                    .name("member" + i)
+                    .password("pw")
+                    .role(Role.BABY)
+                    .gender(i % 2 == 0 ? "남자" : "여자")
+                    .image("/images/" + i + ".png")
+                    .build());
+        }
+        memberRepository.saveAll(members);
+
+        List<QuestionResult> results = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            Member member = members.get(i);
+            results.add(answer(member, mbti, i % 2 == 0 ? "ENTJ" : "ENFP"));
+            results.add(answer(member, drink, String.valueOf(i % 10)));
+            results.add(answer(member, hobby, "등산" + i));
+            results.add(answer(member, wild, "도망"));
+        }
+        questionResultRepository.saveAll(results);
+        questionCatalog.refresh();
+        return members;
+    }
+
+    private Question question(String content) {
+        return questionRepository.save(Question.builder()
+                .content(content)
+                .type(QuestionType.STRING)
+                .choices(List.of())
+                .build());
+    }
+
+    private static QuestionResult answer(Member member, Question question, String answer) {
+        return QuestionResult.builder().member(member).question(question).answer(answer).build();
+    }
+}
@@ -0,0 +1,76 @@
+package com.likelion.backend.service.teambuilding;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FollowerAssignmentEngineTest {
+
+    private final GreedyTeamAssignmentStrategy greedy = new GreedyTeamAssignmentStrategy();
+
+    @ParameterizedTest
+    @CsvSource({
+            "1, 12, 3",
+            "2, 30, 4",
+            "3, 57, 6",
+            "4, 120, 8",
+            "5, 200, 13",
+            "6, 64, 64",
+            "7, 301, 25"
+    })
+    void sameTeamsAsLegacyAlgorithm(long seed, int memberCount, int teamCount) {
+        MemberFeatureSnapshot snapshot = SyntheticCohorts.random(seed, memberCount);
+
+        assertSameTeams(snapshot, memberCount, teamCount);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "11, 40, 30, 4",
+            "12, 90, 70, 7"
+    })
+    void sameTeamsAsLegacyAlgorithmWhenLeftoversRemain(long seed, int memberCount, int totalMembers, int teamCount) {
+        // 슬롯보다 멤버가 많아 "남은 멤버 처리" 단계까지 진행되는 경우
+        MemberFeatureSnapshot snapshot = SyntheticCohorts.random(seed, memberCount);
+
+        assertSameTeams(snapshot, totalMembers, teamCount);
+    }
+
+    @Test
+    void sameTeamsAsLegacyAlgorithmWithIdenticalFeatures() {
+        // 모든 후보의 점수가 같아 순서 기반 tie-break만으로 결정되는 경우
+        MemberFeatureSnapshot.Builder snapshot = MemberFeatureSnapshot.builder(24);
+        for (int i = 0; i < 24; i++) {
+            snapshot.add(i + 1, "member" + i, i % 2 == 0 ? "남자" : "여자", 5, 5, "ENFP");
+        }
+
+        assertSameTeams(snapshot.build(), 24, 5);
+    }
+
+    @Test
+    void scoreMatchesRecomputedTeamBalance() {
+        MemberFeatureSnapshot snapshot = MemberFeatureSnapshot.builder(3)
+                .add(1, "a", "남자", 9, 8, "ENTJ")
+                .add(2, "b", "여자", 3, 2, "INFP")
+                .add(3, "c", "여자", 1, 6, "ESFJ")
+                .build();
+        FollowerAssignmentEngine engine = new FollowerAssignmentEngine(snapshot, 1);
+        engine.add(0, 0);
+        engine.add(0, 1);
+
+        // E 2/3, 남자 1/3, 음주 평균 16/3 과 후보(6) 차이
+        double expected = Math.abs(2.0 / 3 - 0.5) + Math.abs(1.0 / 3 - 0.5) + Math.abs(16.0 / 3 - 6) * 0.1;
+        assertThat(engine.score(0, 2)).isEqualTo(expected);
+    }
+
+    private void assertSameTeams(MemberFeatureSnapshot snapshot, int totalMembers, int teamCount) {
+        List<List<Integer>> expected = LegacyGreedyTeamBuilder.build(snapshot, totalMembers, teamCount);
+        TeamAssignment actual = greedy.build(snapshot, totalMembers, teamCount);
+
+        assertThat(SyntheticCohorts.toLists(actual)).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,182 @@
+package com.likelion.backend.service.teambuilding;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+// 누적 카운터 엔진 도입 전(리스트 복사 + 스트림 재계산) 팀빌딩 알고리즘 - 동등성 검증용 기준 구현
+final class LegacyGreedyTeamBuilder {
+
+    private LegacyGreedyTeamBuilder() {
+    }
+
+    static List<List<Integer>> build(MemberFeatureSnapshot snapshot, int totalMembers, int teamCount) {
+        int memberCount = snapshot.size();
+
+        // 1. 리더 점수로 리더 선발 <- 질문 1 답이 높을수록 리더형!
+        // 리더 점수 높은 순으로 정렬하여 팀 수만큼 리더 선발
+        List<Integer> leaders = new ArrayList<>();
+        for (int i = 0; i < memberCount; i++) {
+            leaders.add(i);
+        }
+        leaders.sort(Comparator.<Integer>comparingInt(snapshot::leaderScore).reversed()
+                .thenComparingLong(snapshot::id));
+        leaders = new ArrayList<>(leaders.subList(0, Math.min(teamCount, memberCount)));
+
+        // 2. 리더 음주 점수 추출 & 리더 정렬 (음주 내림차순) <- 질문 2 답이 높을수록 애주가
+        leaders.sort((a, b) -> Integer.compare(snapshot.drinkScore(b), snapshot.drinkScore(a)));
+
+        // 3. 리더 제외 팔로워 분리
+        boolean[] isLeader = new boolean[memberCount];
+        for (int leader : leaders) {
+            isLeader[leader] = true;
+        }
+
+        // 4. 팔로워를 MBTI E/I 분류 및 음주 점수 내림차순 정렬
+        // 성별로 다시 분리 (남자/여자 각각)
+        List<Integer> eMaleGroup = new ArrayList<>();
+        List<Integer> eFemaleGroup = new ArrayList<>();
+        List<Integer> iMaleGroup = new ArrayList<>();
+        List<Integer> iFemaleGroup = new ArrayList<>();
+        for (int i = 0; i < memberCount; i++) {
+            if (isLeader[i]) continue;
+            if (snapshot.isMale(i)) {
+                (snapshot.isExtrovert(i) ? eMaleGroup : iMaleGroup).add(i);
+            } else if (snapshot.isFemale(i)) {
+                (snapshot.isExtrovert(i) ? eFemaleGroup : iFemaleGroup).add(i);
+            }
+        }
+
+        Comparator<Integer> drinkDescThenId = Comparator.<Integer>comparingInt(snapshot::drinkScore).reversed()
+                .thenComparingLong(snapshot::id);
+
+        eMaleGroup.sort(drinkDescThenId);
+        eFemaleGroup.sort(drinkDescThenId);
+        iMaleGroup.sort(drinkDescThenId);
+        iFemaleGroup.sort(drinkDescThenId);
+
+        // 5. 팀별 균등 인원 할당 수 계산 (리더 1명 제외)
+        int baseCount = totalMembers / teamCount;
+        int remainder = totalMembers % teamCount;
+
+        List<List<Integer>> teamsMembers = new ArrayList<>();
+        for (int i = 0; i < teamCount; i++) {
+            teamsMembers.add(new ArrayList<>());
+        }
+
+        // 6. 리더를 팀별 첫 번째 멤버로 배정
+        for (int i = 0; i < teamCount; i++) {
+            teamsMembers.get(i).add(leaders.get(i));
+        }
+
+        // 7. 팔로워들을 남은 자리에 최대한 균등 분배 - 라온드로빈 방식 (MBTI, 성별, 음주 점수 고려했음)
+        List<Integer> remain = new ArrayList<>();
+        remain.addAll(eMaleGroup);
+        remain.addAll(eFemaleGroup);
+        remain.addAll(iMaleGroup);
+        remain.addAll(iFemaleGroup);
+
+        int[] slot = new int[teamCount];
+        for (int i = 0; i < teamCount; i++) {
+            // 리더 자리 제외하고 배정 가능한 슬롯 계산
+            slot[i] = baseCount + (i < remainder ? 1 : 0) - 1;
+        }
+
+        // 라운드로빈 방식으로 각 팀에 가장 적합한 멤버를 찾으며 채움
+        while (!remain.isEmpty()) {
+            int bestIdx = -1;
+            int bestTeamIdx = -1;
+            double bestScore = Double.MAX_VALUE;
+
+            for (int r = 0; r < remain.size(); r++) {
+                int m = remain.get(r);
+                int drinkScore = snapshot.drinkScore(m);
+
+                for (int t = 0; t < teamCount; t++) {
+                    if (slot[t] <= 0) continue;
+
+                    List<Integer> tmp = new ArrayList<>(teamsMembers.get(t));
+                    tmp.add(m);
+
+                    // MBTI, 성별 균형 계산
+                    int eCount = (int) tmp.stream().filter(snapshot::isExtrovert).count();
+                    long maleCount = tmp.stream().filter(snapshot::isMale).count();
+
+                    double avgDrink = tmp.stream().mapToInt(snapshot::drinkScore).average().orElse(0);
+                    double drinkGap = Math.abs(avgDrink - drinkScore);
+
+                    // 균형 점수 계산 (0.1 가중치로 음주 점수 편차 반영)
+                    double score = Math.abs((double) eCount / tmp.size() - 0.5)
+                            + Math.abs((double) maleCount / tmp.size() - 0.5)
+                            + drinkGap * 0.1;
+
+                    if (score < bestScore) {
+                        bestScore = score;
+                        bestIdx = r;
+                        bestTeamIdx = t;
+                    }
+                }
+            }
+
+            if (bestIdx != -1 && bestTeamIdx != -1) {
+                teamsMembers.get(bestTeamIdx).add(remain.get(bestIdx));
+                slot[bestTeamIdx]--;
+                remain.remove(bestIdx);
+            } else {
+                // 적합한 멤버-팀 쌍이 더 없으면 중단
+                break;
+            }
+        }
+
+        // 8. 남은 멤버 처리 - 음주 점수 내림차순으로 정렬
+        // 팀별 현재 음주점수 평균 계산 후 균형 맞춰 순차 배정
+        double[] teamDrinkAverages = new double[teamCount];
+        for (int i = 0; i < teamCount; i++) {
+            List<Integer> teamList = teamsMembers.get(i);
+            double sum = teamList.stream().mapToInt(snapshot::drinkScore).sum();
+            teamDrinkAverages[i] = teamList.isEmpty() ? 0 : sum / teamList.size();
+        }
+
+        List<Integer> remainingMembers = new ArrayList<>(remain);
+        remainingMembers.sort(drinkDescThenId);
+
+        // 남은 멤버를 음주 점수가 가장 근접한 팀에 순차 배정
+        for (int m : remainingMembers) {
+            int drinkScore = snapshot.drinkScore(m);
+            byte gender = snapshot.gender(m);
+            //음주점수 거리가 최소인 팀 선택
+            int minIndex = 0;
+            double minDiff = Double.MAX_VALUE;
+
+            for (int i = 0; i < teamCount; i++) {
+                List<Integer> team = teamsMembers.get(i);
+                double diff = Math.abs(teamDrinkAverages[i] - drinkScore);
+
+                // 팀별 성별 인원 수 계산
+                long[] genderCount = new long[3];
+                for (int member : team) {
+                    genderCount[snapshot.gender(member)]++;
+                }
+                long genderNum = genderCount[gender];
+
+                // 성별 균형을 고려한 페널티 부여
+                long maxGenderCount = Math.max(genderCount[0], Math.max(genderCount[1], genderCount[2]));
+                if (genderNum == maxGenderCount && maxGenderCount > 0) {
+                    diff *= 1.5;
+                }
+
+                if (diff < minDiff) {
+                    minDiff = diff;
+                    minIndex = i;
+                }
+            }
+            teamsMembers.get(minIndex).add(m);
+
+            // 팀 음주평균 업데이트 (간단 평균 재계산한거임)
+            List<Integer> updatedTeam = teamsMembers.get(minIndex);
+            double sum = updatedTeam.stream().mapToDouble(snapshot::drinkScore).sum();
+            teamDrinkAverages[minIndex] = sum / updatedTeam.size();
+        }
+        return teamsMembers;
+    }
+}
@@ -0,0 +1,111 @@
+package com.likelion.backend.service.teambuilding;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class LocalSearchTeamAssignmentStrategyTest {
+
+    private final GreedyTeamAssignmentStrategy greedy = new GreedyTeamAssignmentStrategy();
+    private final LocalSearchTeamAssignmentStrategy localSearch = new LocalSearchTeamAssignmentStrategy(greedy);
+
+    @Test
+    void swapDeltaMatchesRecomputedObjective() {
+        MemberFeatureSnapshot snapshot = SyntheticCohorts.random(21, 80);
+        TeamAssignment assignment = greedy.build(snapshot, 80, 7);
+        TeamBalanceState state = TeamBalanceState.of(snapshot, assignment);
+        SplittableRandom random = new SplittableRandom(3);
+
+        for (int i = 0; i < 500; i++) {
+            int a = random.nextInt(7);
+            int b = random.nextInt(7);
+            if (a == b) continue;
+            int pa = 1 + random.nextInt(assignment.size(a) - 1);
+            int pb = 1 + random.nextInt(assignment.size(b) - 1);
+
+            double before = state.objective();
+            double delta = state.swapDelta(a, pa, b, pb);
+            state.applySwap(a, pa, b, pb);
+
+            assertThat(TeamBalanceState.objectiveOf(snapshot, assignment) - before)
+                    .isCloseTo(delta / 7, within(1e-9));
+        }
+    }
+
+    @Test
+    void improvesGreedyWithoutMovingLeadersOrChangingTeamSizes() {
+        MemberFeatureSnapshot snapshot = SyntheticCohorts.random(5, 200);
+        TeamAssignment initial = greedy.build(snapshot, 200, 13);
+        TeamBuildingOptions options = TeamBuildingOptions.builder()
+                .totalMembers(200)
+                .teamCount(13)
+                .maxIterations(200_000)
+                .seed(42)
+                .build();
+
+        AssignmentResult result = localSearch.improve(snapshot, initial, options);
+
+        assertThat(result.getObjectiveBefore()).isEqualTo(TeamBalanceState.objectiveOf(snapshot, initial));
+        assertThat(result.getObjectiveAfter()).isLessThanOrEqualTo(result.getObjectiveBefore());
+        assertThat(result.getObjectiveAfter())
+                .isCloseTo(TeamBalanceState.objectiveOf(snapshot, result.getAssignment()), within(1e-12));
+
+        TeamAssignment optimized = result.getAssignment();
+        int[] before = new int[0];
+        int[] after = new int[0];
+        for (int t = 0; t < 13; t++) {
+            assertThat(optimized.size(t)).isEqualTo(initial.size(t));
+            assertThat(optimized.member(t, 0)).isEqualTo(initial.member(t, 0));
+            before = concat(before, initial.members(t));
+            after = concat(after, optimized.members(t));
+        }
+        Arrays.sort(before);
+        Arrays.sort(after);
+        assertThat(after).isEqualTo(before);
+    }
+
+    @Test
+    void sameSeedAndIterationBudgetGiveSameResult() {
+        MemberFeatureSnapshot snapshot = SyntheticCohorts.random(8, 150);
+        TeamBuildingOptions options = TeamBuildingOptions.builder()
+                .totalMembers(150)
+                .teamCount(10)
+                .maxIterations(50_000)
+                .seed(7)
+                .build();
+
+        AssignmentResult first = localSearch.assign(snapshot, options);
+        AssignmentResult second = localSearch.assign(snapshot, options);
+
+        assertThat(first.getIterations()).isEqualTo(50_000);
+        for (int t = 0; t < 10; t++) {
+            assertThat(second.getAssignment().members(t)).isEqualTo(first.getAssignment().members(t));
+        }
+    }
+
+    @Test
+    void stopsWithinTimeBudget() {
+        MemberFeatureSnapshot snapshot = SyntheticCohorts.random(9, 500);
+        TeamBuildingOptions options = TeamBuildingOptions.builder()
+                .totalMembers(500)
+                .teamCount(40)
+                .timeBudgetMillis(200)
+                .build();
+
+        long start = System.nanoTime();
+        localSearch.assign(snapshot, options);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(elapsedMillis).isLessThan(2_000);
+    }
+
+    private static int[] concat(int[] a, int[] b) {
+        int[] result = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, result, a.length, b.length);
+        return result;
+    }
+}
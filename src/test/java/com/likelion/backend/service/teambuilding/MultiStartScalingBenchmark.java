@@ -0,0 +1,68 @@
+package com.likelion.backend.service.teambuilding;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// multi-start 병렬도별(1~16 스레드) 소요 시간 측정 - ./gradlew benchmark 로 실행
+@Tag("benchmark")
+class MultiStartScalingBenchmark {
+
+    private static final int MEMBERS = 2_000;
+    private static final int TEAMS = 80;
+    private static final int RESTARTS = 32;
+    private static final int ROUNDS = 3;
+
+    private final GreedyTeamAssignmentStrategy greedy = new GreedyTeamAssignmentStrategy();
+    private final ParallelTasks parallelTasks = new ParallelTasks(16);
+    private final MultiStartTeamAssignmentStrategy multiStart =
+            new MultiStartTeamAssignmentStrategy(greedy, new LocalSearchTeamAssignmentStrategy(greedy), parallelTasks);
+
+    @AfterEach
+    void tearDown() {
+        parallelTasks.shutdown();
+    }
+
+    @Test
+    void scalesWithParallelism() {
+        MemberFeatureSnapshot snapshot = SyntheticCohorts.random(2024, MEMBERS);
+
+        // 워밍업
+        multiStart.assign(snapshot, options(4));
+
+        double baselineMillis = 0;
+        double expectedObjective = Double.NaN;
+        System.out.printf("%-8s %12s %10s %12s%n", "threads", "avg ms", "speedup", "objective");
+        for (int threads : new int[]{1, 2, 4, 8, 16}) {
+            double objective = 0;
+            long total = 0;
+            for (int round = 0; round < ROUNDS; round++) {
+                long start = System.nanoTime();
+                objective = multiStart.assign(snapshot, options(threads)).getObjectiveAfter();
+                total += System.nanoTime() - start;
+            }
+            double avgMillis = total / 1e6 / ROUNDS;
+            if (threads == 1) {
+                baselineMillis = avgMillis;
+                expectedObjective = objective;
+            }
+            System.out.printf("%-8d %12.1f %10.2f %12.6f%n", threads, avgMillis, baselineMillis / avgMillis, objective);
+
+            // 병렬도와 무관하게 같은 결과여야 함
+            assertThat(objective).isEqualTo(expectedObjective);
+        }
+    }
+
+    private static TeamBuildingOptions options(int parallelism) {
+        return TeamBuildingOptions.builder()
+                .totalMembers(MEMBERS)
+                .teamCount(TEAMS)
+                .restarts(RESTARTS)
+                .parallelism(parallelism)
+                .maxIterations(300_000)
+                .seed(1)
+                .build();
+    }
+}
@@ -0,0 +1,97 @@
+package com.likelion.backend.service.teambuilding;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MultiStartTeamAssignmentStrategyTest {
+
+    private final GreedyTeamAssignmentStrategy greedy = new GreedyTeamAssignmentStrategy();
+    private final LocalSearchTeamAssignmentStrategy localSearch = new LocalSearchTeamAssignmentStrategy(greedy);
+    private final ParallelTasks parallelTasks = new ParallelTasks(8);
+    private final MultiStartTeamAssignmentStrategy multiStart = new MultiStartTeamAssignmentStrategy(greedy, localSearch, parallelTasks);
+
+    @AfterEach
+    void tearDown() {
+        parallelTasks.shutdown();
+    }
+
+    @Test
+    void sameSeedGivesSameTeamsRegardlessOfParallelism() {
+        MemberFeatureSnapshot snapshot = SyntheticCohorts.random(31, 240);
+
+        AssignmentResult sequential = multiStart.assign(snapshot, options(snapshot, 1, 99));
+        for (int parallelism : new int[]{2, 4, 8}) {
+            AssignmentResult parallel = multiStart.assign(snapshot, options(snapshot, parallelism, 99));
+
+            assertThat(parallel.getObjectiveAfter()).isEqualTo(sequential.getObjectiveAfter());
+            assertThat(SyntheticCohorts.toLists(parallel.getAssignment())).isEqualTo(SyntheticCohorts.toLists(sequential.getAssignment()));
+        }
+    }
+
+    @Test
+    void concurrentBuildsSharingOneSnapshotDoNotInterfere() throws Exception {
+        MemberFeatureSnapshot snapshot = SyntheticCohorts.random(32, 300);
+        List<List<Integer>> expected = SyntheticCohorts.toLists(multiStart.assign(snapshot, options(snapshot, 2, 5)).getAssignment());
+        int[] drinkBefore = drinkScores(snapshot);
+
+        ExecutorService callers = Executors.newFixedThreadPool(6);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<List<List<Integer>>>> futures = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                futures.add(callers.submit(() -> {
+                    start.await();
+                    return SyntheticCohorts.toLists(multiStart.assign(snapshot, options(snapshot, 3, 5)).getAssignment());
+                }));
+            }
+            start.countDown();
+
+            for (Future<List<List<Integer>>> future : futures) {
+                assertThat(future.get()).isEqualTo(expected);
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+        assertThat(drinkScores(snapshot)).isEqualTo(drinkBefore);
+    }
+
+    @Test
+    void bestRestartIsNoWorseThanPlainGreedyStart() {
+        MemberFeatureSnapshot snapshot = SyntheticCohorts.random(33, 180);
+
+        AssignmentResult result = multiStart.assign(snapshot, options(snapshot, 4, 1));
+        double greedyObjective = TeamBalanceState.objectiveOf(snapshot, greedy.build(snapshot, 180, 12));
+
+        assertThat(result.getObjectiveBefore()).isEqualTo(greedyObjective);
+        assertThat(result.getObjectiveAfter()).isLessThanOrEqualTo(greedyObjective);
+        assertThat(result.getIterations()).isEqualTo(8 * 20_000L);
+    }
+
+    private static TeamBuildingOptions options(MemberFeatureSnapshot snapshot, int parallelism, long seed) {
+        return TeamBuildingOptions.builder()
+                .totalMembers(snapshot.size())
+                .teamCount(12)
+                .restarts(8)
+                .parallelism(parallelism)
+                .maxIterations(20_000)
+                .seed(seed)
+                .build();
+    }
+
+    private static int[] drinkScores(MemberFeatureSnapshot snapshot) {
+        int[] scores = new int[snapshot.size()];
+        for (int i = 0; i < scores.length; i++) {
+            scores[i] = snapshot.drinkScore(i);
+        }
+        return scores;
+    }
+}
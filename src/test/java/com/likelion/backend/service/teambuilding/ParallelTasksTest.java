@@ -0,0 +1,79 @@
+package com.likelion.backend.service.teambuilding;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParallelTasksTest {
+
+    private final ParallelTasks parallelTasks = new ParallelTasks(4);
+
+    @AfterEach
+    void tearDown() {
+        parallelTasks.shutdown();
+    }
+
+    @Test
+    void parallelismIsCappedByPoolSize() {
+        assertThat(parallelTasks.resolveParallelism(0)).isEqualTo(4);
+        assertThat(parallelTasks.resolveParallelism(2)).isEqualTo(2);
+        assertThat(parallelTasks.resolveParallelism(ParallelTasks.MAX_PARALLELISM)).isEqualTo(4);
+    }
+
+    @Test
+    void submitsAtMostRequestedTasksAtOnceAndKeepsOrder() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            int value = i;
+            tasks.add(() -> {
+                peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.sleep(5);
+                running.decrementAndGet();
+                return value;
+            });
+        }
+
+        List<Integer> results = parallelTasks.invokeAll(2, tasks);
+
+        assertThat(results).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11);
+        assertThat(peak.get()).isLessThanOrEqualTo(2);
+    }
+
+    // 풀 작업 안에서 다시 호출하면 호출 스레드에서 실행되므로 풀 크기보다 많이 중첩돼도 멈추지 않음
+    @Test
+    void nestedCallsRunOnTheCallingWorker() {
+        List<Callable<String>> outer = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            outer.add(() -> {
+                String worker = Thread.currentThread().getName();
+                List<String> inner = parallelTasks.invokeAll(4, List.of(
+                        () -> Thread.currentThread().getName(),
+                        () -> Thread.currentThread().getName()));
+                assertThat(inner).containsOnly(worker);
+                return worker;
+            });
+        }
+
+        assertThat(parallelTasks.invokeAll(0, outer)).hasSize(8).allMatch(name -> name.startsWith("team-building-"));
+    }
+
+    @Test
+    void rethrowsTaskFailure() {
+        List<Callable<Integer>> tasks = List.of(() -> 1, () -> {
+            throw new IllegalArgumentException("boom");
+        });
+
+        assertThatThrownBy(() -> parallelTasks.invokeAll(2, tasks))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("boom");
+    }
+}
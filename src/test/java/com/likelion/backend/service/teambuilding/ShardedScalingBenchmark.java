@@ -0,0 +1,73 @@
+package com.likelion.backend.service.teambuilding;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 대규모 기수에서 단일 파티션(greedy, greedy + 같은 반복 횟수의 재조정)과 sharded(파티션 수별)의
+// 소요 시간과 균형 점수 비교 - ./gradlew benchmark 로 실행
+@Tag("benchmark")
+class ShardedScalingBenchmark {
+
+    private static final int MEMBERS_PER_TEAM = 10;
+    private static final long REBALANCE_ITERATIONS_PER_MEMBER = ShardedTeamAssignmentStrategy.DEFAULT_REBALANCE_ITERATIONS_PER_MEMBER;
+
+    private final GreedyTeamAssignmentStrategy greedy = new GreedyTeamAssignmentStrategy();
+    private final LocalSearchTeamAssignmentStrategy localSearch = new LocalSearchTeamAssignmentStrategy(greedy);
+    private final ParallelTasks parallelTasks = new ParallelTasks(16);
+    private final ShardedTeamAssignmentStrategy sharded = new ShardedTeamAssignmentStrategy(greedy, localSearch, parallelTasks);
+
+    @AfterEach
+    void tearDown() {
+        parallelTasks.shutdown();
+    }
+
+    @Test
+    void comparesWithSingleShard() {
+        // 워밍업
+        MemberFeatureSnapshot warmup = SyntheticCohorts.random(1, 2_000);
+        greedy.build(warmup, 2_000, 200);
+        sharded.assign(warmup, options(2_000, 4));
+
+        System.out.printf("%-8s %-10s %12s %10s %12s%n", "members", "engine", "ms", "speedup", "objective");
+        for (int members : new int[]{10_000, 20_000}) {
+            MemberFeatureSnapshot snapshot = SyntheticCohorts.random(2024, members);
+            int teams = members / MEMBERS_PER_TEAM;
+
+            long start = System.nanoTime();
+            double greedyObjective = greedy.assign(snapshot, TeamBuildingOptions.of(members, teams)).getObjectiveAfter();
+            double greedyMillis = (System.nanoTime() - start) / 1e6;
+            System.out.printf("%-8d %-10s %12.1f %10.2f %12.6f%n", members, "greedy", greedyMillis, 1.0, greedyObjective);
+
+            start = System.nanoTime();
+            double singleShardObjective = localSearch.assign(snapshot, options(members, 0)).getObjectiveAfter();
+            double singleShardMillis = (System.nanoTime() - start) / 1e6;
+            System.out.printf("%-8d %-10s %12.1f %10.2f %12.6f%n",
+                    members, "greedy+ls", singleShardMillis, greedyMillis / singleShardMillis, singleShardObjective);
+
+            for (int shards : new int[]{4, 16, 64}) {
+                start = System.nanoTime();
+                double objective = sharded.assign(snapshot, options(members, shards)).getObjectiveAfter();
+                double millis = (System.nanoTime() - start) / 1e6;
+                System.out.printf("%-8d %-10s %12.1f %10.2f %12.6f%n",
+                        members, "sharded-" + shards, millis, greedyMillis / millis, objective);
+
+                // 재조정 후 균형은 단일 파티션 결과와 비슷해야 함
+                assertThat(objective).isLessThan(greedyObjective);
+                assertThat(objective).isLessThanOrEqualTo(singleShardObjective * 1.15);
+            }
+        }
+    }
+
+    private static TeamBuildingOptions options(int members, int shards) {
+        return TeamBuildingOptions.builder()
+                .totalMembers(members)
+                .teamCount(members / MEMBERS_PER_TEAM)
+                .shards(shards)
+                .maxIterations(REBALANCE_ITERATIONS_PER_MEMBER * members)
+                .seed(1)
+                .build();
+    }
+}
@@ -0,0 +1,128 @@
+package com.likelion.backend.service.teambuilding;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ShardedTeamAssignmentStrategyTest {
+
+    private final GreedyTeamAssignmentStrategy greedy = new GreedyTeamAssignmentStrategy();
+    private final LocalSearchTeamAssignmentStrategy localSearch = new LocalSearchTeamAssignmentStrategy(greedy);
+    private final ParallelTasks parallelTasks = new ParallelTasks(8);
+    private final ShardedTeamAssignmentStrategy sharded = new ShardedTeamAssignmentStrategy(greedy, localSearch, parallelTasks);
+
+    @AfterEach
+    void tearDown() {
+        parallelTasks.shutdown();
+    }
+
+    @Test
+    void partitionSpreadsEachStratumInProportionToQuota() {
+        MemberFeatureSnapshot snapshot = SyntheticCohorts.random(31, 2_000);
+        int[] quotas = ShardedTeamAssignmentStrategy.split(2_000, new int[]{13, 13, 12, 12}, 50);
+
+        int[][] shards = ShardedTeamAssignmentStrategy.partition(snapshot, quotas);
+
+        assertThat(quotas).containsExactly(520, 520, 480, 480);
+        int[] all = new int[0];
+        for (int s = 0; s < shards.length; s++) {
+            int[] shard = shards[s];
+            assertThat(shard).hasSize(quotas[s]);
+            all = concat(all, shard);
+
+            // 층(E/I, 성별)과 리더 후보 비율이 전체와 거의 같아야 함
+            assertThat(ratio(snapshot, shard, 0)).isCloseTo(ratio(snapshot, null, 0), within(0.02));
+            assertThat(ratio(snapshot, shard, 1)).isCloseTo(ratio(snapshot, null, 1), within(0.02));
+            assertThat(ratio(snapshot, shard, 2)).isCloseTo(ratio(snapshot, null, 2), within(0.02));
+        }
+        Arrays.sort(all);
+        for (int i = 0; i < all.length; i++) {
+            assertThat(all[i]).isEqualTo(i);
+        }
+    }
+
+    @Test
+    void assignsEveryMemberOnceWithBalancedTeamSizes() {
+        MemberFeatureSnapshot snapshot = SyntheticCohorts.random(5, 1_200);
+        AssignmentResult result = sharded.assign(snapshot, options(1_200, 100, 6, 0));
+
+        TeamAssignment assignment = result.getAssignment();
+        TeamAssignment unsharded = greedy.build(snapshot, 1_200, 100);
+        boolean[] seen = new boolean[snapshot.size()];
+        for (int t = 0; t < 100; t++) {
+            // 성별 '기타' 팔로워가 빠지는 것은 greedy와 같으므로 팀 인원 상한만 비교
+            assertThat(assignment.size(t)).isBetween(1, 12);
+            for (int m : assignment.members(t)) {
+                assertThat(seen[m]).isFalse();
+                seen[m] = true;
+            }
+        }
+        for (int m = 0; m < snapshot.size(); m++) {
+            if (snapshot.isMale(m) || snapshot.isFemale(m)) {
+                assertThat(seen[m]).isTrue();
+            }
+        }
+
+        // 재조정 후 전체 균형은 단일 greedy 결과 이하
+        assertThat(result.getObjectiveAfter()).isLessThanOrEqualTo(result.getObjectiveBefore());
+        assertThat(result.getObjectiveAfter()).isLessThan(TeamBalanceState.objectiveOf(snapshot, unsharded));
+        assertThat(result.getObjectiveAfter())
+                .isCloseTo(TeamBalanceState.objectiveOf(snapshot, assignment), within(1e-12));
+    }
+
+    @Test
+    void sameSeedGivesSameResultRegardlessOfParallelism() {
+        MemberFeatureSnapshot snapshot = SyntheticCohorts.random(8, 900);
+
+        AssignmentResult sequential = sharded.assign(snapshot, options(900, 60, 4, 1));
+        AssignmentResult parallel = sharded.assign(snapshot, options(900, 60, 4, 4));
+
+        assertThat(parallel.getObjectiveAfter()).isEqualTo(sequential.getObjectiveAfter());
+        for (int t = 0; t < 60; t++) {
+            assertThat(parallel.getAssignment().members(t)).isEqualTo(sequential.getAssignment().members(t));
+        }
+    }
+
+    @Test
+    void shardCountIsBoundedByTeamCount() {
+        assertThat(sharded.resolveShards(options(100, 10, 50, 0))).isEqualTo(10);
+        assertThat(sharded.resolveShards(options(100, 10, 0, 8))).isEqualTo(1);
+        assertThat(sharded.resolveShards(options(10_000, 800, 0, 8))).isEqualTo(8);
+    }
+
+    private static TeamBuildingOptions options(int totalMembers, int teamCount, int shards, int parallelism) {
+        return TeamBuildingOptions.builder()
+                .totalMembers(totalMembers)
+                .teamCount(teamCount)
+                .shards(shards)
+                .parallelism(parallelism)
+                .seed(3)
+                .build();
+    }
+
+    // feature 0: E 비율, 1: 남자 비율, 2: 리더 점수 8 이상 비율 (members가 null이면 전체)
+    private static double ratio(MemberFeatureSnapshot snapshot, int[] members, int feature) {
+        int size = members == null ? snapshot.size() : members.length;
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            int m = members == null ? i : members[i];
+            boolean match = switch (feature) {
+                case 0 -> snapshot.isExtrovert(m);
+                case 1 -> snapshot.isMale(m);
+                default -> snapshot.leaderScore(m) >= 8;
+            };
+            if (match) count++;
+        }
+        return (double) count / size;
+    }
+
+    private static int[] concat(int[] a, int[] b) {
+        int[] result = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, result, a.length, b.length);
+        return result;
+    }
+}
@@ -0,0 +1,41 @@
+package com.likelion.backend.service.teambuilding;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// 테스트용 합성 코호트 - 음주/리더 점수를 좁은 범위로 두어 동점이 많이 생기도록 구성
+final class SyntheticCohorts {
+
+    private static final String[] GENDERS = {"남자", "여자", "남자", "여자", "기타"};
+    private static final String[] MBTIS = {"ENFP", "ISTJ", "estp", "INFJ", ""};
+
+    private SyntheticCohorts() {
+    }
+
+    static MemberFeatureSnapshot random(long seed, int memberCount) {
+        Random random = new Random(seed);
+        MemberFeatureSnapshot.Builder builder = MemberFeatureSnapshot.builder(memberCount);
+        for (int i = 0; i < memberCount; i++) {
+            builder.add(i + 1,
+                    "member" + i,
+                    GENDERS[random.nextInt(GENDERS.length)],
+                    random.nextInt(11),
+                    random.nextInt(11),
+                    MBTIS[random.nextInt(MBTIS.length)]);
+        }
+        return builder.build();
+    }
+
+    static List<List<Integer>> toLists(TeamAssignment assignment) {
+        List<List<Integer>> teams = new ArrayList<>();
+        for (int t = 0; t < assignment.teamCount(); t++) {
+            List<Integer> team = new ArrayList<>();
+            for (int m : assignment.members(t)) {
+                team.add(m);
+            }
+            teams.add(team);
+        }
+        return teams;
+    }
+}
@@ -0,0 +1,36 @@
+package com.likelion.backend.service.teambuilding;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class TeamBalanceMetricsTest {
+
+    @Test
+    void measuresSpreadAcrossTeams() {
+        MemberFeatureSnapshot snapshot = MemberFeatureSnapshot.builder(5)
+                .add(1, "a", "남자", 9, 8, "ENTJ")
+                .add(2, "b", "여자", 3, 2, "INFP")
+                .add(3, "c", "남자", 7, 6, "ISTJ")
+                .add(4, "d", "남자", 1, 4, "ESFP")
+                .add(5, "e", "여자", 5, 0, "ENFJ")
+                .build();
+        TeamAssignment assignment = new TeamAssignment(2, 3);
+        assignment.add(0, 0);
+        assignment.add(0, 1);
+        assignment.add(1, 2);
+        assignment.add(1, 3);
+        assignment.add(1, 4);
+
+        TeamBalanceMetrics metrics = TeamBalanceMetrics.of(snapshot, assignment);
+
+        // 팀 0: E 1/2, 남자 1/2, 음주 평균 5 / 팀 1: E 2/3, 남자 2/3, 음주 평균 10/3
+        assertThat(metrics.getExtrovertRatioSpread()).isCloseTo(2.0 / 3 - 0.5, within(1e-12));
+        assertThat(metrics.getMaleRatioSpread()).isCloseTo(2.0 / 3 - 0.5, within(1e-12));
+        assertThat(metrics.getDrinkAverageVariance()).isCloseTo(Math.pow((5 - 10.0 / 3) / 2, 2), within(1e-12));
+        assertThat(metrics.getMinTeamSize()).isEqualTo(2);
+        assertThat(metrics.getMaxTeamSize()).isEqualTo(3);
+        assertThat(metrics.getObjective()).isEqualTo(TeamBalanceState.objectiveOf(snapshot, assignment));
+    }
+}
@@ -0,0 +1,211 @@
+package com.likelion.backend.service.teambuilding;
+
+import com.likelion.backend.enums.TeamBuildJobStatus;
+import com.likelion.backend.enums.TeamBuildPhase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TeamBuildJobRunnerTest {
+
+    private final GreedyTeamAssignmentStrategy greedy = new GreedyTeamAssignmentStrategy();
+    private final LocalSearchTeamAssignmentStrategy localSearch = new LocalSearchTeamAssignmentStrategy(greedy);
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(TeamBuildJobRunner.threadFactory());
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void completedJobReportsResultAndFullProgress() throws Exception {
+        MemberFeatureSnapshot snapshot = SyntheticCohorts.random(1, 120);
+        TeamBuildJob job = new TeamBuildJob("job", TeamBuildingOptions.builder()
+                .totalMembers(120)
+                .teamCount(8)
+                .maxIterations(20_000)
+                .build());
+
+        TeamBuildJobRunner.submit(executor, job, options -> {
+            AssignmentResult result = localSearch.assign(snapshot, options);
+            assertThat(job.getPhase()).isEqualTo(TeamBuildPhase.OPTIMIZATION);
+            return new TeamBuildResult(List.of(), localSearch.name(),
+                    result.getObjectiveBefore(), result.getObjectiveAfter());
+        });
+        awaitFinished(job);
+
+        assertThat(job.getStatus()).isEqualTo(TeamBuildJobStatus.SUCCEEDED);
+        assertThat(job.getPhase()).isEqualTo(TeamBuildPhase.DONE);
+        assertThat(job.getPercent()).isEqualTo(100);
+        assertThat(job.getResult().getStrategy()).isEqualTo(LocalSearchTeamAssignmentStrategy.NAME);
+        assertThat(job.cancel()).isFalse();
+    }
+
+    @Test
+    void runningLocalSearchStopsWhenCancelled() throws Exception {
+        MemberFeatureSnapshot snapshot = SyntheticCohorts.random(2, 500);
+        TeamBuildJob job = new TeamBuildJob("job", TeamBuildingOptions.builder()
+                .totalMembers(500)
+                .teamCount(40)
+                .timeBudgetMillis(LocalSearchTeamAssignmentStrategy.MAX_TIME_BUDGET_MILLIS)
+                .build());
+        CountDownLatch optimizing = new CountDownLatch(1);
+
+        TeamBuildJobRunner.submit(executor, job, options -> {
+            TeamBuildMonitor monitor = options.getMonitor();
+            TeamBuildingOptions watched = options.toBuilder().monitor(new TeamBuildMonitor() {
+                @Override
+                public void phase(TeamBuildPhase phase) {
+                    monitor.phase(phase);
+                    if (phase == TeamBuildPhase.OPTIMIZATION) optimizing.countDown();
+                }
+
+                @Override
+                public void progress(double fraction) {
+                    monitor.progress(fraction);
+                }
+
+                @Override
+                public boolean isCancelled() {
+                    return monitor.isCancelled();
+                }
+            }).build();
+            localSearch.assign(snapshot, watched);
+            throw new AssertionError("취소되지 않음");
+        });
+
+        assertThat(optimizing.await(5, TimeUnit.SECONDS)).isTrue();
+        long start = System.nanoTime();
+        assertThat(job.cancel()).isTrue();
+        awaitFinished(job);
+
+        assertThat(job.getStatus()).isEqualTo(TeamBuildJobStatus.CANCELLED);
+        assertThat((System.nanoTime() - start) / 1_000_000).isLessThan(2_000);
+    }
+
+    @Test
+    void queuedJobIsCancelledWithoutRunning() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        TeamBuildJob blocker = new TeamBuildJob("blocker", TeamBuildingOptions.of(1, 1));
+        TeamBuildJobRunner.submit(executor, blocker, options -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new TeamBuildResult(List.of(), GreedyTeamAssignmentStrategy.NAME, 0, 0);
+        });
+        TeamBuildJob queued = new TeamBuildJob("queued", TeamBuildingOptions.of(1, 1));
+        TeamBuildJobRunner.submit(executor, queued, options -> {
+            throw new AssertionError("취소된 작업이 실행됨");
+        });
+
+        assertThat(queued.cancel()).isTrue();
+        assertThat(queued.getStatus()).isEqualTo(TeamBuildJobStatus.CANCELLED);
+
+        release.countDown();
+        awaitFinished(blocker);
+        assertThat(blocker.getStatus()).isEqualTo(TeamBuildJobStatus.SUCCEEDED);
+        assertThat(queued.getStartedAt()).isNull();
+    }
+
+    @Test
+    void cancelIsRejectedOnceTheJobIsPersisting() throws Exception {
+        CountDownLatch persisting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        TeamBuildJob job = new TeamBuildJob("job", TeamBuildingOptions.of(1, 1));
+
+        TeamBuildJobRunner.submit(executor, job, options -> {
+            options.getMonitor().phase(TeamBuildPhase.PERSIST);
+            persisting.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return new TeamBuildResult(List.of(), GreedyTeamAssignmentStrategy.NAME, 0, 0);
+        });
+
+        assertThat(persisting.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(job.cancel()).isFalse();
+        release.countDown();
+        awaitFinished(job);
+        assertThat(job.getStatus()).isEqualTo(TeamBuildJobStatus.SUCCEEDED);
+    }
+
+    // 취소 요청이 저장 단계 진입보다 먼저면 저장하지 않음
+    @Test
+    void cancelledJobDoesNotEnterPersist() throws Exception {
+        CountDownLatch optimizing = new CountDownLatch(1);
+        CountDownLatch cancelled = new CountDownLatch(1);
+        TeamBuildJob job = new TeamBuildJob("job", TeamBuildingOptions.of(1, 1));
+
+        TeamBuildJobRunner.submit(executor, job, options -> {
+            options.getMonitor().phase(TeamBuildPhase.OPTIMIZATION);
+            optimizing.countDown();
+            try {
+                cancelled.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            options.getMonitor().phase(TeamBuildPhase.PERSIST);
+            throw new AssertionError("취소된 작업이 저장 단계에 들어감");
+        });
+
+        assertThat(optimizing.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(job.cancel()).isTrue();
+        cancelled.countDown();
+        awaitFinished(job);
+        assertThat(job.getStatus()).isEqualTo(TeamBuildJobStatus.CANCELLED);
+        assertThat(job.getPhase()).isEqualTo(TeamBuildPhase.OPTIMIZATION);
+    }
+
+    // 취소된 대기 작업이 대기열 칸을 계속 차지하지 않음
+    @Test
+    void cancellingQueuedJobsFreesQueueCapacity() throws Exception {
+        ThreadPoolExecutor bounded = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(1), TeamBuildJobRunner.threadFactory(), new ThreadPoolExecutor.AbortPolicy());
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            TeamBuildJob blocker = new TeamBuildJob("blocker", TeamBuildingOptions.of(1, 1));
+            TeamBuildJobRunner.submit(bounded, blocker, options -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return new TeamBuildResult(List.of(), GreedyTeamAssignmentStrategy.NAME, 0, 0);
+            });
+            for (int i = 0; i < 3; i++) {
+                TeamBuildJob queued = new TeamBuildJob("queued" + i, TeamBuildingOptions.of(1, 1));
+                TeamBuildJobRunner.submit(bounded, queued, options -> {
+                    throw new AssertionError("취소된 작업이 실행됨");
+                });
+                assertThat(TeamBuildJobRunner.cancel(bounded, queued)).isTrue();
+                assertThat(bounded.getQueue()).isEmpty();
+            }
+
+            release.countDown();
+            awaitFinished(blocker);
+            assertThat(blocker.getStatus()).isEqualTo(TeamBuildJobStatus.SUCCEEDED);
+        } finally {
+            bounded.shutdownNow();
+        }
+    }
+
+    private static void awaitFinished(TeamBuildJob job) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!job.getStatus().isFinished() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
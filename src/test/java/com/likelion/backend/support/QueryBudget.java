@@ -0,0 +1,23 @@
+package com.likelion.backend.support;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// 테스트 본문(@BeforeEach/@AfterEach 제외)이 실행한 SQL 수 상한
+// @Import(SqlStatementCounter.class)한 스프링 테스트에서 사용하며, 상한을 넘으면 실행된 SQL 목록과 함께 실패한다.
+@Target({ElementType.METHOD, ElementType.ANNOTATION_TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(QueryBudgetExtension.class)
+public @interface QueryBudget {
+
+    // 허용하는 최대 SQL 실행 수 (배치는 executeBatch 한 번을 1회로 계산)
+    int max();
+
+    // true면 같은 테스트 메서드가 여러 번(코호트 크기별 @Nested, 파라미터 등) 실행될 때 SQL 수가 모두 같아야 함
+    // (데이터 양에 비례해 늘어나는 N+1 회귀를 상한보다 작은 규모에서도 잡아냄)
+    boolean sameForEveryRun() default false;
+}
@@ -0,0 +1,54 @@
+package com.likelion.backend.support;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// @QueryBudget 처리 - 테스트 본문 직전에 SqlStatementCounter를 비우고 직후에 실행 수를 검사한다.
+public class QueryBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(QueryBudgetExtension.class);
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        counter(context).reset();
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        if (context.getExecutionException().isPresent()) {
+            return;
+        }
+        Method method = context.getRequiredTestMethod();
+        QueryBudget budget = method.getAnnotation(QueryBudget.class);
+        SqlStatementCounter counter = counter(context);
+        int count = counter.count();
+
+        assertThat(count)
+                .as("%s SQL 실행 수 (상한 %d): %s", context.getDisplayName(), budget.max(), counter.statements())
+                .isLessThanOrEqualTo(budget.max());
+
+        if (budget.sameForEveryRun()) {
+            // 선언 클래스 + 메서드 기준으로 전체 실행에서 처음 측정한 값과 비교
+            String key = method.getDeclaringClass().getName() + "#" + method.getName();
+            ExtensionContext.Store store = context.getRoot().getStore(NAMESPACE);
+            FirstRun first = store.getOrComputeIfAbsent(key, k -> new FirstRun(context.getUniqueId(), count), FirstRun.class);
+            assertThat(count)
+                    .as("%s SQL 실행 수가 데이터 양에 따라 달라짐 (%s: %d): %s",
+                            context.getUniqueId(), first.uniqueId(), first.count(), counter.statements())
+                    .isEqualTo(first.count());
+        }
+    }
+
+    private static SqlStatementCounter counter(ExtensionContext context) {
+        return SpringExtension.getApplicationContext(context).getBean(SqlStatementCounter.class);
+    }
+
+    private record FirstRun(String uniqueId, int count) {
+    }
+}
@@ -0,0 +1,34 @@
+package com.likelion.backend.support;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+import org.springframework.boot.test.context.TestComponent;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// p6spy 이벤트로 DB에 실제로 보낸 SQL 실행 횟수를 센다 (배치는 executeBatch 한 번을 1회로 계산)
+// @Import(SqlStatementCounter.class)로 등록하면 p6spy 데코레이터가 리스너로 사용한다.
+@TestComponent
+public class SqlStatementCounter extends SimpleJdbcEventListener {
+
+    private final List<String> statements = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+        statements.add(statementInformation.getSql());
+    }
+
+    public void reset() {
+        statements.clear();
+    }
+
+    public int count() {
+        return statements.size();
+    }
+
+    public List<String> statements() {
+        return List.copyOf(statements);
+    }
+}